@@ -0,0 +1,104 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link DefaultCssValidator}, without the network.
+ *
+ * <p>{@code validate} covers the whole way of a stylesheet through
+ * the validator: the check of {@code JIGSAW IGNORE}, the removal of
+ * {@code JIGSAW} lines, the multipart encoding and the parsing of
+ * a small SOAP response. {@code ignored} covers only the check
+ * of {@code JIGSAW IGNORE}, which is found at the very end of
+ * the stylesheet.
+ *
+ * @since 2.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CssValidatorBench {
+
+    /**
+     * Size of the stylesheet, in bytes.
+     */
+    @Param({ "1024", "102400", "1048576", "10485760" })
+    public int size;
+
+    /**
+     * The validator.
+     */
+    private Validator validator;
+
+    /**
+     * The stylesheet.
+     */
+    private String css;
+
+    /**
+     * The stylesheet, which is ignored.
+     */
+    private String ignore;
+
+    /**
+     * Prepare the validator and the stylesheets.
+     */
+    @Setup
+    public void setup() {
+        this.validator = new DefaultCssValidator(
+            URI.create("http://localhost/jigsaw"),
+            new FakeTransport(
+                HttpURLConnection.HTTP_OK,
+                Fixtures.soap(1).getBytes(StandardCharsets.UTF_8)
+            )
+        );
+        this.css = Fixtures.css(this.size);
+        this.ignore = String.join(
+            "", this.css, "/* JIGSAW IGNORE: generated */\n"
+        );
+    }
+
+    /**
+     * Validate the stylesheet.
+     * @return The response
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public ValidationResponse validate() throws IOException {
+        return this.validator.validate(this.css);
+    }
+
+    /**
+     * Validate the ignored stylesheet.
+     * @return The response
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public ValidationResponse ignored() throws IOException {
+        return this.validator.validate(this.ignore);
+    }
+}
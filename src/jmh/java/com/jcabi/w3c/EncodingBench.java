@@ -0,0 +1,89 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of multipart encoding of stylesheets, before they are
+ * sent to Jigsaw.
+ *
+ * <p>The {@code virtual} benchmark encodes every stylesheet in a new
+ * virtual thread, the way async, batch and chunked validations do it,
+ * to show that buffers are reused there too.
+ *
+ * @since 2.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EncodingBench {
+
+    /**
+     * Size of the stylesheet, in bytes.
+     */
+    @Param({ "1024", "102400", "1048576", "10485760" })
+    public int size;
+
+    /**
+     * The form.
+     */
+    private MultipartBody form;
+
+    /**
+     * The stylesheet.
+     */
+    private String css;
+
+    /**
+     * Prepare the stylesheet.
+     */
+    @Setup
+    public void setup() {
+        this.form = new MultipartBody(
+            "file", "text/css", AbstractBaseValidator.BOUNDARY
+        );
+        this.css = Fixtures.css(this.size);
+    }
+
+    /**
+     * Encode the stylesheet.
+     * @return The body
+     */
+    @Benchmark
+    public byte[] entity() {
+        return this.form.encode(this.css);
+    }
+
+    /**
+     * Encode the stylesheet in a new virtual thread.
+     * @return The body
+     * @throws InterruptedException If interrupted
+     * @throws ExecutionException If fails
+     */
+    @Benchmark
+    public byte[] virtual() throws InterruptedException, ExecutionException {
+        return VirtualThreads.executor().submit(
+            () -> this.form.encode(this.css)
+        ).get();
+    }
+}
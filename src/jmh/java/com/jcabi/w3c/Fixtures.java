@@ -0,0 +1,85 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+/**
+ * Canned documents and responses of W3C validators for benchmarks.
+ *
+ * @since 2.0
+ */
+final class Fixtures {
+
+    /**
+     * Utility class.
+     */
+    private Fixtures() {
+        // intentionally empty
+    }
+
+    /**
+     * Make a stylesheet of approximately the given size, with a
+     * {@code JIGSAW} directive on every hundredth line.
+     * @param size Size in bytes
+     * @return CSS
+     */
+    static String css(final int size) {
+        final StringBuilder css = new StringBuilder(size + 128);
+        int line = 0;
+        while (css.length() < size) {
+            if (line % 100 == 99) {
+                css.append("/* JIGSAW: vendor hack */\n");
+            }
+            css.append(".rule-").append(line)
+                .append(" { color: #ab").append(line % 10)
+                .append("; margin: 0 auto; }\n");
+            ++line;
+        }
+        return css.toString();
+    }
+
+    /**
+     * Make a SOAP response of Jigsaw CSS validator, with the given
+     * number of errors and warnings.
+     * @param total Number of errors, the same number of warnings
+     * @return XML
+     */
+    static String soap(final int total) {
+        final StringBuilder xml = new StringBuilder(total * 600)
+            .append("<?xml version='1.0' encoding='utf-8'?>")
+            .append("<env:Envelope")
+            .append(" xmlns:env='http://www.w3.org/2003/05/soap-envelope'>")
+            .append("<env:Body><m:cssvalidationresponse")
+            .append(" xmlns:m='http://www.w3.org/2005/07/css-validator'>")
+            .append("<m:uri>file://localhost/TextArea</m:uri>")
+            .append("<m:checkedby>http://jigsaw.w3.org/css-validator/")
+            .append("</m:checkedby><m:csslevel>css3</m:csslevel>")
+            .append("<m:validity>false</m:validity><m:result>")
+            .append("<m:errors><m:errorcount>").append(total)
+            .append("</m:errorcount><m:errorlist>")
+            .append("<m:uri>file://localhost/TextArea</m:uri>");
+        for (int idx = 0; idx < total; ++idx) {
+            xml.append("<m:error><m:line>").append(idx + 1)
+                .append("</m:line><m:errortype>parse-error</m:errortype>")
+                .append("<m:context> .rule-").append(idx)
+                .append(" </m:context><m:errorsubtype>exp</m:errorsubtype>")
+                .append("<m:skippedstring>#ab</m:skippedstring>")
+                .append("<m:message>\n  Value Error : color (")
+                .append("nullcolors.html#propdef-color)\n  #ab is not")
+                .append(" a color value </m:message></m:error>");
+        }
+        xml.append("</m:errorlist></m:errors><m:warnings><m:warningcount>")
+            .append(total).append("</m:warningcount><m:warninglist>")
+            .append("<m:uri>file://localhost/TextArea</m:uri>");
+        for (int idx = 0; idx < total; ++idx) {
+            xml.append("<m:warning><m:line>").append(idx + 1)
+                .append("</m:line><m:level>0</m:level>")
+                .append("<m:message>Same color for background-color")
+                .append(" and color</m:message></m:warning>");
+        }
+        return xml.append("</m:warninglist></m:warnings></m:result>")
+            .append("</m:cssvalidationresponse></env:Body></env:Envelope>")
+            .toString();
+    }
+}
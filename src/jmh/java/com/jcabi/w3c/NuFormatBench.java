@@ -0,0 +1,170 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of XML ({@code out=xml&showsource=yes}) against
+ * JSON ({@code out=json}) output of Nu validator.
+ *
+ * <p>Both payloads carry the same messages. The XML one also carries
+ * the source of the document, because {@link ValidatorBuilder#HTML}
+ * asks for it. Sizes of both payloads are reported next to throughput,
+ * as the {@code bytes} secondary result of every benchmark, to show
+ * the transfer savings.
+ *
+ * @since 2.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NuFormatBench {
+
+    /**
+     * URI of the validator.
+     */
+    private static final URI NU = URI.create("http://localhost/nu");
+
+    /**
+     * Number of messages in the response.
+     */
+    @Param({ "10", "1000" })
+    public int messages;
+
+    /**
+     * XML payload.
+     */
+    private byte[] xml;
+
+    /**
+     * JSON payload.
+     */
+    private byte[] json;
+
+    /**
+     * Prepare payloads.
+     */
+    @Setup
+    public void setup() {
+        this.xml = NuFormatBench.xml(this.messages)
+            .getBytes(StandardCharsets.UTF_8);
+        this.json = NuFormatBench.json(this.messages)
+            .getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parse XML output.
+     * @param payload Size of the payload to report
+     * @return The response
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public ValidationResponse xml(final NuFormatBench.Payload payload)
+        throws IOException {
+        payload.bytes = this.xml.length;
+        return new NuParser(NuFormatBench.NU).parse(
+            new ByteArrayInputStream(this.xml)
+        );
+    }
+
+    /**
+     * Parse JSON output.
+     * @param payload Size of the payload to report
+     * @return The response
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public ValidationResponse json(final NuFormatBench.Payload payload)
+        throws IOException {
+        payload.bytes = this.json.length;
+        return new NuJsonParser(NuFormatBench.NU).parse(
+            new ByteArrayInputStream(this.json)
+        );
+    }
+
+    /**
+     * Make XML output with the given number of messages.
+     * @param total Number of messages
+     * @return XML
+     */
+    static String xml(final int total) {
+        final StringBuilder out = new StringBuilder(total * 400)
+            .append("<?xml version='1.0' encoding='utf-8'?>")
+            .append("<messages xmlns='http://n.validator.nu/messages/'>");
+        final StringBuilder source = new StringBuilder(total * 80);
+        for (int idx = 0; idx < total; ++idx) {
+            out.append("<error last-line='").append(idx + 1)
+                .append("' last-column='12' first-column='5'>")
+                .append("<message>Stray end tag <code ")
+                .append("xmlns='http://www.w3.org/1999/xhtml'>div</code>.")
+                .append("</message><extract>&lt;p&gt;text&lt;/div&gt;")
+                .append("</extract></error>");
+            source.append("&lt;p class=&quot;line&quot;&gt;Line ")
+                .append(idx).append(" of the document&lt;/div&gt;\n");
+        }
+        return out.append("<source encoding='UTF-8' type='text/html'>")
+            .append(source).append("</source></messages>").toString();
+    }
+
+    /**
+     * Make JSON output with the given number of messages.
+     * @param total Number of messages
+     * @return JSON
+     */
+    static String json(final int total) {
+        final StringBuilder out = new StringBuilder(total * 200)
+            .append("{\"url\":\"\",\"messages\":[");
+        for (int idx = 0; idx < total; ++idx) {
+            if (idx > 0) {
+                out.append(',');
+            }
+            out.append("{\"type\":\"error\",\"lastLine\":").append(idx + 1)
+                .append(",\"lastColumn\":12,\"firstColumn\":5,")
+                .append("\"message\":\"Stray end tag div.\",")
+                .append("\"extract\":\"<p>text</div>\",")
+                .append("\"hiliteStart\":7,\"hiliteLength\":6}");
+        }
+        return out.append("],\"source\":{\"type\":\"text/html\",")
+            .append("\"encoding\":\"utf-8\"}}").toString();
+    }
+
+    /**
+     * Size of the parsed payload, reported by JMH as is, since it's
+     * set, not accumulated, on every call.
+     *
+     * @since 2.0
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+
+        /**
+         * Size of the payload, in bytes.
+         */
+        public long bytes;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of parsing of Nu and Jigsaw responses and of printing
+ * the responses built.
+ *
+ * @since 2.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseBench {
+
+    /**
+     * Number of defects in every response.
+     */
+    @Param({ "10", "1000", "50000" })
+    public int defects;
+
+    /**
+     * Nu XML response.
+     */
+    private byte[] nu;
+
+    /**
+     * Jigsaw SOAP response.
+     */
+    private byte[] soap;
+
+    /**
+     * Parsed Jigsaw response.
+     */
+    private ValidationResponse response;
+
+    /**
+     * Prepare responses.
+     * @throws IOException If fails
+     */
+    @Setup
+    public void setup() throws IOException {
+        this.nu = NuFormatBench.xml(this.defects)
+            .getBytes(StandardCharsets.UTF_8);
+        this.soap = Fixtures.soap(this.defects)
+            .getBytes(StandardCharsets.UTF_8);
+        this.response = this.jigsaw();
+    }
+
+    /**
+     * Parse Nu response.
+     * @return The response
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public ValidationResponse nu() throws IOException {
+        return new NuParser(URI.create("http://localhost/nu")).parse(
+            new ByteArrayInputStream(this.nu)
+        );
+    }
+
+    /**
+     * Parse Jigsaw response.
+     * @return The response
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public ValidationResponse jigsaw() throws IOException {
+        return new SoapParser().parse(new ByteArrayInputStream(this.soap));
+    }
+
+    /**
+     * Print Jigsaw response.
+     * @return The text
+     */
+    @Benchmark
+    public String text() {
+        return this.response.toString();
+    }
+}
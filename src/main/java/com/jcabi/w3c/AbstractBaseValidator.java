@@ -5,15 +5,13 @@
 package com.jcabi.w3c;
 
 import com.jcabi.manifests.Manifests;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+import javax.ws.rs.core.HttpHeaders;
 import lombok.ToString;
-import org.apache.http.entity.ContentType;
-import org.apache.http.entity.mime.MultipartEntityBuilder;
 
 /**
  * Abstract implementation of (X)HTML validator.
@@ -39,28 +37,59 @@ abstract class AbstractBaseValidator {
     protected static final String BOUNDARY = "vV9olNqRj00PC4OIlM7";
 
     /**
-     * Convert HTML to HTTP FORM entity.
-     * @param name Name of HTTP form field
-     * @param content The content of it
-     * @param type Media type of it
-     * @return The HTTP post body
-     * @throws IOException if fails
+     * HTTP headers of a request to W3C.
+     * @param accept Media type we accept
+     * @param type Media type of the body
+     * @return The headers
      */
-    protected static String entity(final String name, final String content,
-        final String type) throws IOException {
-        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        MultipartEntityBuilder.create().setStrictMode()
-            .setCharset(StandardCharsets.UTF_8)
-            .setBoundary(AbstractBaseValidator.BOUNDARY).addBinaryBody(
-                name,
-                content.getBytes(StandardCharsets.UTF_8),
-                ContentType.create(type, StandardCharsets.UTF_8),
-                "file"
-            )
-            .addTextBody("output", "soap12")
-            .build()
-            .writeTo(baos);
-        return baos.toString(StandardCharsets.UTF_8);
+    protected static Map<String, String> headers(final String accept,
+        final String type) {
+        final Map<String, String> map = new HashMap<>(4);
+        map.put(HttpHeaders.USER_AGENT, AbstractBaseValidator.USER_AGENT);
+        map.put(HttpHeaders.ACCEPT, accept);
+        map.put(HttpHeaders.CONTENT_TYPE, type);
+        return map;
+    }
+
+    /**
+     * Parse the body of the reply and report the parsing to metrics.
+     * @param parser The parser
+     * @param reply The reply
+     * @param metrics Metrics to report to
+     * @param start When parsing started, in nanoseconds
+     * @return The response
+     * @throws IOException If fails
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    protected static ValidationResponse parsed(final ResponseParser parser,
+        final Reply reply, final Metrics metrics, final long start)
+        throws IOException {
+        return AbstractBaseValidator.parsed(
+            parser, reply, metrics, start, defect -> true
+        );
+    }
+
+    /**
+     * Parse the body of the reply, reporting defects to the listener,
+     * and report the parsing to metrics.
+     * @param parser The parser
+     * @param reply The reply
+     * @param metrics Metrics to report to
+     * @param start When parsing started, in nanoseconds
+     * @param listener Listener of defects
+     * @return The response
+     * @throws IOException If fails
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    protected static ValidationResponse parsed(final ResponseParser parser,
+        final Reply reply, final Metrics metrics, final long start,
+        final DefectListener listener) throws IOException {
+        final CountingStream body = new CountingStream(reply.body());
+        final ValidationResponse response = parser.parse(body, listener);
+        metrics.latency(Metrics.Phase.PARSE, System.nanoTime() - start);
+        metrics.response(body.count());
+        metrics.defects(response.errors().size(), response.warnings().size());
+        return response;
     }
 
     /**
@@ -77,51 +106,6 @@ abstract class AbstractBaseValidator {
         );
     }
 
-    /**
-     * Get text from list of strings, returned by
-     * {@link XML#xpath(String)}.
-     *
-     * <p>This method is required to simplify manipulations with XPath returned
-     * list of strings (returned by {@link XML#xpath(String)} above).
-     * The list of strings normally (!) contains one element or no elements. If
-     * there are no elements it means that the XPath is not found in the
-     * document. In this case we should return an empty string. If any elements
-     * are found - we're interested only in the first one. All others are
-     * ignored, because simply should not exist (if our XPath query is correct).
-     *
-     * @param lines The lines to work with
-     * @return The value
-     * @see #intOf(List)
-     */
-    protected static String textOf(final List<String> lines) {
-        final String text;
-        if (lines.isEmpty()) {
-            text = "";
-        } else {
-            text = lines.get(0);
-        }
-        return text;
-    }
-
-    /**
-     * Get text from list of strings.
-     *
-     * <p>See explanation of {@link #textOf(List)}.
-     *
-     * @param lines The lines to work with
-     * @return The value
-     * @see #textOf(List)
-     */
-    protected static int intOf(final List<String> lines) {
-        final int value;
-        if (lines.isEmpty()) {
-            value = 0;
-        } else {
-            value = Integer.parseInt(lines.get(0));
-        }
-        return value;
-    }
-
     /**
      * Convert text to charset.
      * @param text Text representation of charset
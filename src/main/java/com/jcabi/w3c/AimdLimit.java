@@ -0,0 +1,189 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limit of concurrent requests to one endpoint, which is adjusted
+ * with additive increase and multiplicative decrease (AIMD).
+ *
+ * <p>Every successful request increases the limit by one divided by
+ * the limit, so it grows by one per "round" of requests. A dropped
+ * request (429, 5xx or a failure) halves the limit. A request much
+ * slower than the fastest ones seen lately reduces it by a tenth, so
+ * the limit stops growing when the server starts queueing. The baseline
+ * slowly follows latency up, so a server which became slower for good
+ * is not punished forever. A cancelled request, see {@link #cancel()},
+ * tells nothing about the server and doesn't change the limit.
+ *
+ * <p>Requests over the limit wait for their turn, they don't fail,
+ * unless the deadline of the current thread is missed while waiting.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 2.0
+ */
+final class AimdLimit {
+
+    /**
+     * How much slower than the baseline a request must be
+     * to be considered slow.
+     */
+    private static final double TOLERANCE = 2.0d;
+
+    /**
+     * Difference in latency, which is never considered slow,
+     * in nanoseconds.
+     */
+    private static final long JITTER = TimeUnit.MILLISECONDS.toNanos(1L);
+
+    /**
+     * Longest wait for a free slot before checking the deadline again.
+     */
+    private static final Duration PATIENCE = Duration.ofSeconds(1L);
+
+    /**
+     * Maximum limit.
+     */
+    private final transient int max;
+
+    /**
+     * The lock.
+     */
+    private final transient Lock lock;
+
+    /**
+     * Signalled when a request is finished.
+     */
+    private final transient Condition free;
+
+    /**
+     * Current limit.
+     */
+    private transient double current;
+
+    /**
+     * Requests in flight.
+     */
+    private transient int inflight;
+
+    /**
+     * Latency of the fastest requests, in nanoseconds, zero if unknown.
+     */
+    private transient double baseline;
+
+    /**
+     * Ctor.
+     * @param initial Initial limit
+     * @param most Maximum limit
+     */
+    AimdLimit(final int initial, final int most) {
+        this.max = most;
+        this.lock = new ReentrantLock();
+        this.free = this.lock.newCondition();
+        this.current = initial;
+    }
+
+    /**
+     * Wait until the request may be sent.
+     * @throws InterruptedIOException If interrupted or the deadline
+     *  is missed while waiting
+     */
+    void acquire() throws InterruptedIOException {
+        this.lock.lock();
+        try {
+            while (this.inflight >= (int) this.current) {
+                this.free.awaitNanos(
+                    Deadline.timeout(AimdLimit.PATIENCE).toNanos()
+                );
+            }
+            ++this.inflight;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            final InterruptedIOException iex = new InterruptedIOException(
+                "Interrupted while waiting for the concurrency limit"
+            );
+            iex.initCause(ex);
+            throw iex;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * The request is finished.
+     * @param dropped TRUE if the server refused or failed it
+     * @param nanos How long it took, in nanoseconds
+     */
+    void release(final boolean dropped, final long nanos) {
+        this.lock.lock();
+        try {
+            --this.inflight;
+            if (dropped) {
+                this.current = Math.max(1.0d, this.current / 2.0d);
+            } else if (this.slow(nanos)) {
+                this.current = Math.max(1.0d, this.current * 0.9d);
+                this.baseline += (nanos - this.baseline) / 100.0d;
+            } else {
+                this.current = Math.min(
+                    this.max, this.current + 1.0d / this.current
+                );
+                if (this.baseline == 0.0d || nanos < this.baseline) {
+                    this.baseline = nanos;
+                } else {
+                    this.baseline += (nanos - this.baseline) / 100.0d;
+                }
+            }
+            this.free.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * The request is abandoned by the client, because it was interrupted
+     * or missed its deadline, so neither the limit nor the baseline
+     * change.
+     */
+    void cancel() {
+        this.lock.lock();
+        try {
+            --this.inflight;
+            this.free.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Current limit.
+     * @return How many requests may be in flight
+     */
+    int limit() {
+        this.lock.lock();
+        try {
+            return (int) this.current;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Is this request much slower than the baseline.
+     * @param nanos How long it took, in nanoseconds
+     * @return TRUE if it is
+     */
+    private boolean slow(final long nanos) {
+        return this.baseline > 0.0d
+            && nanos > this.baseline * AimdLimit.TOLERANCE
+            && nanos - this.baseline > AimdLimit.JITTER;
+    }
+}
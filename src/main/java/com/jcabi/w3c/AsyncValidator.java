@@ -0,0 +1,41 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Validator that doesn't block the caller.
+ *
+ * <p>Validation happens in the background and the response arrives
+ * through the future:
+ *
+ * <pre> AsyncValidator validator = new BackgroundValidator(
+ *   new ValidatorBuilder().html()
+ * );
+ * validator.validateAsync(html).thenAccept(
+ *   response -&gt; System.out.println(response)
+ * );</pre>
+ *
+ * <p>Objects of this interface should be immutable and thread-safe.
+ *
+ * @see BackgroundValidator
+ * @since 2.0
+ */
+@FunctionalInterface
+public interface AsyncValidator {
+
+    /**
+     * Validate in the background.
+     *
+     * <p>The future completes exceptionally with {@link java.io.IOException}
+     * if the validation fails. Cancelling the returned future interrupts
+     * the validation, if it is still running.
+     *
+     * @param content The HTML/CSS content to validate
+     * @return The future response
+     */
+    CompletableFuture<ValidationResponse> validateAsync(String content);
+}
@@ -0,0 +1,96 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.ToString;
+
+/**
+ * Validator that works in the background.
+ *
+ * <p>By default, every validation runs in its own virtual thread
+ * (on Java 21 and later), so thousands of them may be in flight without
+ * a platform thread per request. Any other executor may be provided:
+ *
+ * <pre> AsyncValidator validator = new BackgroundValidator(
+ *   new ValidatorBuilder().css(),
+ *   Executors.newFixedThreadPool(8)
+ * );</pre>
+ *
+ * <p>Cancellation of the returned future interrupts the thread, which
+ * is blocked in the HTTP call. Socket I/O of a virtual thread
+ * is interruptible, so the connection is closed immediately.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+@ToString(of = "origin")
+public final class BackgroundValidator implements Validator, AsyncValidator {
+
+    /**
+     * The validator to run in the background.
+     */
+    private final transient Validator origin;
+
+    /**
+     * Executor to run validations.
+     */
+    private final transient Executor executor;
+
+    /**
+     * Ctor.
+     * @param validator The validator to run in the background
+     */
+    public BackgroundValidator(final Validator validator) {
+        this(validator, VirtualThreads.executor());
+    }
+
+    /**
+     * Ctor.
+     * @param validator The validator to run in the background
+     * @param exec Executor to run validations
+     */
+    public BackgroundValidator(final Validator validator,
+        final Executor exec) {
+        this.origin = validator;
+        this.executor = exec;
+    }
+
+    @Override
+    public ValidationResponse validate(final String content)
+        throws IOException {
+        return this.origin.validate(content);
+    }
+
+    @Override
+    public CompletableFuture<ValidationResponse> validateAsync(
+        final String content) {
+        final CancellableFuture<ValidationResponse> future =
+            new CancellableFuture<>();
+        final FutureTask<Void> task = new FutureTask<>(
+            () -> {
+                try {
+                    future.complete(this.origin.validate(content));
+                // @checkstyle IllegalCatchCheck (1 line)
+                } catch (final Throwable ex) {
+                    future.completeExceptionally(ex);
+                }
+            },
+            null
+        );
+        future.attach(task);
+        try {
+            this.executor.execute(task);
+        } catch (final RejectedExecutionException ex) {
+            future.completeExceptionally(ex);
+        }
+        return future;
+    }
+}
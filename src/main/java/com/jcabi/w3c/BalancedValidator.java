@@ -0,0 +1,353 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import com.jcabi.log.Logger;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Validator, which spreads documents across a pool of validator
+ * instances, for example a few local Nu or Jigsaw containers.
+ *
+ * <pre> Validator validator = new ValidatorBuilder().html(
+ *   Arrays.asList(
+ *     URI.create("http://10.0.0.1:8888/"),
+ *     URI.create("http://10.0.0.2:8888/")
+ *   )
+ * );</pre>
+ *
+ * <p>Every document goes to the instance with the lowest number of
+ * requests in flight, weighted by its average latency. When the instance
+ * fails, because of the connection or with a status 429 or 5xx, the
+ * document goes to the next best one, until all of them are tried. Other
+ * statuses, like 413, refuse the document itself, so it's not sent
+ * anywhere else. A validation cancelled by the client, interrupted or
+ * out of its {@link Deadline}, is not retried either and doesn't count
+ * against the instance. Documents from an {@link InputStream} can't be
+ * sent twice, so they are not retried.
+ *
+ * <p>Instances which fail a few times in a row are ejected for a while,
+ * see {@link Endpoint}. Besides that, every instance is checked
+ * periodically in a background daemon thread, by validating a tiny
+ * document, HTML by default, see {@link #HTML_PROBE} and
+ * {@link #CSS_PROBE}. Any response means that the instance is healthy. When all
+ * instances are ejected, they are all used, as if none was.
+ *
+ * <p>Close the validator to stop health checks. A closed validator
+ * refuses documents with {@link IOException}.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @see ValidatorBuilder#html(Collection)
+ * @see ValidatorBuilder#css(Collection)
+ * @since 2.0
+ */
+public final class BalancedValidator implements Validator, Closeable {
+
+    /**
+     * HTML document to check health of Nu instances with.
+     */
+    public static final String HTML_PROBE =
+        "<!DOCTYPE html><html><head><title>health</title></head></html>";
+
+    /**
+     * Stylesheet to check health of Jigsaw instances with.
+     */
+    public static final String CSS_PROBE = "body { color: black; }";
+
+    /**
+     * Default period of health checks.
+     */
+    static final Duration PERIOD = Duration.ofSeconds(30L);
+
+    /**
+     * The instances.
+     */
+    private final transient List<Endpoint> endpoints;
+
+    /**
+     * Period of health checks, in milliseconds, zero for none.
+     */
+    private final transient long period;
+
+    /**
+     * The document to check health with.
+     */
+    private final transient String probe;
+
+    /**
+     * Lock of the health checker and of the closed flag.
+     */
+    private final transient Object lock;
+
+    /**
+     * Health checker, started by the first validation, or NULL.
+     */
+    private transient ScheduledExecutorService checker;
+
+    /**
+     * The validator is closed.
+     */
+    private transient boolean closed;
+
+    /**
+     * Ctor, with health checks every 30 seconds.
+     * @param uris URIs of instances
+     * @param factory Validator of an instance by its URI
+     */
+    public BalancedValidator(final Collection<URI> uris,
+        final Function<URI, Validator> factory) {
+        this(uris, factory, BalancedValidator.PERIOD);
+    }
+
+    /**
+     * Ctor, which checks health with {@link #HTML_PROBE}.
+     * @param uris URIs of instances
+     * @param factory Validator of an instance by its URI
+     * @param every Period of health checks, zero for none
+     */
+    public BalancedValidator(final Collection<URI> uris,
+        final Function<URI, Validator> factory, final Duration every) {
+        this(uris, factory, every, BalancedValidator.HTML_PROBE);
+    }
+
+    /**
+     * Ctor.
+     * @param uris URIs of instances
+     * @param factory Validator of an instance by its URI
+     * @param every Period of health checks, zero for none
+     * @param document The document to check health with
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public BalancedValidator(final Collection<URI> uris,
+        final Function<URI, Validator> factory, final Duration every,
+        final String document) {
+        this(BalancedValidator.pool(uris, factory), every.toMillis(), document);
+    }
+
+    /**
+     * Ctor.
+     * @param pool The instances
+     * @param millis Period of health checks, in milliseconds, zero for none
+     * @param document The document to check health with
+     */
+    private BalancedValidator(final List<Endpoint> pool, final long millis,
+        final String document) {
+        this.endpoints = pool;
+        this.period = millis;
+        this.probe = document;
+        this.lock = new Object();
+    }
+
+    @Override
+    public ValidationResponse validate(final String content)
+        throws IOException {
+        return this.balanced(
+            validator -> validator.validate(content), this.endpoints.size()
+        );
+    }
+
+    @Override
+    public ValidationResponse validate(final Path file) throws IOException {
+        return this.balanced(
+            validator -> validator.validate(file), this.endpoints.size()
+        );
+    }
+
+    @Override
+    public ValidationResponse validate(final InputStream input,
+        final Charset charset) throws IOException {
+        return this.balanced(
+            validator -> validator.validate(input, charset), 1
+        );
+    }
+
+    @Override
+    public ValidationResponse validate(final ByteBuffer buffer,
+        final Charset charset) throws IOException {
+        return this.balanced(
+            validator -> validator.validate(buffer, charset),
+            this.endpoints.size()
+        );
+    }
+
+    @Override
+    public void close() {
+        final ScheduledExecutorService service;
+        synchronized (this.lock) {
+            this.closed = true;
+            service = this.checker;
+            this.checker = null;
+        }
+        if (service != null) {
+            service.shutdownNow();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Logger.format("balanced across %s", this.endpoints);
+    }
+
+    /**
+     * Validate by the best instance, trying others if it fails.
+     * @param call What to do with the validator of the instance
+     * @param attempts How many instances to try, at most
+     * @return The response
+     * @throws IOException If all attempts fail
+     */
+    private ValidationResponse balanced(final BalancedValidator.Call call,
+        final int attempts) throws IOException {
+        this.start();
+        final Collection<Endpoint> tried = new ArrayList<>(attempts);
+        ValidationResponse response = null;
+        IOException error = null;
+        while (response == null && tried.size() < attempts) {
+            final Endpoint endpoint = this.best(tried);
+            tried.add(endpoint);
+            final Validator validator = endpoint.start();
+            final long start = System.nanoTime();
+            boolean failed = true;
+            boolean cancelled = false;
+            try {
+                response = call.apply(validator);
+                failed = false;
+            } catch (final IOException ex) {
+                cancelled = Deadline.cancelled(ex);
+                failed = Endpoint.blames(ex);
+                if (cancelled || !failed) {
+                    throw ex;
+                }
+                if (error == null) {
+                    error = ex;
+                } else {
+                    error.addSuppressed(ex);
+                }
+            } finally {
+                if (cancelled) {
+                    endpoint.cancelled();
+                } else {
+                    endpoint.done(System.nanoTime() - start, failed);
+                }
+            }
+        }
+        if (response == null) {
+            throw error;
+        }
+        return response;
+    }
+
+    /**
+     * Find the instance with the lowest cost, preferably a healthy one.
+     * @param tried Instances already tried
+     * @return The instance
+     */
+    private Endpoint best(final Collection<Endpoint> tried) {
+        Endpoint best = null;
+        double lowest = Double.MAX_VALUE;
+        boolean healthy = false;
+        for (final Endpoint endpoint : this.endpoints) {
+            if (!tried.contains(endpoint)) {
+                final double cost = endpoint.cost();
+                final boolean alive = endpoint.healthy();
+                if (best == null || alive && !healthy
+                    || alive == healthy && cost < lowest) {
+                    best = endpoint;
+                    lowest = cost;
+                    healthy = alive;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Start health checks, if they are not started yet.
+     * @throws IOException If the validator is closed
+     */
+    private void start() throws IOException {
+        synchronized (this.lock) {
+            if (this.closed) {
+                throw new IOException(
+                    Logger.format("Validator %s is closed", this)
+                );
+            }
+            if (this.period > 0L && this.checker == null) {
+                this.checker = Executors.newSingleThreadScheduledExecutor(
+                    runnable -> {
+                        final Thread thread = new Thread(
+                            runnable, "w3c-health-check"
+                        );
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                );
+                this.checker.scheduleWithFixedDelay(
+                    this::check, this.period, this.period,
+                    TimeUnit.MILLISECONDS
+                );
+            }
+        }
+    }
+
+    /**
+     * Check health of all instances.
+     */
+    private void check() {
+        for (final Endpoint endpoint : this.endpoints) {
+            endpoint.check(this.probe);
+        }
+    }
+
+    /**
+     * Make instances.
+     * @param uris URIs of instances
+     * @param factory Validator of an instance by its URI
+     * @return Instances
+     */
+    private static List<Endpoint> pool(final Collection<URI> uris,
+        final Function<URI, Validator> factory) {
+        if (uris.isEmpty()) {
+            throw new IllegalArgumentException(
+                "At least one URI of a validator is required"
+            );
+        }
+        final List<Endpoint> pool = new ArrayList<>(uris.size());
+        for (final URI uri : uris) {
+            pool.add(new Endpoint(uri, factory.apply(uri)));
+        }
+        return Collections.unmodifiableList(pool);
+    }
+
+    /**
+     * Validation by one instance.
+     *
+     * @since 2.0
+     */
+    private interface Call {
+        /**
+         * Validate.
+         * @param validator Validator of the instance
+         * @return The response
+         * @throws IOException If fails
+         */
+        ValidationResponse apply(Validator validator) throws IOException;
+    }
+}
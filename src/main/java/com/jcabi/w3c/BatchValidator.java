@@ -0,0 +1,203 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.ToString;
+
+/**
+ * Validator of many documents at once.
+ *
+ * <p>Documents are validated concurrently, but no more than the given
+ * number at a time. A failure of one document doesn't abort the batch,
+ * it is reported in its {@link Outcome}:
+ *
+ * <pre> List&lt;Outcome&gt; outcomes = new BatchValidator(
+ *   new ValidatorBuilder().css(), 8
+ * ).validateAll(stylesheets);
+ * for (Outcome outcome : outcomes) {
+ *   if (outcome.successful()) {
+ *     System.out.println(outcome.response());
+ *   }
+ * }</pre>
+ *
+ * <p>Outcomes are returned either in the order of documents, or delivered
+ * to a consumer as soon as they are ready. The consumer is always called
+ * in the thread that started the batch.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+@ToString(of = { "origin", "limit" })
+public final class BatchValidator {
+
+    /**
+     * The validator.
+     */
+    private final transient Validator origin;
+
+    /**
+     * Maximum number of documents validated at the same time.
+     */
+    private final transient int limit;
+
+    /**
+     * Executor to run validations.
+     */
+    private final transient Executor executor;
+
+    /**
+     * Ctor.
+     * @param validator The validator
+     * @param max Maximum number of documents validated at the same time
+     */
+    public BatchValidator(final Validator validator, final int max) {
+        this(validator, max, VirtualThreads.executor());
+    }
+
+    /**
+     * Ctor.
+     * @param validator The validator
+     * @param max Maximum number of documents validated at the same time,
+     *  at least one
+     * @param exec Executor to run validations
+     */
+    public BatchValidator(final Validator validator, final int max,
+        final Executor exec) {
+        this.origin = validator;
+        this.limit = BatchValidator.checked(max);
+        this.executor = exec;
+    }
+
+    /**
+     * Validate all documents and return outcomes in the same order.
+     * @param documents The documents to validate
+     * @return Outcomes, one per document
+     * @throws InterruptedException If interrupted while waiting
+     */
+    public List<Outcome> validateAll(final Collection<String> documents)
+        throws InterruptedException {
+        final Outcome[] outcomes = new Outcome[documents.size()];
+        this.validateAll(
+            documents.iterator(),
+            outcome -> outcomes[outcome.index()] = outcome
+        );
+        return Arrays.asList(outcomes);
+    }
+
+    /**
+     * Validate all documents and deliver outcomes as soon as they are ready.
+     *
+     * <p>The stream is consumed lazily, as permits become available, so it
+     * may be much larger than the memory.
+     *
+     * @param documents The documents to validate
+     * @param consumer Consumer of outcomes, in the order of completion
+     * @throws InterruptedException If interrupted while waiting
+     */
+    public void validateAll(final Stream<String> documents,
+        final Consumer<Outcome> consumer) throws InterruptedException {
+        this.validateAll(documents.iterator(), consumer);
+    }
+
+    /**
+     * Check the maximum number of documents validated at the same time.
+     * @param max The number
+     * @return The same number, if it's at least one
+     */
+    static int checked(final int max) {
+        if (max < 1) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "At least one document at a time is required, %d given",
+                    max
+                )
+            );
+        }
+        return max;
+    }
+
+    /**
+     * Validate all documents and deliver outcomes as soon as they are ready.
+     * @param documents The documents to validate
+     * @param consumer Consumer of outcomes, in the order of completion
+     * @throws InterruptedException If interrupted while waiting
+     */
+    private void validateAll(final Iterator<String> documents,
+        final Consumer<Outcome> consumer) throws InterruptedException {
+        final Semaphore permits = new Semaphore(this.limit);
+        final BlockingQueue<Outcome> ready = new LinkedBlockingQueue<>();
+        final List<Outcome> drained = new ArrayList<>(0);
+        int submitted = 0;
+        int delivered = 0;
+        while (documents.hasNext()) {
+            final String document = documents.next();
+            permits.acquire();
+            this.submit(submitted, document, permits, ready);
+            ++submitted;
+            ready.drainTo(drained);
+            for (final Outcome outcome : drained) {
+                consumer.accept(outcome);
+            }
+            delivered += drained.size();
+            drained.clear();
+        }
+        while (delivered < submitted) {
+            consumer.accept(ready.take());
+            ++delivered;
+        }
+    }
+
+    /**
+     * Submit validation of one document.
+     * @param index Position of the document
+     * @param document The document
+     * @param permits Permits to release when done
+     * @param ready Queue of outcomes
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private void submit(final int index, final String document,
+        final Semaphore permits, final BlockingQueue<Outcome> ready) {
+        final CompletableFuture<ValidationResponse> result =
+            new CompletableFuture<>();
+        final Optional<Deadline> deadline = Deadline.current();
+        final Runnable task = () -> {
+            try {
+                result.complete(
+                    Deadline.within(
+                        deadline, () -> this.origin.validate(document)
+                    )
+                );
+            // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Throwable ex) {
+                result.completeExceptionally(ex);
+            } finally {
+                permits.release();
+                ready.add(new Outcome(index, result));
+            }
+        };
+        try {
+            this.executor.execute(task);
+        } catch (final RejectedExecutionException ex) {
+            result.completeExceptionally(ex);
+            permits.release();
+            ready.add(new Outcome(index, result));
+        }
+    }
+}
@@ -0,0 +1,364 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Queue of documents, which are validated together, in batches.
+ *
+ * <p>The queue is sent when its documents together reach the given number
+ * of characters, or when the time window is over since the first
+ * document was queued, whichever happens first. Batches are validated
+ * in the background; a failure of a batch fails all its documents.
+ * A batch is validated within the latest {@link Deadline} of the threads,
+ * which queued its documents, or without any, if one of them has none.
+ * Once the queue is closed, new documents fail right away.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 2.0
+ */
+final class Batches {
+
+    /**
+     * Validation of a batch.
+     */
+    private final transient Call call;
+
+    /**
+     * Maximum number of characters in a batch.
+     */
+    private final transient int most;
+
+    /**
+     * Time window of a batch, in milliseconds.
+     */
+    private final transient long window;
+
+    /**
+     * Executor to validate batches.
+     */
+    private final transient Executor executor;
+
+    /**
+     * Name of the timer thread.
+     */
+    private final transient String name;
+
+    /**
+     * Queued documents.
+     */
+    private final transient List<String> texts;
+
+    /**
+     * Futures of queued documents.
+     */
+    private final transient List<CompletableFuture<ValidationResponse>> futures;
+
+    /**
+     * Deadlines of threads, which queued documents.
+     */
+    private final transient List<Optional<Deadline>> deadlines;
+
+    /**
+     * Timer, which sends batches when their time windows are over,
+     * or NULL, if it is not started yet or stopped.
+     */
+    private transient ScheduledExecutorService timer;
+
+    /**
+     * The queue is closed.
+     */
+    private transient boolean closed;
+
+    /**
+     * Number of characters in the queue.
+     */
+    private transient long chars;
+
+    /**
+     * Number of batches sent so far.
+     */
+    private transient long sent;
+
+    /**
+     * Ctor.
+     * @param validation Validation of a batch
+     * @param size Maximum number of characters in a batch
+     * @param time Time window of a batch, in milliseconds
+     * @param exec Executor to validate batches
+     * @param thread Name of the timer thread
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    Batches(final Call validation, final int size, final long time,
+        final Executor exec, final String thread) {
+        this.call = validation;
+        this.most = size;
+        this.window = time;
+        this.executor = exec;
+        this.name = thread;
+        this.texts = new ArrayList<>(16);
+        this.futures = new ArrayList<>(16);
+        this.deadlines = new ArrayList<>(16);
+    }
+
+    /**
+     * Add the document to the queue.
+     * @param text The document
+     * @return Its future response, which fails if the queue is closed
+     */
+    CompletableFuture<ValidationResponse> add(final String text) {
+        final CompletableFuture<ValidationResponse> future =
+            new CompletableFuture<>();
+        boolean full = false;
+        long batch = -1L;
+        synchronized (this.texts) {
+            if (this.closed) {
+                future.completeExceptionally(this.refusal());
+            } else {
+                this.texts.add(text);
+                this.futures.add(future);
+                this.deadlines.add(Deadline.current());
+                this.chars += text.length();
+                if (this.chars >= this.most) {
+                    full = true;
+                } else if (this.texts.size() == 1) {
+                    batch = this.sent;
+                }
+            }
+        }
+        if (full) {
+            this.flush();
+        } else if (batch >= 0L) {
+            this.schedule(batch);
+        }
+        return future;
+    }
+
+    /**
+     * Validate the document in a batch of its own, right now.
+     * @param text The document
+     * @return Its future response, which fails if the queue is closed
+     */
+    CompletableFuture<ValidationResponse> alone(final String text) {
+        final CompletableFuture<ValidationResponse> future =
+            new CompletableFuture<>();
+        final boolean open;
+        synchronized (this.texts) {
+            open = !this.closed;
+        }
+        if (open) {
+            this.send(
+                Collections.singletonList(text),
+                Collections.singletonList(future),
+                Deadline.current()
+            );
+        } else {
+            future.completeExceptionally(this.refusal());
+        }
+        return future;
+    }
+
+    /**
+     * Send all queued documents now, without waiting for the time window.
+     */
+    void flush() {
+        final List<String> batch;
+        final List<CompletableFuture<ValidationResponse>> waiting;
+        final Optional<Deadline> deadline;
+        synchronized (this.texts) {
+            batch = new ArrayList<>(this.texts);
+            waiting = new ArrayList<>(this.futures);
+            deadline = Batches.latest(this.deadlines);
+            this.texts.clear();
+            this.futures.clear();
+            this.deadlines.clear();
+            this.chars = 0L;
+            ++this.sent;
+        }
+        if (!batch.isEmpty()) {
+            this.send(batch, waiting, deadline);
+        }
+    }
+
+    /**
+     * Refuse new documents, send all queued ones and stop the timer.
+     */
+    void close() {
+        final ScheduledExecutorService service;
+        synchronized (this.texts) {
+            this.closed = true;
+            service = this.timer;
+            this.timer = null;
+        }
+        this.flush();
+        if (service != null) {
+            service.shutdownNow();
+        }
+    }
+
+    /**
+     * Send the batch when its time window is over, unless it is
+     * sent earlier.
+     * @param batch Number of the batch
+     */
+    private void schedule(final long batch) {
+        final ScheduledExecutorService service = this.service();
+        if (service == null) {
+            this.flush();
+        } else {
+            try {
+                service.schedule(
+                    () -> this.expire(batch),
+                    this.window, TimeUnit.MILLISECONDS
+                );
+            } catch (final RejectedExecutionException ex) {
+                this.flush();
+            }
+        }
+    }
+
+    /**
+     * Start the timer, if it is not started yet.
+     * @return The timer or NULL, if the queue is closed
+     */
+    private ScheduledExecutorService service() {
+        synchronized (this.texts) {
+            if (this.timer == null && !this.closed) {
+                this.timer = Executors.newSingleThreadScheduledExecutor(
+                    runnable -> {
+                        final Thread thread = new Thread(runnable, this.name);
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                );
+            }
+            return this.timer;
+        }
+    }
+
+    /**
+     * Failure of a document, which came after the queue was closed.
+     * @return The failure
+     */
+    private IOException refusal() {
+        return new IOException(
+            String.format("The queue of %s is closed", this.name)
+        );
+    }
+
+    /**
+     * Send the batch, if it is still in the queue.
+     * @param batch Number of the batch
+     */
+    private void expire(final long batch) {
+        final boolean current;
+        synchronized (this.texts) {
+            current = this.sent == batch;
+        }
+        if (current) {
+            this.flush();
+        }
+    }
+
+    /**
+     * Validate the batch in the background.
+     * @param batch Documents
+     * @param waiting Their futures
+     * @param deadline Deadline of the batch, if there is any
+     */
+    private void send(final List<String> batch,
+        final List<CompletableFuture<ValidationResponse>> waiting,
+        final Optional<Deadline> deadline) {
+        try {
+            this.executor.execute(
+                () -> this.complete(batch, waiting, deadline)
+            );
+        } catch (final RejectedExecutionException ex) {
+            Batches.fail(waiting, ex);
+        }
+    }
+
+    /**
+     * Validate the batch and complete futures with responses.
+     * @param batch Documents
+     * @param waiting Their futures
+     * @param deadline Deadline of the batch, if there is any
+     */
+    private void complete(final List<String> batch,
+        final List<CompletableFuture<ValidationResponse>> waiting,
+        final Optional<Deadline> deadline) {
+        try {
+            final List<ValidationResponse> responses = Deadline.within(
+                deadline, () -> this.call.run(batch)
+            );
+            for (int idx = 0; idx < waiting.size(); ++idx) {
+                waiting.get(idx).complete(responses.get(idx));
+            }
+        // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Throwable ex) {
+            Batches.fail(waiting, ex);
+        }
+    }
+
+    /**
+     * The latest of the deadlines, or none, if any of them is absent.
+     * @param all Deadlines
+     * @return The latest one
+     */
+    private static Optional<Deadline> latest(
+        final List<Optional<Deadline>> all) {
+        Optional<Deadline> latest = Optional.empty();
+        for (final Optional<Deadline> deadline : all) {
+            if (!deadline.isPresent()) {
+                latest = Optional.empty();
+                break;
+            }
+            if (!latest.isPresent() || deadline.get().after(latest.get())) {
+                latest = deadline;
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * Fail all futures.
+     * @param waiting Futures
+     * @param error The failure
+     */
+    private static void fail(
+        final List<CompletableFuture<ValidationResponse>> waiting,
+        final Throwable error) {
+        for (final CompletableFuture<ValidationResponse> future : waiting) {
+            future.completeExceptionally(error);
+        }
+    }
+
+    /**
+     * Validation of a batch.
+     *
+     * @since 2.0
+     */
+    interface Call {
+        /**
+         * Validate documents together.
+         * @param batch Documents
+         * @return Responses, one per document, in the same order
+         * @throws IOException If fails
+         */
+        List<ValidationResponse> run(List<String> batch) throws IOException;
+    }
+}
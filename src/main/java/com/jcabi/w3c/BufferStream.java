@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Input stream, which reads a byte buffer, without copying it.
+ *
+ * <p>The buffer may be direct or memory-mapped, its content is copied
+ * only into arrays given to {@link #read(byte[], int, int)}.
+ *
+ * <p>The class is NOT thread-safe.
+ *
+ * @since 2.0
+ */
+final class BufferStream extends InputStream {
+
+    /**
+     * The buffer to read.
+     */
+    private final transient ByteBuffer buffer;
+
+    /**
+     * Ctor.
+     * @param buf The buffer to read, from its position to its limit
+     */
+    BufferStream(final ByteBuffer buf) {
+        super();
+        this.buffer = buf.duplicate();
+    }
+
+    @Override
+    public int read() {
+        final int next;
+        if (this.buffer.hasRemaining()) {
+            next = this.buffer.get() & 0xff;
+        } else {
+            next = -1;
+        }
+        return next;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int off, final int len) {
+        final int count;
+        if (len == 0) {
+            count = 0;
+        } else if (this.buffer.hasRemaining()) {
+            count = Math.min(len, this.buffer.remaining());
+            this.buffer.get(buf, off, count);
+        } else {
+            count = -1;
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(final long len) {
+        final int count = (int) Math.max(
+            0L, Math.min(len, (long) this.buffer.remaining())
+        );
+        this.buffer.position(this.buffer.position() + count);
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return this.buffer.remaining();
+    }
+}
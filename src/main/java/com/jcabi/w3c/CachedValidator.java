@@ -0,0 +1,75 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Optional;
+import lombok.ToString;
+
+/**
+ * Validator that remembers responses of another validator.
+ *
+ * <p>Responses are stored in a {@link ResponseCache}, under the SHA-256
+ * digest of the document content and the URI of the validator. When
+ * exactly the same document is validated again, the response is taken
+ * from the cache and the W3C server is not contacted:
+ *
+ * <pre> Validator validator = new CachedValidator(
+ *   new ValidatorBuilder().html(uri), uri, new LruResponseCache(10_000)
+ * );</pre>
+ *
+ * <p>The class is thread-safe, if the cache is thread-safe.
+ *
+ * @see ValidatorBuilder#html(URI, ResponseCache)
+ * @see ValidatorBuilder#css(URI, ResponseCache)
+ * @since 2.0
+ */
+@ToString(of = "target")
+public final class CachedValidator implements Validator {
+
+    /**
+     * The validator to ask when the response is not cached.
+     */
+    private final transient Validator origin;
+
+    /**
+     * URI of the validator.
+     */
+    private final transient String target;
+
+    /**
+     * The cache.
+     */
+    private final transient ResponseCache cache;
+
+    /**
+     * Ctor.
+     * @param validator The validator to ask when the response is not cached
+     * @param uri URI of the validator, to be used as part of the key
+     * @param store The cache
+     */
+    public CachedValidator(final Validator validator, final URI uri,
+        final ResponseCache store) {
+        this.origin = validator;
+        this.target = uri.toString();
+        this.cache = store;
+    }
+
+    @Override
+    public ValidationResponse validate(final String content)
+        throws IOException {
+        final String key = new ContentDigest(this.target, content).toString();
+        final Optional<ValidationResponse> cached = this.cache.find(key);
+        final ValidationResponse response;
+        if (cached.isPresent()) {
+            response = cached.get();
+        } else {
+            response = this.origin.validate(content);
+            this.cache.save(key, response);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Future, which interrupts the task behind it, when cancelled.
+ *
+ * <p>A plain {@link CompletableFuture} doesn't know anything about the
+ * thread that is going to complete it, so its cancellation never reaches
+ * the task. This one does.
+ *
+ * @param <T> Type of result
+ * @since 2.0
+ */
+final class CancellableFuture<T> extends CompletableFuture<T> {
+
+    /**
+     * The task that completes this future.
+     */
+    private final transient AtomicReference<Future<?>> task;
+
+    /**
+     * Ctor.
+     */
+    CancellableFuture() {
+        super();
+        this.task = new AtomicReference<>();
+    }
+
+    @Override
+    public boolean cancel(final boolean interrupt) {
+        final boolean cancelled = super.cancel(interrupt);
+        final Future<?> running = this.task.get();
+        if (cancelled && running != null) {
+            running.cancel(true);
+        }
+        return cancelled;
+    }
+
+    /**
+     * Attach the task to this future.
+     * @param running The task that completes this future
+     */
+    void attach(final Future<?> running) {
+        this.task.set(running);
+        if (this.isCancelled()) {
+            running.cancel(true);
+        }
+    }
+}
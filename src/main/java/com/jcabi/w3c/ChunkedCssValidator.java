@@ -0,0 +1,148 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import lombok.ToString;
+
+/**
+ * Validator of huge stylesheets, which splits them into chunks and
+ * validates the chunks concurrently.
+ *
+ * <p>The stylesheet is split at the boundaries of top-level rules and
+ * at-rules, in one linear scan, into chunks of about the given number
+ * of characters. Chunks are sent to another CSS validator, no more than
+ * the given number of them at a time, and their defects are merged into
+ * one response, with line numbers of the original stylesheet:
+ *
+ * <pre> Validator validator = new ChunkedCssValidator(
+ *   new ValidatorBuilder().css(), 512 * 1024, 8
+ * );
+ * ValidationResponse response = validator.validate(huge);</pre>
+ *
+ * <p>A stylesheet smaller than one chunk is sent as is. Leading
+ * {@code @charset}, {@code @import} and {@code @namespace} statements
+ * are repeated at the top of every chunk. {@code JIGSAW} directives are
+ * processed for the entire stylesheet before it is split, as
+ * {@link Validator} explains. If any chunk fails, the entire validation
+ * fails.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+@ToString(of = { "origin", "size", "threads" })
+public final class ChunkedCssValidator implements Validator {
+
+    /**
+     * The CSS validator.
+     */
+    private final transient Validator origin;
+
+    /**
+     * Minimum number of characters in a chunk.
+     */
+    private final transient int size;
+
+    /**
+     * Maximum number of chunks validated at the same time.
+     */
+    private final transient int threads;
+
+    /**
+     * Executor to validate chunks.
+     */
+    private final transient Executor executor;
+
+    /**
+     * Ctor.
+     * @param validator The CSS validator
+     */
+    public ChunkedCssValidator(final Validator validator) {
+        this(validator, 512 * 1024, 8);
+    }
+
+    /**
+     * Ctor.
+     * @param validator The CSS validator
+     * @param chars Minimum number of characters in a chunk
+     * @param max Maximum number of chunks validated at the same time
+     */
+    public ChunkedCssValidator(final Validator validator, final int chars,
+        final int max) {
+        this(validator, chars, max, VirtualThreads.executor());
+    }
+
+    /**
+     * Ctor.
+     * @param validator The CSS validator
+     * @param chars Minimum number of characters in a chunk
+     * @param max Maximum number of chunks validated at the same time,
+     *  at least one
+     * @param exec Executor to validate chunks
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public ChunkedCssValidator(final Validator validator, final int chars,
+        final int max, final Executor exec) {
+        this.origin = validator;
+        this.size = chars;
+        this.threads = BatchValidator.checked(max);
+        this.executor = exec;
+    }
+
+    @Override
+    public ValidationResponse validate(final String css) throws IOException {
+        final CssDirectives directives = CssDirectives.scan(css);
+        final ValidationResponse response;
+        if (directives.ignored()) {
+            response = AbstractBaseValidator.success("");
+        } else {
+            final CssChunks chunks = CssChunks.split(
+                directives.text(), this.size
+            );
+            final ValidationResponse merged;
+            if (chunks.texts().size() == 1) {
+                merged = this.origin.validate(directives.text());
+            } else {
+                merged = chunks.merged(this.validated(chunks.texts()));
+            }
+            response = directives.translated(merged);
+        }
+        return response;
+    }
+
+    /**
+     * Validate chunks concurrently.
+     * @param texts Chunks
+     * @return Responses, one per chunk, in the same order
+     * @throws IOException If any of them fails
+     */
+    private List<ValidationResponse> validated(final List<String> texts)
+        throws IOException {
+        final List<Outcome> outcomes;
+        try {
+            outcomes = new BatchValidator(
+                this.origin, this.threads, this.executor
+            ).validateAll(texts);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            final InterruptedIOException iex = new InterruptedIOException(
+                "Interrupted while validating chunks of the stylesheet"
+            );
+            iex.initCause(ex);
+            throw iex;
+        }
+        final List<ValidationResponse> responses =
+            new ArrayList<>(outcomes.size());
+        for (final Outcome outcome : outcomes) {
+            responses.add(outcome.response());
+        }
+        return responses;
+    }
+}
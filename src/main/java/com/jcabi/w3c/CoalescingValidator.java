@@ -0,0 +1,210 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.ToString;
+
+/**
+ * Validator that sends identical documents, validated at the same time,
+ * to another validator only once.
+ *
+ * <p>When a document with exactly the same content is already being
+ * validated by another thread, the caller doesn't contact the W3C server,
+ * but waits for the response (or the failure) of that thread:
+ *
+ * <pre> Validator validator = new CoalescingValidator(
+ *   new ValidatorBuilder().css(uri), uri
+ * );</pre>
+ *
+ * <p>Every caller gets its own failure, which wraps the failure of the
+ * caller that validated the document. When that caller is cancelled,
+ * interrupted or out of its {@link Deadline}, the waiting callers don't
+ * fail with it, one of them validates the document again.
+ *
+ * <p>Documents in flight are spread among independently locked stripes,
+ * by the digest of their content, so threads validating different
+ * documents almost never wait for each other.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 2.0
+ */
+@ToString(of = "target")
+public final class CoalescingValidator implements Validator {
+
+    /**
+     * The validator to ask.
+     */
+    private final transient Validator origin;
+
+    /**
+     * URI of the validator.
+     */
+    private final transient String target;
+
+    /**
+     * Stripes of documents in flight.
+     */
+    private final transient
+        List<Map<ContentDigest, CompletableFuture<ValidationResponse>>> stripes;
+
+    /**
+     * How many callers got the response of another caller.
+     */
+    private final transient LongAdder joined;
+
+    /**
+     * Ctor, with 64 stripes.
+     * @param validator The validator to ask
+     * @param uri URI of the validator, to be used as part of the key
+     */
+    public CoalescingValidator(final Validator validator, final URI uri) {
+        this(validator, uri, 64);
+    }
+
+    /**
+     * Ctor.
+     * @param validator The validator to ask
+     * @param uri URI of the validator, to be used as part of the key
+     * @param total How many stripes to use
+     */
+    public CoalescingValidator(final Validator validator, final URI uri,
+        final int total) {
+        this.origin = validator;
+        this.target = uri.toString();
+        this.stripes = CoalescingValidator.stripes(total);
+        this.joined = new LongAdder();
+    }
+
+    @Override
+    public ValidationResponse validate(final String content)
+        throws IOException {
+        final ContentDigest key = new ContentDigest(this.target, content);
+        final Map<ContentDigest, CompletableFuture<ValidationResponse>> stripe =
+            this.stripes.get(
+                Math.floorMod(key.hashCode(), this.stripes.size())
+            );
+        Optional<ValidationResponse> response = Optional.empty();
+        while (!response.isPresent()) {
+            final CompletableFuture<ValidationResponse> fresh =
+                new CompletableFuture<>();
+            final CompletableFuture<ValidationResponse> pending;
+            synchronized (stripe) {
+                pending = stripe.putIfAbsent(key, fresh);
+            }
+            if (pending == null) {
+                response = Optional.of(this.lead(content, key, stripe, fresh));
+            } else {
+                this.joined.increment();
+                response = CoalescingValidator.follow(pending);
+            }
+        }
+        return response.get();
+    }
+
+    /**
+     * How many callers got the response of another caller, instead
+     * of contacting the validator.
+     * @return Number of coalesced calls
+     */
+    public long coalesced() {
+        return this.joined.sum();
+    }
+
+    /**
+     * Validate the document and publish the result to all callers
+     * waiting for it. If this caller is cancelled, the future is cancelled
+     * too, so that one of the waiting callers validates the document.
+     * @param content The document
+     * @param key Its digest
+     * @param stripe The stripe with the document
+     * @param future Where to publish the result
+     * @return The response
+     * @throws IOException If fails
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private ValidationResponse lead(final String content,
+        final ContentDigest key,
+        final Map<ContentDigest, CompletableFuture<ValidationResponse>> stripe,
+        final CompletableFuture<ValidationResponse> future)
+        throws IOException {
+        ValidationResponse response = null;
+        Throwable failure = null;
+        try {
+            response = this.origin.validate(content);
+            return response;
+        } catch (final IOException ex) {
+            if (!Deadline.cancelled(ex)) {
+                failure = ex;
+            }
+            throw ex;
+        } catch (final RuntimeException ex) {
+            failure = ex;
+            throw ex;
+        } finally {
+            synchronized (stripe) {
+                stripe.remove(key);
+            }
+            if (response != null) {
+                future.complete(response);
+            } else if (failure == null) {
+                future.cancel(false);
+            } else {
+                future.completeExceptionally(failure);
+            }
+        }
+    }
+
+    /**
+     * Wait for the response of another caller.
+     * @param future The future of it
+     * @return The response or empty, if the other caller was cancelled
+     * @throws IOException If validation failed
+     */
+    private static Optional<ValidationResponse> follow(
+        final CompletableFuture<ValidationResponse> future)
+        throws IOException {
+        Optional<ValidationResponse> response;
+        try {
+            response = Optional.of(
+                Futures.get(future, "another validation")
+            );
+        } catch (final CancellationException ex) {
+            response = Optional.empty();
+        } catch (final ExecutionException ex) {
+            throw new IOException(
+                "Validation of the same document by another caller failed",
+                ex.getCause()
+            );
+        }
+        return response;
+    }
+
+    /**
+     * Make empty stripes.
+     * @param total How many of them
+     * @return The stripes
+     */
+    private static List<Map<ContentDigest,
+        CompletableFuture<ValidationResponse>>> stripes(final int total) {
+        final List<Map<ContentDigest, CompletableFuture<ValidationResponse>>>
+            list = new ArrayList<>(total);
+        for (int idx = 0; idx < total; ++idx) {
+            list.add(new HashMap<>(4));
+        }
+        return list;
+    }
+}
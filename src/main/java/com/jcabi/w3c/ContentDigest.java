@@ -0,0 +1,98 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import lombok.EqualsAndHashCode;
+
+/**
+ * SHA-256 digest of a document together with the URI of the validator
+ * it is sent to.
+ *
+ * <p>Two documents with the same content, sent to the same validator,
+ * always have the same digest, that's why it is used as a key
+ * of cached and coalesced validation responses. The digest is calculated
+ * once, in the constructor, and objects are equal when their digests are,
+ * so an object used as a key doesn't keep the document.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+@EqualsAndHashCode(of = "hash")
+final class ContentDigest {
+
+    /**
+     * Hex digits.
+     */
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * The digest.
+     */
+    private final transient byte[] hash;
+
+    /**
+     * Ctor.
+     * @param uri URI of the validator
+     * @param text The content of the document
+     */
+    ContentDigest(final URI uri, final String text) {
+        this(uri.toString(), text);
+    }
+
+    /**
+     * Ctor.
+     * @param uri URI of the validator
+     * @param text The content of the document
+     */
+    ContentDigest(final String uri, final String text) {
+        this.hash = ContentDigest.digest(uri, text);
+    }
+
+    /**
+     * Hex representation of the digest.
+     * @return Sixty four hex characters
+     */
+    @Override
+    public String toString() {
+        final char[] hex = new char[this.hash.length << 1];
+        for (int idx = 0; idx < this.hash.length; ++idx) {
+            hex[idx << 1] = ContentDigest.HEX[this.hash[idx] >> 4 & 0x0f];
+            hex[(idx << 1) + 1] = ContentDigest.HEX[this.hash[idx] & 0x0f];
+        }
+        return new String(hex);
+    }
+
+    /**
+     * Raw bytes of the digest.
+     * @return Thirty two bytes
+     */
+    byte[] bytes() {
+        return this.hash.clone();
+    }
+
+    /**
+     * Calculate SHA-256 digest of the document and the URI.
+     * @param uri URI of the validator
+     * @param text The content of the document
+     * @return Thirty two bytes
+     */
+    private static byte[] digest(final String uri, final String text) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+        digest.update(uri.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(text.getBytes(StandardCharsets.UTF_8));
+        return digest.digest();
+    }
+}
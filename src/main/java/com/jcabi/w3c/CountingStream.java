@@ -0,0 +1,71 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream, which counts bytes read from it.
+ *
+ * <p>The class is NOT thread-safe.
+ *
+ * @since 2.0
+ */
+final class CountingStream extends FilterInputStream {
+
+    /**
+     * Bytes read so far.
+     */
+    private transient long total;
+
+    /**
+     * Ctor.
+     * @param input The stream to read
+     */
+    CountingStream(final InputStream input) {
+        super(input);
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int next = super.read();
+        if (next >= 0) {
+            ++this.total;
+        }
+        return next;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int off, final int len)
+        throws IOException {
+        final int count = super.read(buf, off, len);
+        if (count > 0) {
+            this.total += count;
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(final long len) throws IOException {
+        final long count = super.skip(len);
+        this.total += count;
+        return count;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * How many bytes were read.
+     * @return Number of bytes
+     */
+    long count() {
+        return this.total;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stylesheets, concatenated into one stylesheet.
+ *
+ * <p>Every stylesheet starts on its own line, right after a sentinel
+ * comment with its position:
+ *
+ * <pre> &#47;* w3c-file 0 *&#47;
+ * a { color: red; }
+ * &#47;* w3c-file 1 *&#47;
+ * p { margin: 0; }</pre>
+ *
+ * <p>Only stylesheets, which are {@link #sealed(String)}, may be
+ * concatenated; otherwise parse errors of one of them would change
+ * the way the server reads the next ones.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+final class CssBundle {
+
+    /**
+     * At-rules, which must come before all other rules of a stylesheet.
+     */
+    private static final String[] PREAMBLE = {
+        "@charset", "@import", "@namespace",
+    };
+
+    /**
+     * The stylesheets.
+     */
+    private final transient List<String> items;
+
+    /**
+     * Ctor.
+     * @param sheets The stylesheets
+     */
+    CssBundle(final List<String> sheets) {
+        this.items = new ArrayList<>(sheets);
+    }
+
+    /**
+     * Text of the concatenated stylesheet.
+     * @return CSS
+     */
+    String text() {
+        int length = 0;
+        for (final String item : this.items) {
+            length += item.length() + 24;
+        }
+        final StringBuilder text = new StringBuilder(length);
+        for (int idx = 0; idx < this.items.size(); ++idx) {
+            final String item = this.items.get(idx);
+            text.append("/* w3c-file ").append(idx).append(" */\n")
+                .append(item);
+            if (!item.endsWith("\n")) {
+                text.append('\n');
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Line ranges of stylesheets inside the concatenated one.
+     * @return Segments
+     */
+    Segments segments() {
+        return Segments.sentinels(1, this.items);
+    }
+
+    /**
+     * Can the stylesheet be concatenated with others, without affecting
+     * the way they are parsed.
+     *
+     * <p>The stylesheet is scanned once, character by character. It is
+     * sealed, if all its comments, strings, blocks, brackets and
+     * parentheses are closed, no string breaks a line, and it has no
+     * at-rules, which must come first in a stylesheet, such as
+     * {@code @charset} or {@code @import}.
+     *
+     * @param css The stylesheet
+     * @return TRUE if it may be concatenated
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    static boolean sealed(final String css) {
+        int depth = 0;
+        char quote = 0;
+        boolean comment = false;
+        boolean sealed = true;
+        int pos = 0;
+        while (sealed && pos < css.length()) {
+            final char chr = css.charAt(pos);
+            if (comment) {
+                if (chr == '*' && css.startsWith("/", pos + 1)) {
+                    comment = false;
+                    ++pos;
+                }
+            } else if (chr == '\\') {
+                ++pos;
+            } else if (quote != 0) {
+                if (chr == quote) {
+                    quote = 0;
+                } else if (chr == '\n' || chr == '\r') {
+                    sealed = false;
+                }
+            } else if (chr == '/' && css.startsWith("*", pos + 1)) {
+                comment = true;
+                ++pos;
+            } else if (chr == '"' || chr == '\'') {
+                quote = chr;
+            } else if (chr == '{' || chr == '(' || chr == '[') {
+                ++depth;
+            } else if (chr == '}' || chr == ')' || chr == ']') {
+                --depth;
+                sealed = depth >= 0;
+            } else if (chr == '@' && depth == 0) {
+                sealed = !CssBundle.preamble(css, pos);
+            }
+            ++pos;
+        }
+        return sealed && depth == 0 && quote == 0 && !comment
+            && pos <= css.length();
+    }
+
+    /**
+     * Is it an at-rule, which must come first in a stylesheet.
+     * @param css The stylesheet
+     * @param pos Position of the at sign
+     * @return TRUE if it is
+     */
+    static boolean preamble(final String css, final int pos) {
+        boolean found = false;
+        for (final String rule : CssBundle.PREAMBLE) {
+            if (css.regionMatches(true, pos, rule, 0, rule.length())) {
+                found = true;
+                break;
+            }
+        }
+        return found;
+    }
+}
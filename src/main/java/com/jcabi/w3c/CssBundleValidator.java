@@ -0,0 +1,169 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import lombok.ToString;
+
+/**
+ * Validator of small stylesheets, which sends many of them to another
+ * CSS validator in one request.
+ *
+ * <p>Stylesheets are queued and then concatenated into one stylesheet,
+ * each of them after its own sentinel comment. Defects of the bundle
+ * are given back to the stylesheets they were found in, by line number,
+ * and every stylesheet gets its own response, with lines counted from
+ * its first line:
+ *
+ * <pre> CssBundleValidator validator = new CssBundleValidator(
+ *   new ValidatorBuilder().css(), 64 * 1024, Duration.ofMillis(50L)
+ * );
+ * CompletableFuture&lt;ValidationResponse&gt; first =
+ *   validator.validateAsync("a { color: red; }");
+ * CompletableFuture&lt;ValidationResponse&gt; second =
+ *   validator.validateAsync("p { margin: 0; }");</pre>
+ *
+ * <p>The queue is sent when its stylesheets together reach the given
+ * number of characters, or when the time window is over since the first
+ * stylesheet was queued, whichever happens first. A failure of the
+ * request fails all stylesheets of the bundle.
+ *
+ * <p>A stylesheet with an unclosed comment, string, block or
+ * parenthesis would make the server misread the stylesheets after it,
+ * and {@code @charset}, {@code @import} or {@code @namespace} are only
+ * allowed at the top of a stylesheet. Such a stylesheet is detected
+ * before it is queued and is validated alone, in a request of its own,
+ * so its errors don't leak into other stylesheets. {@code JIGSAW}
+ * directives are processed for every stylesheet separately, as
+ * {@link Validator} explains.
+ *
+ * <p>The synchronous {@link #validate(String)} waits until the bundle
+ * with the stylesheet is validated, which takes at least the time
+ * window, unless the bundle fills up sooner.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 2.0
+ */
+@ToString(of = "origin")
+public final class CssBundleValidator implements Validator, AsyncValidator,
+    Closeable {
+
+    /**
+     * The CSS validator.
+     */
+    private final transient Validator origin;
+
+    /**
+     * Queue of stylesheets.
+     */
+    private final transient Batches batches;
+
+    /**
+     * Ctor.
+     * @param validator The CSS validator
+     */
+    public CssBundleValidator(final Validator validator) {
+        this(validator, 256 * 1024, Duration.ofMillis(50L));
+    }
+
+    /**
+     * Ctor.
+     * @param validator The CSS validator
+     * @param size Maximum number of characters in a bundle
+     * @param time Time window of a bundle
+     */
+    public CssBundleValidator(final Validator validator, final int size,
+        final Duration time) {
+        this(validator, size, time, VirtualThreads.executor());
+    }
+
+    /**
+     * Ctor.
+     * @param validator The CSS validator
+     * @param size Maximum number of characters in a bundle
+     * @param time Time window of a bundle
+     * @param exec Executor to validate bundles
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public CssBundleValidator(final Validator validator, final int size,
+        final Duration time, final Executor exec) {
+        this.origin = validator;
+        this.batches = new Batches(
+            batch -> CssBundleValidator.validated(validator, batch),
+            size, time.toMillis(), exec, "w3c-css-bundle"
+        );
+    }
+
+    @Override
+    public ValidationResponse validate(final String css) throws IOException {
+        return Futures.await(this.validateAsync(css), "the batch");
+    }
+
+    @Override
+    public CompletableFuture<ValidationResponse> validateAsync(
+        final String css) {
+        final CssDirectives directives = CssDirectives.scan(css);
+        final CompletableFuture<ValidationResponse> future;
+        if (directives.ignored()) {
+            future = CompletableFuture.completedFuture(
+                AbstractBaseValidator.success("")
+            );
+        } else if (CssBundle.sealed(directives.text())) {
+            future = this.batches.add(directives.text())
+                .thenApply(directives::translated);
+        } else {
+            future = this.batches.alone(directives.text())
+                .thenApply(directives::translated);
+        }
+        return future;
+    }
+
+    /**
+     * Send all queued stylesheets now, without waiting for the time window.
+     */
+    public void flush() {
+        this.batches.flush();
+    }
+
+    /**
+     * Send all queued stylesheets and stop the timer. Validations requested
+     * afterwards fail with {@link IOException}.
+     */
+    @Override
+    public void close() {
+        this.batches.close();
+    }
+
+    /**
+     * Validate the bundle, or a single stylesheet as is.
+     * @param validator The CSS validator
+     * @param batch Stylesheets
+     * @return Responses, one per stylesheet
+     * @throws IOException If fails
+     */
+    private static List<ValidationResponse> validated(
+        final Validator validator, final List<String> batch)
+        throws IOException {
+        final List<ValidationResponse> responses;
+        if (batch.size() == 1) {
+            responses = Collections.singletonList(
+                validator.validate(batch.get(0))
+            );
+        } else {
+            final CssBundle bundle = new CssBundle(batch);
+            responses = bundle.segments().split(
+                validator.validate(bundle.text())
+            );
+        }
+        return responses;
+    }
+}
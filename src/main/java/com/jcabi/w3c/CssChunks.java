@@ -0,0 +1,262 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stylesheet, split into chunks at the boundaries of top-level rules.
+ *
+ * <p>The stylesheet is scanned once, character by character, skipping
+ * comments and strings and counting nested blocks. A chunk ends right
+ * after the first top-level {@code }} or {@code ;} (and the line break
+ * after it, if any), once it has at least the given number of
+ * characters, so no rule is ever cut in two.
+ *
+ * <p>Leading {@code @charset}, {@code @import} and {@code @namespace}
+ * statements apply to the entire stylesheet, that's why they are
+ * repeated, on their own lines, at the top of every chunk but the first
+ * one. Defects found in these repeated lines are dropped, since the first
+ * chunk reports them already.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+final class CssChunks {
+
+    /**
+     * Texts of chunks, with the preamble.
+     */
+    private final transient List<String> texts;
+
+    /**
+     * Number of lines of the stylesheet before every chunk.
+     */
+    private final transient int[] offsets;
+
+    /**
+     * Number of preamble lines at the top of every chunk but the first.
+     */
+    private final transient int prefix;
+
+    /**
+     * Ctor.
+     * @param chunks Texts of chunks, with the preamble
+     * @param lines Number of lines of the stylesheet before every chunk
+     * @param extra Number of preamble lines at the top of chunks
+     */
+    private CssChunks(final List<String> chunks, final int[] lines,
+        final int extra) {
+        this.texts = chunks;
+        this.offsets = lines;
+        this.prefix = extra;
+    }
+
+    /**
+     * Split the stylesheet.
+     * @param css The stylesheet
+     * @param size Minimum number of characters in a chunk
+     * @return Chunks
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    static CssChunks split(final String css, final int size) {
+        final List<Integer> cuts = new ArrayList<>(16);
+        final List<Integer> lines = new ArrayList<>(16);
+        int depth = 0;
+        char quote = 0;
+        boolean comment = false;
+        boolean rules = false;
+        int preamble = 0;
+        int start = 0;
+        int line = 0;
+        int pos = 0;
+        while (pos < css.length()) {
+            final char chr = css.charAt(pos);
+            if (chr == '\n') {
+                ++line;
+            }
+            boolean boundary = false;
+            if (comment) {
+                if (chr == '*' && css.startsWith("/", pos + 1)) {
+                    comment = false;
+                    ++pos;
+                }
+            } else if (chr == '\\') {
+                if (css.startsWith("\n", pos + 1)) {
+                    ++line;
+                }
+                ++pos;
+            } else if (quote != 0) {
+                if (chr == quote || chr == '\n') {
+                    quote = 0;
+                }
+            } else if (chr == '/' && css.startsWith("*", pos + 1)) {
+                comment = true;
+                ++pos;
+            } else if (chr == '"' || chr == '\'') {
+                quote = chr;
+            } else if (chr == '{') {
+                rules = true;
+                ++depth;
+            } else if (chr == '}') {
+                depth = Math.max(depth - 1, 0);
+                boundary = depth == 0;
+            } else if (chr == ';' && depth == 0) {
+                boundary = true;
+                if (!rules) {
+                    preamble = pos + 1;
+                }
+            } else if (chr == '@' && depth == 0 && !rules) {
+                rules = !CssBundle.preamble(css, pos);
+            }
+            if (boundary && rules && pos + 1 - start >= size) {
+                start = CssChunks.eol(css, pos + 1);
+                cuts.add(start);
+                lines.add(line + Segments.lines(css.substring(pos, start)));
+            }
+            ++pos;
+        }
+        return CssChunks.chunks(css, cuts, lines, preamble);
+    }
+
+    /**
+     * Texts of chunks.
+     * @return Stylesheets to validate
+     */
+    List<String> texts() {
+        return this.texts;
+    }
+
+    /**
+     * Merge responses of chunks into the response of the stylesheet.
+     * @param responses Responses, one per chunk, in the same order
+     * @return Response of the entire stylesheet
+     */
+    ValidationResponse merged(final List<ValidationResponse> responses) {
+        final ResponseBuilder merged = new ResponseBuilder();
+        boolean valid = true;
+        for (int idx = 0; idx < responses.size(); ++idx) {
+            final ValidationResponse response = responses.get(idx);
+            valid = valid && response.valid();
+            for (final Defect error : response.errors()) {
+                if (this.own(idx, error)) {
+                    merged.error(this.translated(idx, error));
+                }
+            }
+            for (final Defect warning : response.warnings()) {
+                if (this.own(idx, warning)) {
+                    merged.warning(this.translated(idx, warning));
+                }
+            }
+        }
+        final ValidationResponse first = responses.get(0);
+        return merged.build(
+            valid, first.checkedBy(), first.doctype(), first.charset()
+        );
+    }
+
+    /**
+     * Is the defect found in the chunk itself, not in its repeated
+     * preamble.
+     * @param chunk Position of the chunk
+     * @param defect The defect
+     * @return TRUE if it is
+     */
+    private boolean own(final int chunk, final Defect defect) {
+        return chunk == 0 || defect.line() <= 0
+            || defect.line() > this.prefix;
+    }
+
+    /**
+     * Translate the defect into the lines of the stylesheet.
+     * @param chunk Position of the chunk
+     * @param defect The defect
+     * @return New defect
+     */
+    private Defect translated(final int chunk, final Defect defect) {
+        final int shift;
+        if (chunk == 0) {
+            shift = 0;
+        } else {
+            shift = this.offsets[chunk] - this.prefix;
+        }
+        return Responses.translated(
+            defect,
+            line -> {
+                final int result;
+                if (line <= 0) {
+                    result = line;
+                } else {
+                    result = line + shift;
+                }
+                return result;
+            }
+        );
+    }
+
+    /**
+     * Skip the line break right after the position, if there is one.
+     * @param css The stylesheet
+     * @param pos The position
+     * @return Position after the line break, or the same position
+     */
+    private static int eol(final String css, final int pos) {
+        final int end;
+        if (css.startsWith("\r\n", pos)) {
+            end = pos + 2;
+        } else if (css.startsWith("\n", pos)) {
+            end = pos + 1;
+        } else {
+            end = pos;
+        }
+        return end;
+    }
+
+    /**
+     * Make chunks.
+     * @param css The stylesheet
+     * @param cuts Positions, where chunks end, except the last one
+     * @param lines Number of lines before every cut
+     * @param preamble Position, where the preamble ends
+     * @return Chunks
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static CssChunks chunks(final String css,
+        final List<Integer> cuts, final List<Integer> lines,
+        final int preamble) {
+        if (cuts.isEmpty()) {
+            cuts.add(css.length());
+        } else if (css.substring(cuts.get(cuts.size() - 1)).trim().isEmpty()) {
+            cuts.set(cuts.size() - 1, css.length());
+        } else {
+            cuts.add(css.length());
+        }
+        final String head;
+        final int extra;
+        if (preamble > 0) {
+            head = css.substring(0, preamble).concat("\n");
+            extra = Segments.lines(head);
+        } else {
+            head = "";
+            extra = 0;
+        }
+        final List<String> texts = new ArrayList<>(cuts.size());
+        final int[] offsets = new int[cuts.size()];
+        int start = 0;
+        for (int idx = 0; idx < cuts.size(); ++idx) {
+            final String text = css.substring(start, cuts.get(idx));
+            if (idx == 0) {
+                texts.add(text);
+            } else {
+                texts.add(head.concat(text));
+                offsets[idx] = lines.get(idx - 1);
+            }
+            start = cuts.get(idx);
+        }
+        return new CssChunks(texts, offsets, extra);
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.util.Arrays;
+
+/**
+ * Stylesheet with {@code JIGSAW} directives processed.
+ *
+ * <p>A line, which ends with a {@code JIGSAW: ...} comment, is removed
+ * from the stylesheet before validation. A line with nothing but
+ * {@code JIGSAW IGNORE: ...} comment makes the entire stylesheet valid,
+ * without validation. See {@link Validator} for details.
+ *
+ * <p>The stylesheet is scanned once, line by line, without regular
+ * expressions. Since lines are removed, line numbers reported
+ * by Jigsaw don't match the original stylesheet anymore;
+ * use {@link #line(int)} to translate them back.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+final class CssDirectives {
+
+    /**
+     * Opening of the directive, which removes the line.
+     */
+    private static final String SKIP = "/* JIGSAW: ";
+
+    /**
+     * Opening of the directive, which ignores the stylesheet.
+     */
+    private static final String IGNORE = "/* JIGSAW IGNORE: ";
+
+    /**
+     * Closing of a comment.
+     */
+    private static final String CLOSE = "*/";
+
+    /**
+     * The stylesheet to validate.
+     */
+    private final transient String css;
+
+    /**
+     * Number of lines kept before every removed line, in ascending order.
+     */
+    private final transient int[] removed;
+
+    /**
+     * The entire stylesheet must be ignored.
+     */
+    private final transient boolean ignore;
+
+    /**
+     * Ctor.
+     * @param text The stylesheet to validate
+     * @param lines Number of lines kept before every removed line
+     * @param skip The entire stylesheet must be ignored
+     */
+    private CssDirectives(final String text, final int[] lines,
+        final boolean skip) {
+        this.css = text;
+        this.removed = lines;
+        this.ignore = skip;
+    }
+
+    /**
+     * Process directives of the stylesheet.
+     * @param css The stylesheet
+     * @return Processed stylesheet
+     */
+    static CssDirectives scan(final String css) {
+        final StringBuilder text = new StringBuilder(0);
+        int[] removed = new int[16];
+        int total = 0;
+        int kept = 0;
+        boolean skip = false;
+        int start = 0;
+        while (!skip && start < css.length()) {
+            int end = css.indexOf('\n', start);
+            if (end < 0) {
+                end = css.length();
+            }
+            if (CssDirectives.ignores(css, start, end)) {
+                skip = true;
+            } else if (CssDirectives.skips(css, start, end)) {
+                if (total == 0) {
+                    text.ensureCapacity(css.length());
+                    text.append(css, 0, start);
+                }
+                if (total == removed.length) {
+                    removed = Arrays.copyOf(removed, total << 1);
+                }
+                removed[total] = kept;
+                ++total;
+            } else {
+                if (total > 0) {
+                    text.append(css, start, Math.min(end + 1, css.length()));
+                }
+                ++kept;
+            }
+            start = end + 1;
+        }
+        final CssDirectives directives;
+        if (total == 0) {
+            directives = new CssDirectives(css, new int[0], skip);
+        } else {
+            directives = new CssDirectives(
+                text.toString(), Arrays.copyOf(removed, total), skip
+            );
+        }
+        return directives;
+    }
+
+    /**
+     * The entire stylesheet must be ignored and reported as valid.
+     * @return TRUE if it has {@code JIGSAW IGNORE} directive
+     */
+    boolean ignored() {
+        return this.ignore;
+    }
+
+    /**
+     * The stylesheet to validate, without removed lines.
+     * @return The stylesheet
+     */
+    String text() {
+        return this.css;
+    }
+
+    /**
+     * Translate a number of line in {@link #text()} to the number
+     * of line in the original stylesheet.
+     * @param line Number of line, starting from one
+     * @return Number of line in the original stylesheet
+     */
+    int line(final int line) {
+        final int result;
+        if (line < 1) {
+            result = line;
+        } else {
+            result = line + CssDirectives.before(this.removed, line);
+        }
+        return result;
+    }
+
+    /**
+     * Translate line numbers of all defects in the response.
+     * @param response Response for {@link #text()}
+     * @return Response for the original stylesheet
+     */
+    ValidationResponse translated(final ValidationResponse response) {
+        final ValidationResponse result;
+        if (this.removed.length == 0) {
+            result = response;
+        } else {
+            result = Responses.translated(response, this::line);
+        }
+        return result;
+    }
+
+    /**
+     * Make a listener, which translates line numbers of defects found
+     * in {@link #text()} back to lines of the original stylesheet.
+     * @param listener The listener to give defects to
+     * @return The listener
+     */
+    DefectListener translated(final DefectListener listener) {
+        final DefectListener result;
+        if (this.removed.length == 0) {
+            result = listener;
+        } else {
+            result = Responses.translated(listener, this::line);
+        }
+        return result;
+    }
+
+    /**
+     * How many lines were removed before the line.
+     * @param removed Number of lines kept before every removed line
+     * @param line Number of line, starting from one
+     * @return How many lines were removed
+     */
+    private static int before(final int[] removed, final int line) {
+        int low = 0;
+        int high = removed.length;
+        while (low < high) {
+            final int mid = low + high >>> 1;
+            if (removed[mid] < line) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * The line is {@code JIGSAW IGNORE} directive.
+     * @param css The stylesheet
+     * @param start Start of the line
+     * @param end End of the line, exclusive
+     * @return TRUE if it is
+     */
+    private static boolean ignores(final String css, final int start,
+        final int end) {
+        final int first = CssDirectives.first(css, start, end);
+        final int last = CssDirectives.last(css, start, end);
+        return CssDirectives.comment(css, first, last, CssDirectives.IGNORE);
+    }
+
+    /**
+     * The line ends with {@code JIGSAW} directive.
+     * @param css The stylesheet
+     * @param start Start of the line
+     * @param end End of the line, exclusive
+     * @return TRUE if it is
+     */
+    private static boolean skips(final String css, final int start,
+        final int end) {
+        final int last = CssDirectives.last(css, start, end);
+        boolean skips = false;
+        if (last - start > CssDirectives.SKIP.length()
+            && css.startsWith(CssDirectives.CLOSE, last - 2)) {
+            int open = last - 3;
+            while (open >= start && !css.startsWith("/*", open)) {
+                --open;
+            }
+            skips = open >= start && CssDirectives.comment(
+                css, open, last, CssDirectives.SKIP
+            );
+        }
+        return skips;
+    }
+
+    /**
+     * There is a non-empty comment with the given opening between
+     * the positions.
+     * @param css The stylesheet
+     * @param start Where the comment starts
+     * @param end Where the comment ends, exclusive
+     * @param opening The opening of the comment
+     * @return TRUE if it is there
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static boolean comment(final String css, final int start,
+        final int end, final String opening) {
+        return end - start > opening.length() + CssDirectives.CLOSE.length()
+            && css.startsWith(opening, start)
+            && css.startsWith(CssDirectives.CLOSE, end - 2);
+    }
+
+    /**
+     * Position of the first non-whitespace character of the line.
+     * @param css The stylesheet
+     * @param start Start of the line
+     * @param end End of the line, exclusive
+     * @return Position
+     */
+    private static int first(final String css, final int start,
+        final int end) {
+        int pos = start;
+        while (pos < end && Character.isWhitespace(css.charAt(pos))) {
+            ++pos;
+        }
+        return pos;
+    }
+
+    /**
+     * Position after the last non-whitespace character of the line.
+     * @param css The stylesheet
+     * @param start Start of the line
+     * @param end End of the line, exclusive
+     * @return Position
+     */
+    private static int last(final String css, final int start,
+        final int end) {
+        int pos = end;
+        while (pos > start && Character.isWhitespace(css.charAt(pos - 1))) {
+            --pos;
+        }
+        return pos;
+    }
+}
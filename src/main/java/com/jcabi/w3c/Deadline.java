@@ -0,0 +1,184 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Moment in time, by which the validation of the current thread must
+ * be finished.
+ *
+ * <p>The deadline is set by {@link DeadlineValidator} for the duration
+ * of one validation and is seen by all layers below it in the same
+ * thread: transports cut their HTTP timeouts to what is left of it
+ * and refuse to send anything when nothing is left. Nested deadlines
+ * never extend outer ones. Validations, which hop to other threads,
+ * take the deadline of the caller with them, see
+ * {@link #within(Optional, Deadline.Action)}, and the caller doesn't
+ * wait for them longer than it, see {@link Futures}.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+final class Deadline {
+
+    /**
+     * Deadline of the current thread.
+     */
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    /**
+     * The moment, in terms of {@link System#nanoTime()}.
+     */
+    private final transient long moment;
+
+    /**
+     * Ctor.
+     * @param budget Time from now
+     */
+    Deadline(final Duration budget) {
+        this(System.nanoTime() + budget.toNanos());
+    }
+
+    /**
+     * Ctor.
+     * @param nanos The moment, in terms of {@link System#nanoTime()}
+     */
+    private Deadline(final long nanos) {
+        this.moment = nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%dms left", this.left() / 1_000_000L);
+    }
+
+    /**
+     * Run the action with this deadline in the current thread, unless
+     * there is an earlier one already.
+     * @param action The action
+     * @param <T> Type of result
+     * @return The result of the action
+     * @throws IOException If fails
+     */
+    <T> T within(final Deadline.Action<T> action) throws IOException {
+        final Deadline before = Deadline.CURRENT.get();
+        if (before == null || this.moment - before.moment < 0L) {
+            Deadline.CURRENT.set(this);
+        }
+        try {
+            return action.run();
+        } finally {
+            if (before == null) {
+                Deadline.CURRENT.remove();
+            } else {
+                Deadline.CURRENT.set(before);
+            }
+        }
+    }
+
+    /**
+     * Is this deadline later than the other one.
+     * @param other The other deadline
+     * @return TRUE if it is later
+     */
+    boolean after(final Deadline other) {
+        return this.moment - other.moment > 0L;
+    }
+
+    /**
+     * Time left till the deadline.
+     * @return Nanoseconds, zero or negative if it is already missed
+     */
+    long left() {
+        return this.moment - System.nanoTime();
+    }
+
+    /**
+     * Deadline of the current thread.
+     * @return The deadline, if there is any
+     */
+    static Optional<Deadline> current() {
+        return Optional.ofNullable(Deadline.CURRENT.get());
+    }
+
+    /**
+     * Run the action in the current thread with the deadline, captured
+     * by {@link #current()} in another thread, if there was any.
+     * @param deadline The deadline, if there is any
+     * @param action The action
+     * @param <T> Type of result
+     * @return The result of the action
+     * @throws IOException If fails
+     */
+    static <T> T within(final Optional<Deadline> deadline,
+        final Deadline.Action<T> action) throws IOException {
+        final T result;
+        if (deadline.isPresent()) {
+            result = deadline.get().within(action);
+        } else {
+            result = action.run();
+        }
+        return result;
+    }
+
+    /**
+     * Timeout of an operation, which must not go over the deadline
+     * of the current thread.
+     * @param max The timeout, if there is enough time
+     * @return The timeout, which is never longer than time left
+     * @throws InterruptedIOException If the deadline is already missed
+     */
+    static Duration timeout(final Duration max) throws InterruptedIOException {
+        final Optional<Deadline> deadline = Deadline.current();
+        Duration timeout = max;
+        if (deadline.isPresent()) {
+            final long left = deadline.get().left();
+            if (left <= 0L) {
+                throw new InterruptedIOException(
+                    String.format(
+                        "Deadline missed by %dms", -left / 1_000_000L
+                    )
+                );
+            }
+            if (left < max.toNanos()) {
+                timeout = Duration.ofNanos(left);
+            }
+        }
+        return timeout;
+    }
+
+    /**
+     * Was the operation cancelled by the client, rather than failed
+     * by the server or the connection.
+     * @param error What was thrown
+     * @return TRUE if interrupted or the deadline of the thread is missed
+     */
+    static boolean cancelled(final IOException error) {
+        return Thread.currentThread().isInterrupted()
+            || (error instanceof InterruptedIOException
+            && !(error instanceof SocketTimeoutException))
+            || Deadline.current().map(dln -> dln.left() <= 0L).orElse(false);
+    }
+
+    /**
+     * Action to run within a deadline.
+     * @param <T> Type of result
+     * @since 2.0
+     */
+    interface Action<T> {
+        /**
+         * Run it.
+         * @return The result
+         * @throws IOException If fails
+         */
+        T run() throws IOException;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.ToString;
+
+/**
+ * Validator, which gives every validation a time budget.
+ *
+ * <p>The budget is enforced down to the HTTP layer: {@link PooledTransport}
+ * and {@link JdkTransport} cut their timeouts to what is left of it,
+ * {@link LimitedTransport} stops waiting for its turn when it is over, and
+ * {@link HedgedValidator} gives up on both attempts. When the budget is
+ * over, {@link java.io.InterruptedIOException} is thrown:
+ *
+ * <pre> Validator validator = new DeadlineValidator(
+ *   new ValidatorBuilder().html(uri, new PooledTransport()),
+ *   Duration.ofSeconds(5)
+ * );</pre>
+ *
+ * <p>The budget covers everything till the headers of the HTTP response
+ * are received; the body of the response is not limited. Budgets of
+ * nested validators never extend the budget of the outer one.
+ *
+ * <p>The class is thread-safe, if the origin is thread-safe.
+ *
+ * @since 2.0
+ */
+@ToString(of = "budget")
+public final class DeadlineValidator implements Validator {
+
+    /**
+     * The validator to ask.
+     */
+    private final transient Validator origin;
+
+    /**
+     * Time budget of every validation.
+     */
+    private final transient Duration budget;
+
+    /**
+     * Ctor.
+     * @param validator The validator to ask
+     * @param time Time budget of every validation
+     */
+    public DeadlineValidator(final Validator validator, final Duration time) {
+        this.origin = validator;
+        this.budget = time;
+    }
+
+    @Override
+    public ValidationResponse validate(final String content)
+        throws IOException {
+        return new Deadline(this.budget).within(
+            () -> this.origin.validate(content)
+        );
+    }
+
+    @Override
+    public ValidationResponse validate(final Path file) throws IOException {
+        return new Deadline(this.budget).within(
+            () -> this.origin.validate(file)
+        );
+    }
+
+    @Override
+    public ValidationResponse validate(final InputStream input,
+        final Charset charset) throws IOException {
+        return new Deadline(this.budget).within(
+            () -> this.origin.validate(input, charset)
+        );
+    }
+
+    @Override
+    public ValidationResponse validate(final ByteBuffer buffer,
+        final Charset charset) throws IOException {
+        return new Deadline(this.budget).within(
+            () -> this.origin.validate(buffer, charset)
+        );
+    }
+}
@@ -4,22 +4,11 @@
  */
 package com.jcabi.w3c;
 
-import com.jcabi.aspects.Immutable;
-import com.jcabi.http.Request;
-import com.jcabi.http.Response;
-import com.jcabi.http.request.JdkRequest;
-import com.jcabi.http.response.XmlResponse;
 import com.jcabi.log.Logger;
-import com.jcabi.xml.XML;
 import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.URI;
-import java.util.Arrays;
-import java.util.List;
-import java.util.regex.Pattern;
-import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
-import javax.ws.rs.core.UriBuilder;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
@@ -28,39 +17,84 @@ import lombok.ToString;
  * @see <a href="http://jigsaw.w3.org/css-validator/api.html">W3C API</a>
  * @since 0.1
  */
-@Immutable
 @ToString
 @EqualsAndHashCode(callSuper = false, of = "uri")
 final class DefaultCssValidator
     extends AbstractBaseValidator implements Validator {
 
+    /**
+     * The form to send stylesheets in.
+     */
+    private static final MultipartBody FORM = new MultipartBody(
+        "file", "text/css", AbstractBaseValidator.BOUNDARY
+    );
+
     /**
      * The URI to use in W3C.
      */
     private final transient String uri;
 
+    /**
+     * Transport to deliver documents.
+     */
+    private final transient Transport transport;
+
+    /**
+     * Metrics to report to.
+     */
+    private final transient Metrics metrics;
+
     /**
      * Public ctor.
      * @param entry Entry point to use
      */
-    // @checkstyle ConstructorsCodeFreeCheck (5 lines)
     DefaultCssValidator(final URI entry) {
+        this(entry, new JdkTransport());
+    }
+
+    /**
+     * Public ctor.
+     * @param entry Entry point to use
+     * @param trnsprt Transport to deliver documents
+     */
+    DefaultCssValidator(final URI entry, final Transport trnsprt) {
+        this(entry, trnsprt, new NoMetrics());
+    }
+
+    /**
+     * Public ctor.
+     * @param entry Entry point to use
+     * @param trnsprt Transport to deliver documents
+     * @param mtrcs Metrics to report to
+     */
+    // @checkstyle ConstructorsCodeFreeCheck (7 lines)
+    DefaultCssValidator(final URI entry, final Transport trnsprt,
+        final Metrics mtrcs) {
         super();
         this.uri = entry.toString();
+        this.transport = trnsprt;
+        this.metrics = mtrcs;
     }
 
     @Override
     public ValidationResponse validate(final String css) throws IOException {
+        return this.validate(css, defect -> true);
+    }
+
+    @Override
+    public ValidationResponse validate(final String css,
+        final DefectListener listener) throws IOException {
         final ValidationResponse response;
-        final Pattern pattern = Pattern.compile(
-            ".*^/\\* JIGSAW IGNORE: [^\\n]+\\*/$.*",
-            Pattern.MULTILINE | Pattern.DOTALL
-        );
+        final CssDirectives directives = CssDirectives.scan(css);
         try {
-            if (pattern.matcher(css).matches()) {
+            if (directives.ignored()) {
                 response = AbstractBaseValidator.success("");
             } else {
-                response = this.processed(css);
+                response = directives.translated(
+                    this.processed(
+                        directives.text(), directives.translated(listener)
+                    )
+                );
             }
         } catch (final IllegalArgumentException ex) {
             throw new IOException(ex);
@@ -71,125 +105,61 @@ final class DefaultCssValidator
     /**
      * Return a response after real processing of the CSS.
      * @param css The CSS stylesheet to check
+     * @param listener Listener of defects
      * @return The response
      * @throws IOException if fails
      */
-    private ValidationResponse processed(final String css) throws IOException {
-        return DefaultCssValidator.build(
-            DefaultCssValidator.correct(
-                this.request(
-                    AbstractBaseValidator.entity(
-                        "file", DefaultCssValidator.filter(css), "text/css"
+    private ValidationResponse processed(final String css,
+        final DefectListener listener) throws IOException {
+        final long start = System.nanoTime();
+        try {
+            final byte[] body = DefaultCssValidator.FORM.encode(css);
+            final long encoded = System.nanoTime();
+            this.metrics.latency(Metrics.Phase.ENCODE, encoded - start);
+            this.metrics.request(body.length);
+            try (Reply reply = this.transport.post(
+                URI.create(this.uri),
+                AbstractBaseValidator.headers(
+                    "application/soap+xml",
+                    Logger.format(
+                        "%s; boundary=%s",
+                        MediaType.MULTIPART_FORM_DATA,
+                        AbstractBaseValidator.BOUNDARY
                     )
-                ).fetch()
-            ).as(XmlResponse.class)
-                .registerNs("env", "http://www.w3.org/2003/05/soap-envelope")
-                .registerNs("m", "http://www.w3.org/2005/07/css-validator")
-                .assertXPath("//m:validity")
-                .assertXPath("//m:checkedby")
-                .xml()
-        );
-    }
-
-    /**
-     * Send request and return response.
-     * @param entity The entity to POST
-     * @return The response
-     */
-    private Request request(final String entity) {
-        return new JdkRequest(this.uri)
-            .method(Request.POST)
-            .body().set(entity).back()
-            .header(HttpHeaders.USER_AGENT, AbstractBaseValidator.USER_AGENT)
-            .header(HttpHeaders.ACCEPT, "application/soap+xml").header(
-                HttpHeaders.CONTENT_TYPE,
-                Logger.format(
-                    "%s; boundary=%s",
-                    MediaType.MULTIPART_FORM_DATA,
-                    AbstractBaseValidator.BOUNDARY
-                )
-            );
-    }
-
-    /**
-     * Build response from XML.
-     * @param soap The response
-     * @return The validation response just built
-     */
-    private static ValidationResponse build(final XML soap) {
-        final DefaultValidationResponse resp = new DefaultValidationResponse(
-            "true".equals(
-                AbstractBaseValidator.textOf(soap.xpath("//m:validity/text()"))
-            ),
-            UriBuilder.fromUri(
-                AbstractBaseValidator.textOf(soap.xpath("//m:checkedby/text()"))
-            ).build(),
-            AbstractBaseValidator.textOf(soap.xpath("//m:doctype/text()")),
-            AbstractBaseValidator.charset(
-                AbstractBaseValidator.textOf(soap.xpath("//m:charset/text()"))
-            )
-        );
-        for (final XML node : soap.nodes("//m:error")) {
-            resp.addError(DefaultCssValidator.defect(node));
-        }
-        for (final XML node : soap.nodes("//m:warning")) {
-            resp.addWarning(DefaultCssValidator.defect(node));
+                ),
+                body
+            )) {
+                final long fetched = System.nanoTime();
+                this.metrics.latency(Metrics.Phase.FETCH, fetched - encoded);
+                this.metrics.status(reply.status());
+                return AbstractBaseValidator.parsed(
+                    new SoapParser(), DefaultCssValidator.correct(reply),
+                    this.metrics, fetched, listener
+                );
+            }
+        } catch (final IOException | RuntimeException ex) {
+            this.metrics.failure(ex);
+            throw ex;
         }
-        return resp;
-    }
-
-    /**
-     * Convert SOAP node to defect.
-     * @param node The node
-     * @return The defect
-     */
-    private static Defect defect(final XML node) {
-        return new Defect(
-            AbstractBaseValidator.intOf(node.xpath("m:line/text()")),
-            AbstractBaseValidator.intOf(node.xpath("m:col/text()")),
-            AbstractBaseValidator.textOf(node.xpath("m:source/text()")),
-            AbstractBaseValidator.textOf(node.xpath("m:explanation/text()")),
-            AbstractBaseValidator.textOf(node.xpath("m:messageid/text()")),
-            AbstractBaseValidator.textOf(node.xpath("m:message/text()"))
-        );
     }
 
     /**
-     * Check if response from W3C contains some bad status.
-     * @param response Response from W3c
-     * @return Response passed as parameter
+     * Check if response from W3C contains some bad status, any 4xx
+     * or 5xx one.
+     * @param reply Reply from W3c
+     * @return Reply passed as parameter
      * @throws IOException when has some bad status
      */
-    private static Response correct(final Response response)
-        throws IOException {
-        final List<Integer> statuses = Arrays.asList(
-            HttpURLConnection.HTTP_INTERNAL_ERROR,
-            HttpURLConnection.HTTP_NOT_IMPLEMENTED,
-            HttpURLConnection.HTTP_BAD_GATEWAY,
-            HttpURLConnection.HTTP_UNAVAILABLE,
-            HttpURLConnection.HTTP_GATEWAY_TIMEOUT,
-            HttpURLConnection.HTTP_VERSION
-        );
-        if (statuses.contains(response.status())) {
-            throw new IOException(
+    private static Reply correct(final Reply reply) throws IOException {
+        if (reply.status() >= HttpURLConnection.HTTP_BAD_REQUEST) {
+            throw new StatusException(
+                reply.status(),
                 String.format(
                     "Bad status from W3C server: %1d",
-                    response.status()
+                    reply.status()
                 )
             );
         }
-        return response;
-    }
-
-    /**
-     * Exclude problematic lines from CSS.
-     * @param css The css document
-     * @return New document, with lines excluded
-     */
-    private static String filter(final String css) {
-        return Pattern.compile(
-            "^/\\* JIGSAW: [^\\n]+\\*/$",
-            Pattern.MULTILINE | Pattern.DOTALL
-        ).matcher(css).replaceAll("");
+        return reply;
     }
 }
@@ -4,125 +4,237 @@
  */
 package com.jcabi.w3c;
 
-import com.jcabi.aspects.Immutable;
-import com.jcabi.http.Request;
-import com.jcabi.http.Response;
-import com.jcabi.http.request.JdkRequest;
-import com.jcabi.http.response.XmlResponse;
 import com.jcabi.log.Logger;
-import com.jcabi.xml.XML;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
-import javax.ws.rs.core.HttpHeaders;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
 import javax.ws.rs.core.MediaType;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
 /**
  * Implementation of (X)HTML validator.
+ *
+ * <p>Documents in streams, buffers and files are sent as they are,
+ * without decoding, and files bigger than a megabyte are mapped
+ * into memory. With {@link PooledTransport} they are streamed
+ * to the server, with chunked transfer encoding. With the default
+ * {@link JdkTransport} they are read into a byte array first.
+ *
  * @see <a href="http://validator.w3.org/docs/api.html">W3C API</a>
  * @since 0.1
  */
-@Immutable
 @ToString
 @EqualsAndHashCode(callSuper = false, of = "uri")
 final class DefaultHtmlValidator
     extends AbstractBaseValidator implements Validator {
 
+    /**
+     * Files bigger than this, in bytes, are mapped into memory,
+     * instead of reading them.
+     */
+    private static final long MAPPED = 1L << 20;
+
     /**
      * The URI to use in W3C.
      */
     private final transient String uri;
 
+    /**
+     * Parser of responses.
+     */
+    private final transient ResponseParser parser;
+
+    /**
+     * Transport to deliver documents.
+     */
+    private final transient Transport transport;
+
+    /**
+     * Metrics to report to.
+     */
+    private final transient Metrics metrics;
+
     /**
      * Public ctor.
      * @param entry Entry point to use
      */
-    // @checkstyle ConstructorsCodeFreeCheck (5 lines)
     DefaultHtmlValidator(final URI entry) {
+        this(entry, new NuParser(entry));
+    }
+
+    /**
+     * Public ctor.
+     * @param entry Entry point to use
+     * @param prsr Parser of responses, which must match the output
+     *  format requested in the URI
+     */
+    DefaultHtmlValidator(final URI entry, final ResponseParser prsr) {
+        this(entry, prsr, new JdkTransport());
+    }
+
+    /**
+     * Public ctor.
+     * @param entry Entry point to use
+     * @param prsr Parser of responses, which must match the output
+     *  format requested in the URI
+     * @param trnsprt Transport to deliver documents
+     */
+    DefaultHtmlValidator(final URI entry, final ResponseParser prsr,
+        final Transport trnsprt) {
+        this(entry, prsr, trnsprt, new NoMetrics());
+    }
+
+    /**
+     * Public ctor.
+     * @param entry Entry point to use
+     * @param prsr Parser of responses, which must match the output
+     *  format requested in the URI
+     * @param trnsprt Transport to deliver documents
+     * @param mtrcs Metrics to report to
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    // @checkstyle ConstructorsCodeFreeCheck (7 lines)
+    DefaultHtmlValidator(final URI entry, final ResponseParser prsr,
+        final Transport trnsprt, final Metrics mtrcs) {
         super();
         this.uri = entry.toString();
+        this.parser = prsr;
+        this.transport = trnsprt;
+        this.metrics = mtrcs;
     }
 
     @Override
     public ValidationResponse validate(final String html) throws IOException {
-        final Request req = this.request(html);
-        final Response response = req.fetch();
-        if (response.status() != HttpURLConnection.HTTP_OK) {
-            throw new IOException(
-                response.reason()
+        return this.validate(html, defect -> true);
+    }
+
+    @Override
+    public ValidationResponse validate(final String html,
+        final DefectListener listener) throws IOException {
+        final long start = System.nanoTime();
+        final byte[] body = html.getBytes(StandardCharsets.UTF_8);
+        this.metrics.latency(Metrics.Phase.ENCODE, System.nanoTime() - start);
+        return this.posted(body, StandardCharsets.UTF_8, listener);
+    }
+
+    @Override
+    public ValidationResponse validate(final Path file) throws IOException {
+        final ValidationResponse response;
+        if (Files.size(file) > DefaultHtmlValidator.MAPPED) {
+            try (FileChannel channel = FileChannel.open(file)) {
+                response = this.validate(
+                    channel.map(
+                        FileChannel.MapMode.READ_ONLY, 0L, channel.size()
+                    ),
+                    StandardCharsets.UTF_8
+                );
+            }
+        } else {
+            response = this.posted(
+                Files.readAllBytes(file), StandardCharsets.UTF_8,
+                defect -> true
             );
         }
-        return this.build(
-            response.as(XmlResponse.class)
-                .registerNs("nu", "http://n.validator.nu/messages/")
-                .assertXPath("//nu:messages")
-                .assertXPath("//nu:source")
-                .xml()
-        );
+        return response;
+    }
+
+    @Override
+    public ValidationResponse validate(final InputStream input,
+        final Charset charset) throws IOException {
+        return this.streamed(input, charset);
+    }
+
+    @Override
+    public ValidationResponse validate(final ByteBuffer buffer,
+        final Charset charset) throws IOException {
+        return this.streamed(new BufferStream(buffer), charset);
     }
 
     /**
-     * Send request and return response.
-     * @param entity The entity to POST
+     * POST the document and parse the response.
+     * @param body The document
+     * @param charset Its encoding
+     * @param listener Listener of defects
      * @return The response
+     * @throws IOException If fails
      */
-    private Request request(final String entity) {
-        return new JdkRequest(this.uri)
-            .method(Request.POST)
-            .body().set(entity).back()
-            .header(HttpHeaders.USER_AGENT, AbstractBaseValidator.USER_AGENT)
-            .header(HttpHeaders.ACCEPT, MediaType.TEXT_HTML).header(
-                HttpHeaders.CONTENT_TYPE,
-                Logger.format(
-                    "%s; charset=%s",
-                    MediaType.TEXT_HTML,
-                    StandardCharsets.UTF_8
-                )
-            );
+    private ValidationResponse posted(final byte[] body,
+        final Charset charset, final DefectListener listener)
+        throws IOException {
+        this.metrics.request(body.length);
+        final long start = System.nanoTime();
+        try (Reply reply = this.transport.post(
+            URI.create(this.uri), DefaultHtmlValidator.headers(charset), body
+        )) {
+            return this.response(reply, start, listener);
+        } catch (final IOException | RuntimeException ex) {
+            this.metrics.failure(ex);
+            throw ex;
+        }
     }
 
     /**
-     * Build response from XML.
-     * @param xml The response
-     * @return The validation response just built
+     * POST the document, while reading it from the stream,
+     * and parse the response.
+     * @param input The document
+     * @param charset Its encoding
+     * @return The response
+     * @throws IOException If fails
      */
-    private ValidationResponse build(final XML xml) {
-        final List<XML> errors = xml.nodes("//nu:error");
-        final List<XML> warnings = xml.nodes("//nu:info");
-        final DefaultValidationResponse resp = new DefaultValidationResponse(
-            errors.isEmpty() && warnings.isEmpty(),
-            URI.create(this.uri),
-            AbstractBaseValidator.textOf(xml.xpath("//nu:source/@type")),
-            AbstractBaseValidator.charset(
-                AbstractBaseValidator.textOf(xml.xpath("//nu:source/@encoding"))
-            )
-        );
-        for (final XML node : errors) {
-            resp.addError(DefaultHtmlValidator.defect(node));
+    private ValidationResponse streamed(final InputStream input,
+        final Charset charset) throws IOException {
+        final CountingStream body = new CountingStream(input);
+        final long start = System.nanoTime();
+        try (Reply reply = this.transport.post(
+            URI.create(this.uri), DefaultHtmlValidator.headers(charset), body
+        )) {
+            this.metrics.request(body.count());
+            return this.response(reply, start, defect -> true);
+        } catch (final IOException | RuntimeException ex) {
+            this.metrics.failure(ex);
+            throw ex;
         }
-        for (final XML node : warnings) {
-            resp.addWarning(DefaultHtmlValidator.defect(node));
+    }
+
+    /**
+     * Check the reply and parse it.
+     * @param reply The reply
+     * @param start When the document was started to be sent, in nanoseconds
+     * @param listener Listener of defects
+     * @return The response
+     * @throws IOException If fails
+     */
+    private ValidationResponse response(final Reply reply, final long start,
+        final DefectListener listener) throws IOException {
+        final long fetched = System.nanoTime();
+        this.metrics.latency(Metrics.Phase.FETCH, fetched - start);
+        this.metrics.status(reply.status());
+        if (reply.status() != HttpURLConnection.HTTP_OK) {
+            throw new StatusException(reply.status(), reply.reason());
         }
-        return resp;
+        return AbstractBaseValidator.parsed(
+            this.parser, reply, this.metrics, fetched, listener
+        );
     }
 
     /**
-     * Convert XML node to defect.
-     * @param node The node
-     * @return The defect
+     * HTTP headers of the request.
+     * @param charset Encoding of the document
+     * @return The headers
      */
-    private static Defect defect(final XML node) {
-        return new Defect(
-            AbstractBaseValidator.intOf(node.xpath("nu:error/@last-line")),
-            AbstractBaseValidator.intOf(node.xpath("nu:error/@last-column")),
-            AbstractBaseValidator.textOf(node.xpath("nu:extract/text()")),
-            AbstractBaseValidator.textOf(node.xpath("nu:elaboration/text()")),
-            "",
-            AbstractBaseValidator.textOf(node.xpath("nu:message/text()"))
+    private static Map<String, String> headers(final Charset charset) {
+        return AbstractBaseValidator.headers(
+            MediaType.TEXT_HTML,
+            Logger.format("%s; charset=%s", MediaType.TEXT_HTML, charset)
         );
     }
 }
@@ -51,6 +51,16 @@ final class DefaultValidationResponse implements ValidationResponse {
      */
     private final transient Set<Defect> iwarnings;
 
+    /**
+     * Index of errors.
+     */
+    private final transient DefectIndex eindex;
+
+    /**
+     * Index of warnings.
+     */
+    private final transient DefectIndex windex;
+
     /**
      * Public ctor.
      * @param val The document is valid?
@@ -62,12 +72,39 @@ final class DefaultValidationResponse implements ValidationResponse {
     DefaultValidationResponse(final boolean val,
         final URI server, final String tpe,
         final Charset enc) {
+        this(
+            val, server, tpe, enc,
+            new CopyOnWriteArraySet<>(), new CopyOnWriteArraySet<>()
+        );
+    }
+
+    /**
+     * Ctor, with defects already collected, see {@link ResponseBuilder}.
+     *
+     * <p>Sets of defects are not copied, the response can't get more
+     * defects through {@link #addError(Defect)} and
+     * {@link #addWarning(Defect)}, if they are immutable.
+     *
+     * @param val The document is valid?
+     * @param server Who validated it?
+     * @param tpe DOCTYPE of the document
+     * @param enc Charset of the document
+     * @param errors Errors found
+     * @param warnings Warnings found
+     * @since 2.0
+     */
+    // @checkstyle ParameterNumberCheck (5 lines)
+    DefaultValidationResponse(final boolean val,
+        final URI server, final String tpe, final Charset enc,
+        final Set<Defect> errors, final Set<Defect> warnings) {
         this.ivalid = val;
         this.validator = server;
         this.type = tpe;
         this.encoding = enc;
-        this.ierrors = new CopyOnWriteArraySet<>();
-        this.iwarnings = new CopyOnWriteArraySet<>();
+        this.ierrors = errors;
+        this.iwarnings = warnings;
+        this.eindex = new DefectIndex(errors);
+        this.windex = new DefectIndex(warnings);
     }
 
     @Override
@@ -112,8 +149,18 @@ final class DefaultValidationResponse implements ValidationResponse {
         return Collections.unmodifiableSet(this.iwarnings);
     }
 
+    @Override
+    public DefectIndex errorIndex() {
+        return this.eindex;
+    }
+
+    @Override
+    public DefectIndex warningIndex() {
+        return this.windex;
+    }
+
     /**
-     * Add error.
+     * Add error, before the first query to {@link #errorIndex()}.
      * @param error The error to add
      */
     void addError(final Defect error) {
@@ -121,7 +168,7 @@ final class DefaultValidationResponse implements ValidationResponse {
     }
 
     /**
-     * Add warning.
+     * Add warning, before the first query to {@link #warningIndex()}.
      * @param warning The warning to add
      */
     void addWarning(final Defect warning) {
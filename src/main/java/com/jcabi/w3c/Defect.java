@@ -10,13 +10,25 @@ import lombok.EqualsAndHashCode;
 /**
  * Validation defect (error or warning) produced by {@link ValidationResponse}.
  *
+ * <p>Defects made by parsers keep their message, message ID and
+ * explanation in the shared {@link TextPool}, so equal texts of
+ * different defects are usually the same objects. That's why
+ * {@link #equals(Object)} compares these texts before the source line,
+ * which is the longest of all and is not pooled: {@link String#equals}
+ * sees the same object at once and doesn't compare characters.
+ *
+ * <p>Defects made by the XML parsers don't make strings of their source
+ * lines right away. They keep positions of these lines in the buffer of
+ * the response and cut them out, once, when {@link #source()} is called
+ * for the first time. See {@link ValidationResponse#released()}.
+ *
  * <p>Objects of this class are immutable and thread-safe.
  *
  * @see <a href="http://validator.w3.org/docs/api.html">W3C API</a>
  * @since 0.1
  */
 @EqualsAndHashCode(
-    of = { "iline", "icolumn", "isource", "iexplanation", "msg", "imessage" }
+    of = { "iline", "icolumn", "msg", "imessage", "iexplanation", "isource" }
 )
 public final class Defect {
 
@@ -33,7 +45,7 @@ public final class Defect {
     /**
      * Source line.
      */
-    private final transient String isource;
+    private final transient LazyText isource;
 
     /**
      * Explanation.
@@ -60,18 +72,108 @@ public final class Defect {
      * @param message Message text
      */
     // @checkstyle ParameterNumberCheck (5 lines)
-    // @checkstyle ConstructorsCodeFreeCheck (10 lines)
     Defect(final int line, final int column, final String source,
+        final String explanation, final String mid,
+        final String message) {
+        this(
+            line, column, new LazyText(source.trim()),
+            explanation.trim(), mid, message
+        );
+    }
+
+    /**
+     * Ctor, with source line, which may be not read yet.
+     * @param line Line number
+     * @param column Column number
+     * @param source Source line
+     * @param explanation The explanation
+     * @param mid ID of the message
+     * @param message Message text
+     * @since 2.0
+     */
+    // @checkstyle ParameterNumberCheck (5 lines)
+    // @checkstyle ConstructorsCodeFreeCheck (10 lines)
+    Defect(final int line, final int column, final LazyText source,
         final String explanation, final String mid,
         final String message) {
         this.iline = line;
         this.icolumn = column;
-        this.isource = source.trim();
-        this.iexplanation = explanation.trim();
+        this.isource = source;
+        this.iexplanation = explanation;
         this.msg = mid.trim();
         this.imessage = message.trim();
     }
 
+    /**
+     * Make a defect, with its message, message ID and explanation
+     * taken from the shared {@link TextPool}.
+     * @param line Line number
+     * @param column Column number
+     * @param source Source line
+     * @param explanation The explanation
+     * @param mid ID of the message
+     * @param message Message text
+     * @return The defect
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    static Defect pooled(final int line, final int column,
+        final String source, final String explanation, final String mid,
+        final String message) {
+        final TextPool pool = TextPool.shared();
+        return new Defect(
+            line, column, source,
+            pool.intern(explanation.trim()), pool.intern(mid.trim()),
+            pool.intern(message.trim())
+        );
+    }
+
+    /**
+     * Make a defect, with its message, message ID and explanation taken
+     * from the shared {@link TextPool}, and with source line, which
+     * may be not read yet.
+     * @param line Line number
+     * @param column Column number
+     * @param source Source line
+     * @param explanation The explanation
+     * @param mid ID of the message
+     * @param message Message text
+     * @return The defect
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    static Defect pooled(final int line, final int column,
+        final LazyText source, final String explanation, final String mid,
+        final String message) {
+        final TextPool pool = TextPool.shared();
+        return new Defect(
+            line, column, source, pool.intern(explanation.trim()),
+            pool.intern(mid.trim()), pool.intern(message.trim())
+        );
+    }
+
+    /**
+     * Make a copy of the defect, at another line.
+     * @param line Line number
+     * @return New defect
+     */
+    Defect moved(final int line) {
+        return new Defect(
+            line, this.icolumn, this.isource, this.iexplanation,
+            this.msg, this.imessage
+        );
+    }
+
+    /**
+     * Make a copy of the defect, which doesn't refer to the buffer of
+     * the response, reading its source line, if it is not read yet.
+     * @return New defect
+     */
+    Defect released() {
+        return new Defect(
+            this.iline, this.icolumn, this.isource.released(),
+            this.iexplanation, this.msg, this.imessage
+        );
+    }
+
     @Override
     public String toString() {
         return Logger.format(
@@ -106,7 +208,7 @@ public final class Defect {
      * @return Full text of the source line
      */
     public String source() {
-        return this.isource;
+        return this.isource.get();
     }
 
     /**
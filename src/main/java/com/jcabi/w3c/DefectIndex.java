@@ -0,0 +1,309 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.ToIntFunction;
+
+/**
+ * Index of defects, for fast queries by line, message ID and message.
+ *
+ * <p>Get it from {@link ValidationResponse#errorIndex()} or
+ * {@link ValidationResponse#warningIndex()} and use instead of filtering
+ * all defects again and again:
+ *
+ * <pre> DefectIndex errors = response.errorIndex();
+ * for (int line = 1; line &lt;= total; ++line) {
+ *   report(line, errors.atLine(line));
+ * }</pre>
+ *
+ * <p>Every index is built on first demand: a sorted array of line numbers
+ * for queries by line, and arrays of defects sorted by message ID and by
+ * message, for the other queries. After that, every query is a binary
+ * search, which takes O(log n) plus the size of the result. Results are
+ * unmodifiable views of the indexes, sorted by line and column, defects
+ * with the same line and column stay in the order of the set.
+ *
+ * <p>The set of defects must not change after the first query.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 2.0
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class DefectIndex {
+
+    /**
+     * Order by message ID.
+     */
+    private static final Comparator<Defect> BY_ID =
+        Comparator.comparing(Defect::messageId);
+
+    /**
+     * Order by message.
+     */
+    private static final Comparator<Defect> BY_MESSAGE =
+        Comparator.comparing(Defect::message);
+
+    /**
+     * The defects.
+     */
+    private final transient Collection<Defect> defects;
+
+    /**
+     * Lock for building indexes.
+     */
+    private final transient Object lock;
+
+    /**
+     * Defects sorted by line, or NULL if not built yet.
+     */
+    private transient Defect[] sorted;
+
+    /**
+     * Line numbers of sorted defects, or NULL if not built yet.
+     */
+    private transient int[] lines;
+
+    /**
+     * Defects sorted by message ID, or NULL if not built yet.
+     */
+    private transient Defect[] ids;
+
+    /**
+     * Defects sorted by message, or NULL if not built yet.
+     */
+    private transient Defect[] messages;
+
+    /**
+     * Numbers of defects by message ID, or NULL if not built yet.
+     */
+    private transient Map<String, Integer> counts;
+
+    /**
+     * Ctor.
+     * @param all The defects
+     */
+    public DefectIndex(final Collection<Defect> all) {
+        this.defects = all;
+        this.lock = new Object();
+    }
+
+    /**
+     * Defects at the line.
+     * @param line The line
+     * @return Defects, sorted by column
+     */
+    public List<Defect> atLine(final int line) {
+        return this.between(line, line);
+    }
+
+    /**
+     * Defects between two lines, including both.
+     * @param first The first line
+     * @param last The last line
+     * @return Defects, sorted by line
+     */
+    public List<Defect> between(final int first, final int last) {
+        final int[] nums = this.lines();
+        final int start = DefectIndex.after(nums, first - 1L);
+        final int end = DefectIndex.after(nums, last);
+        final List<Defect> found;
+        if (start < end) {
+            found = DefectIndex.view(this.sorted(), start, end);
+        } else {
+            found = Collections.emptyList();
+        }
+        return found;
+    }
+
+    /**
+     * Defects with the message ID.
+     * @param mid The message ID, see {@link Defect#messageId()}
+     * @return Defects, sorted by line
+     */
+    public List<Defect> withId(final String mid) {
+        final Defect[] all = this.ids();
+        return DefectIndex.view(
+            all,
+            DefectIndex.first(all, defect -> defect.messageId().compareTo(mid)),
+            DefectIndex.first(
+                all,
+                defect -> Math.max(0, defect.messageId().compareTo(mid)) - 1
+            )
+        );
+    }
+
+    /**
+     * Defects with messages, which start with the prefix.
+     * @param prefix The prefix, see {@link Defect#message()}
+     * @return Defects, sorted by message
+     */
+    public List<Defect> startingWith(final String prefix) {
+        final Defect[] all = this.messages();
+        final ToIntFunction<Defect> order = defect -> {
+            final String message = defect.message();
+            final int cmp;
+            if (message.startsWith(prefix)) {
+                cmp = 0;
+            } else {
+                cmp = message.compareTo(prefix);
+            }
+            return cmp;
+        };
+        return DefectIndex.view(
+            all,
+            DefectIndex.first(all, order),
+            DefectIndex.first(
+                all, defect -> Math.max(0, order.applyAsInt(defect)) - 1
+            )
+        );
+    }
+
+    /**
+     * Numbers of defects by message ID.
+     * @return Numbers, sorted by message ID
+     */
+    public Map<String, Integer> countById() {
+        synchronized (this.lock) {
+            if (this.counts == null) {
+                final Map<String, Integer> map = new TreeMap<>();
+                for (final Defect defect : this.ids()) {
+                    map.merge(defect.messageId(), 1, Integer::sum);
+                }
+                this.counts = Collections.unmodifiableMap(map);
+            }
+            return this.counts;
+        }
+    }
+
+    /**
+     * Line numbers of defects, sorted.
+     * @return Line numbers
+     */
+    private int[] lines() {
+        synchronized (this.lock) {
+            if (this.lines == null) {
+                final Defect[] all = this.sorted();
+                final int[] nums = new int[all.length];
+                for (int idx = 0; idx < all.length; ++idx) {
+                    nums[idx] = all[idx].line();
+                }
+                this.lines = nums;
+            }
+            return this.lines;
+        }
+    }
+
+    /**
+     * Defects sorted by line and column.
+     * @return Defects
+     */
+    private Defect[] sorted() {
+        synchronized (this.lock) {
+            if (this.sorted == null) {
+                if (this.defects instanceof DefectSet) {
+                    this.sorted = ((DefectSet) this.defects).array();
+                } else {
+                    final Defect[] all = this.defects.toArray(new Defect[0]);
+                    Arrays.sort(all, DefectSet.ORDER);
+                    this.sorted = all;
+                }
+            }
+            return this.sorted;
+        }
+    }
+
+    /**
+     * Defects sorted by message ID, then by line.
+     * @return Defects
+     */
+    private Defect[] ids() {
+        synchronized (this.lock) {
+            if (this.ids == null) {
+                final Defect[] all = this.sorted().clone();
+                Arrays.sort(all, DefectIndex.BY_ID);
+                this.ids = all;
+            }
+            return this.ids;
+        }
+    }
+
+    /**
+     * Defects sorted by message, then by line.
+     * @return Defects
+     */
+    private Defect[] messages() {
+        synchronized (this.lock) {
+            if (this.messages == null) {
+                final Defect[] all = this.sorted().clone();
+                Arrays.sort(all, DefectIndex.BY_MESSAGE);
+                this.messages = all;
+            }
+            return this.messages;
+        }
+    }
+
+    /**
+     * Position of the first line number, which is greater than the given.
+     * @param nums Sorted line numbers
+     * @param line The line number
+     * @return Position
+     */
+    private static int after(final int[] nums, final long line) {
+        int low = 0;
+        int high = nums.length;
+        while (low < high) {
+            final int mid = low + high >>> 1;
+            if (nums[mid] <= line) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Position of the first defect, which is not below the key.
+     * @param all Defects, sorted consistently with the order
+     * @param order Comparison of a defect with the key
+     * @return Position
+     */
+    private static int first(final Defect[] all,
+        final ToIntFunction<Defect> order) {
+        int low = 0;
+        int high = all.length;
+        while (low < high) {
+            final int mid = low + high >>> 1;
+            if (order.applyAsInt(all[mid]) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Unmodifiable view of the part of the array.
+     * @param all The array
+     * @param start Start of the part
+     * @param end End of the part, exclusive
+     * @return The view
+     */
+    private static List<Defect> view(final Defect[] all, final int start,
+        final int end) {
+        return Collections.unmodifiableList(
+            Arrays.asList(all).subList(start, end)
+        );
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+/**
+ * Listener of defects, which are reported one by one, while the response
+ * of the validator is being parsed.
+ *
+ * <p>Use it when you don't need all defects, for example in order to fail
+ * a deployment when a page has more than ten errors:
+ *
+ * <pre> AtomicInteger errors = new AtomicInteger();
+ * ValidationResponse response = validator.validate(
+ *   html, defect -&gt; errors.incrementAndGet() &lt;= 10
+ * );</pre>
+ *
+ * <p>When the listener returns {@code FALSE}, parsing stops, the
+ * connection is closed, and the response contains only defects reported
+ * so far. Such a response is never valid.
+ *
+ * @see Validator#validate(String, DefectListener)
+ * @since 2.0
+ */
+@FunctionalInterface
+public interface DefectListener {
+
+    /**
+     * An error was found.
+     * @param defect The error
+     * @return TRUE to go on, FALSE to stop parsing
+     */
+    boolean error(Defect defect);
+
+    /**
+     * A warning was found.
+     *
+     * <p>By default, warnings are ignored and parsing goes on.
+     *
+     * @param defect The warning
+     * @return TRUE to go on, FALSE to stop parsing
+     */
+    default boolean warning(final Defect defect) {
+        return true;
+    }
+}
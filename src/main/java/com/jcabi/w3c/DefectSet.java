@@ -0,0 +1,159 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.util.AbstractSet;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable set of unique defects, backed by an array sorted by line
+ * and column.
+ *
+ * <p>Defects with the same line and column stay in the order they were
+ * reported in. Lookup is a binary search by line, so {@link #equals(Object)}
+ * of two sets takes O(n log n), not O(n&sup2;). It is made by
+ * {@link ResponseBuilder}.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+final class DefectSet extends AbstractSet<Defect> {
+
+    /**
+     * Order of defects in the set.
+     */
+    static final Comparator<Defect> ORDER =
+        Comparator.comparingInt(Defect::line).thenComparingInt(Defect::column);
+
+    /**
+     * Defects, unique and sorted.
+     */
+    private final transient Defect[] defects;
+
+    /**
+     * Hash code, calculated on first demand, or zero.
+     */
+    private transient int hash;
+
+    /**
+     * Ctor.
+     * @param sorted Unique defects, sorted by {@link #ORDER}
+     */
+    DefectSet(final Defect... sorted) {
+        super();
+        this.defects = sorted;
+    }
+
+    @Override
+    public int size() {
+        return this.defects.length;
+    }
+
+    @Override
+    public boolean contains(final Object object) {
+        boolean found = false;
+        if (object instanceof Defect) {
+            final Defect defect = (Defect) object;
+            final int line = defect.line();
+            int idx = this.first(line);
+            while (!found && idx < this.defects.length
+                && this.defects[idx].line() == line) {
+                found = this.defects[idx].equals(defect);
+                ++idx;
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public Iterator<Defect> iterator() {
+        return new DefectSet.Cursor(this.defects);
+    }
+
+    @Override
+    public int hashCode() {
+        if (this.hash == 0) {
+            this.hash = super.hashCode();
+        }
+        return this.hash;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.UselessOverridingMethod")
+    public boolean equals(final Object object) {
+        return super.equals(object);
+    }
+
+    /**
+     * The array behind the set, which must not be modified.
+     * @return Defects, sorted by {@link #ORDER}
+     */
+    Defect[] array() {
+        return this.defects;
+    }
+
+    /**
+     * Position of the first defect at the line or after it.
+     * @param line The line
+     * @return Position in the array
+     */
+    private int first(final int line) {
+        int low = 0;
+        int high = this.defects.length;
+        while (low < high) {
+            final int mid = low + high >>> 1;
+            if (this.defects[mid].line() < line) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Read-only iterator over the array.
+     *
+     * @since 2.0
+     */
+    private static final class Cursor implements Iterator<Defect> {
+
+        /**
+         * The defects.
+         */
+        private final transient Defect[] defects;
+
+        /**
+         * Position of the next one.
+         */
+        private transient int pos;
+
+        /**
+         * Ctor.
+         * @param all The defects
+         */
+        Cursor(final Defect... all) {
+            this.defects = all;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.pos < this.defects.length;
+        }
+
+        @Override
+        public Defect next() {
+            if (this.pos >= this.defects.length) {
+                throw new NoSuchElementException("No more defects");
+            }
+            final Defect next = this.defects[this.pos];
+            ++this.pos;
+            return next;
+        }
+    }
+}
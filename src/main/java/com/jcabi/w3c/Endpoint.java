@@ -0,0 +1,262 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One validator instance behind {@link BalancedValidator}, together
+ * with its load and health.
+ *
+ * <p>Only a failure of the instance itself counts: a broken connection,
+ * a status 429 or 5xx, see {@link #blames(IOException)}. Other statuses,
+ * like 413, are answers about the document, while cancelled requests
+ * tell nothing about the instance at all.
+ *
+ * <p>The instance is ejected after a few failures in a row, for a period,
+ * which doubles with every ejection in a row, up to five minutes. It is
+ * taken back after the period or after a successful health check,
+ * whichever comes first. When the period is over, one more failure
+ * ejects it again.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 2.0
+ */
+final class Endpoint {
+
+    /**
+     * How many failures in a row eject the instance.
+     */
+    private static final int FAILURES = 3;
+
+    /**
+     * First ejection period, in nanoseconds.
+     */
+    private static final long EJECTION = TimeUnit.SECONDS.toNanos(10L);
+
+    /**
+     * Longest ejection period, in nanoseconds.
+     */
+    private static final long LONGEST = TimeUnit.MINUTES.toNanos(5L);
+
+    /**
+     * Weight of the latest latency in the moving average.
+     */
+    private static final double DECAY = 0.2d;
+
+    /**
+     * URI of the instance.
+     */
+    private final transient URI uri;
+
+    /**
+     * The validator of it.
+     */
+    private final transient Validator origin;
+
+    /**
+     * Requests in flight.
+     */
+    private final transient AtomicInteger outstanding;
+
+    /**
+     * Moving average of latency, in nanoseconds.
+     */
+    private transient double latency;
+
+    /**
+     * Failures in a row.
+     */
+    private transient int failures;
+
+    /**
+     * Ejections in a row.
+     */
+    private transient int ejections;
+
+    /**
+     * When the ejection ends, in nanoseconds, if it's ejected.
+     */
+    private transient long until;
+
+    /**
+     * Is it ejected now.
+     */
+    private transient boolean ejected;
+
+    /**
+     * Ctor.
+     * @param address URI of the instance
+     * @param validator The validator of it
+     */
+    Endpoint(final URI address, final Validator validator) {
+        this.uri = address;
+        this.origin = validator;
+        this.outstanding = new AtomicInteger();
+    }
+
+    @Override
+    public String toString() {
+        synchronized (this.outstanding) {
+            return Logger.format(
+                "%s: %d in flight, %[nano]s avg, %d failures%s",
+                this.uri, this.outstanding.get(), (long) this.latency,
+                this.failures, Endpoint.suffix(this.ejected)
+            );
+        }
+    }
+
+    /**
+     * The validator of the instance, which counts requests in flight.
+     * Call {@link #done(long, boolean)} when the request is finished.
+     * @return The validator
+     */
+    Validator start() {
+        this.outstanding.incrementAndGet();
+        return this.origin;
+    }
+
+    /**
+     * The request is finished.
+     * @param nanos How long it took, in nanoseconds
+     * @param failed TRUE if it failed
+     */
+    void done(final long nanos, final boolean failed) {
+        this.outstanding.decrementAndGet();
+        if (failed) {
+            this.failed();
+        } else {
+            this.succeeded(nanos);
+        }
+    }
+
+    /**
+     * The request is cancelled by the client, which tells nothing
+     * about the instance.
+     */
+    void cancelled() {
+        this.outstanding.decrementAndGet();
+    }
+
+    /**
+     * Check health of the instance, by validating a tiny document.
+     * @param probe The document
+     */
+    void check(final String probe) {
+        final long start = System.nanoTime();
+        try {
+            this.origin.validate(probe);
+            this.succeeded(System.nanoTime() - start);
+        } catch (final IOException ex) {
+            if (Endpoint.blames(ex)) {
+                Logger.debug(
+                    this, "Health check of %s failed: %s", this.uri, ex
+                );
+                this.failed();
+            } else {
+                this.succeeded(System.nanoTime() - start);
+            }
+        } catch (final RuntimeException ex) {
+            Logger.debug(this, "Health check of %s failed: %s", this.uri, ex);
+            this.failed();
+        }
+    }
+
+    /**
+     * The instance answered, to a request or to a health check.
+     * @param nanos How long it took, in nanoseconds
+     */
+    void succeeded(final long nanos) {
+        synchronized (this.outstanding) {
+            if (this.latency == 0.0d) {
+                this.latency = nanos;
+            } else {
+                this.latency += (nanos - this.latency) * Endpoint.DECAY;
+            }
+            this.failures = 0;
+            this.ejections = 0;
+            if (this.ejected) {
+                this.ejected = false;
+                Logger.info(this, "%s is back", this.uri);
+            }
+        }
+    }
+
+    /**
+     * The instance failed, to answer a request or a health check.
+     */
+    void failed() {
+        synchronized (this.outstanding) {
+            ++this.failures;
+            if (this.ejected || this.failures >= Endpoint.FAILURES) {
+                final long period = Math.min(
+                    Endpoint.LONGEST,
+                    Endpoint.EJECTION << Math.min(this.ejections, 16)
+                );
+                this.failures = 0;
+                this.ejected = true;
+                this.until = System.nanoTime() + period;
+                ++this.ejections;
+                Logger.warn(
+                    this, "%s is ejected for %[nano]s", this.uri, period
+                );
+            }
+        }
+    }
+
+    /**
+     * Can it take requests now.
+     * @return TRUE if it's not ejected or its ejection is over
+     */
+    boolean healthy() {
+        synchronized (this.outstanding) {
+            return !this.ejected || System.nanoTime() - this.until >= 0L;
+        }
+    }
+
+    /**
+     * Expected cost of sending one more request to it: requests in flight
+     * weighted by average latency. The lower the better.
+     * @return The cost
+     */
+    double cost() {
+        synchronized (this.outstanding) {
+            return (this.outstanding.get() + 1.0d)
+                * Math.max(this.latency, 1.0d);
+        }
+    }
+
+    /**
+     * Is the instance to blame for the error: the connection failed,
+     * or the instance answered with 429 or 5xx.
+     * @param error What was thrown
+     * @return TRUE if the instance failed, FALSE if it refused
+     *  the document
+     */
+    static boolean blames(final IOException error) {
+        return !(error instanceof StatusException)
+            || ((StatusException) error).busy();
+    }
+
+    /**
+     * Suffix for the string representation.
+     * @param ejected Is it ejected
+     * @return Suffix
+     */
+    private static String suffix(final boolean ejected) {
+        final String suffix;
+        if (ejected) {
+            suffix = ", ejected";
+        } else {
+            suffix = "";
+        }
+        return suffix;
+    }
+}
@@ -0,0 +1,614 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.ToString;
+
+/**
+ * Persistent on-disk store of validation responses.
+ *
+ * <p>The store lives in a directory and survives JVM restarts, which makes
+ * it useful in CI, where every module is built by a fresh JVM:
+ *
+ * <pre> Validator validator = new ValidatorBuilder().html(
+ *   uri,
+ *   new FileResponseCache(Paths.get("target/w3c"), "nu-23.4.11")
+ * );</pre>
+ *
+ * <p>The second argument is the version of the validation engine, pinned
+ * by the user, for example the one the server reports on its about page.
+ * It is a part of every key, together with the content digest and the URI
+ * of the validator (see {@link CachedValidator}), so when it changes, all
+ * previously stored responses become stale and are never returned. Since
+ * the server is a part of the key, one store may be shared by several
+ * validators, for example HTML and CSS ones, and their records never
+ * shadow each other.
+ *
+ * <p>Every record keeps the {@link ValidationResponse#checkedBy()} of
+ * the response it was made of, which is returned as is.
+ *
+ * <p>A record, which is truncated, unknown or doesn't belong to the key,
+ * for example after a crash in the middle of a write, is a miss.
+ *
+ * <p>Responses are appended to the {@code responses.dat} file and never
+ * rewritten. A response saved again under the same key is appended too,
+ * the old record stays in the file and is never read again. When the file
+ * would grow over its size cap (1 GiB by default), the store is cleared
+ * and starts over. A response, which alone is bigger than the cap, is not
+ * stored at all.
+ *
+ * <p>The {@code responses.idx} file is a memory-mapped open-addressing
+ * hash table, with a fixed number of slots, which maps key fingerprints to
+ * offsets in the data file. A lookup is a few probes in the mapped index and
+ * one positional read from the data file. When a probe sequence is full,
+ * the home slot of the new key is overwritten, and the entry, which was
+ * there, is lost, like in any other cache.
+ *
+ * <p>Several processes on the same machine may share the same directory:
+ * writers take an exclusive file lock and readers a shared one. File locks
+ * are held by the entire JVM, that's why all instances in one JVM, which
+ * use the same directory, take them under the same monitor, one at a time.
+ *
+ * <p>The store may be used again after {@link #close()}, it reopens its
+ * files.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 2.0
+ */
+@ToString(of = { "dir", "engine" })
+@SuppressWarnings("PMD.TooManyMethods")
+public final class FileResponseCache implements ResponseCache, Closeable {
+
+    /**
+     * Default number of slots in the index.
+     */
+    private static final int SLOTS = 1 << 16;
+
+    /**
+     * Default size cap of the data file, in bytes.
+     */
+    private static final long LIMIT = 1L << 30;
+
+    /**
+     * Size of one slot in the index: fingerprint and offset.
+     */
+    private static final int SLOT = 16;
+
+    /**
+     * Maximum number of probes in the index.
+     */
+    private static final int PROBES = 32;
+
+    /**
+     * Size of the digest stored in every record.
+     */
+    private static final int DIGEST = 32;
+
+    /**
+     * Version of the record format.
+     */
+    private static final byte FORMAT = 1;
+
+    /**
+     * Monitors of directories in this JVM, by their real paths.
+     */
+    private static final ConcurrentMap<Path, Object> MONITORS =
+        new ConcurrentHashMap<>(0);
+
+    /**
+     * Directory with files.
+     */
+    private final transient Path dir;
+
+    /**
+     * Version of the validation engine.
+     */
+    private final transient String engine;
+
+    /**
+     * Number of slots in the index, if it's created by us.
+     */
+    private final transient int slots;
+
+    /**
+     * Size cap of the data file, in bytes.
+     */
+    private final transient long cap;
+
+    /**
+     * Lock for all operations of this instance.
+     */
+    private final transient Object lock;
+
+    /**
+     * Monitor of the directory, shared by all instances in this JVM,
+     * which guards file locks, found lazily.
+     */
+    private transient Object monitor;
+
+    /**
+     * Data file, opened lazily.
+     */
+    private transient FileChannel data;
+
+    /**
+     * Memory-mapped index, opened lazily.
+     */
+    private transient MappedByteBuffer index;
+
+    /**
+     * Ctor.
+     * @param path Directory with files
+     * @param version Version of the validation engine
+     */
+    public FileResponseCache(final Path path, final String version) {
+        this(path, version, FileResponseCache.SLOTS);
+    }
+
+    /**
+     * Ctor.
+     * @param path Directory with files
+     * @param version Version of the validation engine
+     * @param total Number of slots in the index, if it doesn't exist yet
+     */
+    public FileResponseCache(final Path path, final String version,
+        final int total) {
+        this(path, version, total, FileResponseCache.LIMIT);
+    }
+
+    /**
+     * Ctor.
+     * @param path Directory with files
+     * @param version Version of the validation engine
+     * @param total Number of slots in the index, if it doesn't exist yet
+     * @param bytes Size cap of the data file, in bytes
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public FileResponseCache(final Path path, final String version,
+        final int total, final long bytes) {
+        this.dir = path;
+        this.engine = version;
+        this.slots = total;
+        this.cap = bytes;
+        this.lock = new Object();
+    }
+
+    @Override
+    public Optional<ValidationResponse> find(final String key)
+        throws IOException {
+        final byte[] digest = this.digest(key);
+        synchronized (this.lock) {
+            this.open();
+            synchronized (this.monitor) {
+                final FileLock shared = this.data.lock(
+                    0L, Long.MAX_VALUE, true
+                );
+                try {
+                    Optional<ValidationResponse> found = Optional.empty();
+                    final long offset = this.offset(digest);
+                    if (offset >= 0L) {
+                        found = this.read(offset, digest);
+                    }
+                    return found;
+                } finally {
+                    shared.release();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void save(final String key, final ValidationResponse response)
+        throws IOException {
+        final byte[] digest = this.digest(key);
+        final byte[] record = FileResponseCache.record(digest, response);
+        synchronized (this.lock) {
+            if (record.length <= this.cap) {
+                this.open();
+                synchronized (this.monitor) {
+                    final FileLock exclusive = this.data.lock();
+                    try {
+                        this.append(digest, record);
+                    } finally {
+                        exclusive.release();
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this.lock) {
+            if (this.data != null) {
+                this.index.force();
+                this.data.close();
+                this.data = null;
+                this.index = null;
+            }
+        }
+    }
+
+    /**
+     * Append the record to the data file and point the index to it,
+     * under the exclusive file lock, clearing the store first if the
+     * data file would grow over its cap. The index is cleared before
+     * the data file, so it never points past the end of it.
+     * @param digest Digest of the key
+     * @param record Bytes of the record
+     * @throws IOException If fails
+     */
+    private void append(final byte[] digest, final byte[] record)
+        throws IOException {
+        if (this.data.size() + record.length > this.cap) {
+            for (int pos = 0; pos < this.index.capacity(); pos += 8) {
+                this.index.putLong(pos, 0L);
+            }
+            this.index.force();
+            this.data.truncate(0L);
+        }
+        final long offset = this.data.size();
+        final ByteBuffer buf = ByteBuffer.wrap(record);
+        long pos = offset;
+        while (buf.hasRemaining()) {
+            pos += this.data.write(buf, pos);
+        }
+        final int slot = this.slot(digest);
+        this.index.putLong(slot * FileResponseCache.SLOT + 8, offset);
+        this.index.putLong(
+            slot * FileResponseCache.SLOT,
+            FileResponseCache.fingerprint(digest)
+        );
+    }
+
+    /**
+     * Open files, if they are not opened yet.
+     * @throws IOException If fails
+     */
+    private void open() throws IOException {
+        if (this.data == null) {
+            Files.createDirectories(this.dir);
+            this.monitor = FileResponseCache.MONITORS.computeIfAbsent(
+                this.dir.toRealPath(), path -> new Object()
+            );
+            synchronized (this.monitor) {
+                this.index = this.mapped();
+            }
+            this.data = FileChannel.open(
+                this.dir.resolve("responses.dat"),
+                StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+            );
+        }
+    }
+
+    /**
+     * Map the index into memory, creating it if it doesn't exist yet,
+     * under the exclusive file lock.
+     * @return The index
+     * @throws IOException If fails
+     */
+    private MappedByteBuffer mapped() throws IOException {
+        final FileChannel idx = FileChannel.open(
+            this.dir.resolve("responses.idx"),
+            StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE
+        );
+        try {
+            final FileLock exclusive = idx.lock();
+            try {
+                long size = idx.size();
+                if (size == 0L) {
+                    size = (long) this.slots * FileResponseCache.SLOT;
+                }
+                return idx.map(FileChannel.MapMode.READ_WRITE, 0L, size);
+            } finally {
+                exclusive.release();
+            }
+        } finally {
+            idx.close();
+        }
+    }
+
+    /**
+     * Find the offset of the record in the data file.
+     * @param digest Digest of the key
+     * @return Offset or -1 if not found
+     */
+    private long offset(final byte[] digest) {
+        final long print = FileResponseCache.fingerprint(digest);
+        final int total = this.index.capacity() / FileResponseCache.SLOT;
+        final int home = FileResponseCache.home(digest, total);
+        long offset = -1L;
+        for (int probe = 0; probe < FileResponseCache.PROBES; ++probe) {
+            final int slot = (home + probe) % total;
+            final long stored = this.index.getLong(
+                slot * FileResponseCache.SLOT
+            );
+            if (stored == print) {
+                offset = this.index.getLong(
+                    slot * FileResponseCache.SLOT + 8
+                );
+                break;
+            }
+            if (stored == 0L) {
+                break;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Find a slot for the key: either the one it already occupies,
+     * or an empty one, or its home slot, if the probe sequence is full.
+     * @param digest Digest of the key
+     * @return Slot number
+     */
+    private int slot(final byte[] digest) {
+        final long print = FileResponseCache.fingerprint(digest);
+        final int total = this.index.capacity() / FileResponseCache.SLOT;
+        final int home = FileResponseCache.home(digest, total);
+        int found = home;
+        for (int probe = 0; probe < FileResponseCache.PROBES; ++probe) {
+            final int slot = (home + probe) % total;
+            final long stored = this.index.getLong(
+                slot * FileResponseCache.SLOT
+            );
+            if (stored == print || stored == 0L) {
+                found = slot;
+                break;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Read the record from the data file.
+     * @param offset Offset of the record
+     * @param digest Expected digest of the key
+     * @return The response, if the record is there, complete and belongs
+     *  to the key
+     * @throws IOException If fails
+     */
+    private Optional<ValidationResponse> read(final long offset,
+        final byte[] digest) throws IOException {
+        Optional<ValidationResponse> found = Optional.empty();
+        final long size = this.data.size();
+        if (offset + 4L <= size) {
+            final ByteBuffer head = ByteBuffer.allocate(4);
+            this.fill(head, offset);
+            head.flip();
+            final int length = head.getInt();
+            if (length > FileResponseCache.DIGEST
+                && offset + 4L + length <= size) {
+                final ByteBuffer body = ByteBuffer.allocate(length);
+                this.fill(body, offset + 4L);
+                final byte[] bytes = body.array();
+                if (Arrays.equals(
+                    Arrays.copyOf(bytes, FileResponseCache.DIGEST), digest
+                )) {
+                    found = FileResponseCache.response(
+                        new DataInputStream(
+                            new ByteArrayInputStream(
+                                bytes, FileResponseCache.DIGEST,
+                                length - FileResponseCache.DIGEST
+                            )
+                        )
+                    );
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Fill the buffer from the data file.
+     * @param buf The buffer
+     * @param offset Where to start reading
+     * @throws IOException If fails
+     */
+    private void fill(final ByteBuffer buf, final long offset)
+        throws IOException {
+        long pos = offset;
+        while (buf.hasRemaining()) {
+            final int read = this.data.read(buf, pos);
+            if (read < 0) {
+                throw new IOException(
+                    String.format("Record at %d is truncated", offset)
+                );
+            }
+            pos += read;
+        }
+    }
+
+    /**
+     * Digest of the key, together with the engine version.
+     * @param key The key
+     * @return Thirty two bytes
+     */
+    private byte[] digest(final String key) {
+        return new ContentDigest(this.engine, key).bytes();
+    }
+
+    /**
+     * Fingerprint of the digest, never zero.
+     * @param digest The digest
+     * @return Fingerprint
+     */
+    private static long fingerprint(final byte[] digest) {
+        final long print = ByteBuffer.wrap(digest).getLong();
+        final long result;
+        if (print == 0L) {
+            result = 1L;
+        } else {
+            result = print;
+        }
+        return result;
+    }
+
+    /**
+     * Home slot of the digest.
+     * @param digest The digest
+     * @param total Total number of slots
+     * @return Slot number
+     */
+    private static int home(final byte[] digest, final int total) {
+        return (ByteBuffer.wrap(digest, 8, 4).getInt() & Integer.MAX_VALUE)
+            % total;
+    }
+
+    /**
+     * Serialize the response into a record.
+     * @param digest Digest of the key
+     * @param response The response
+     * @return Bytes of the record, including its length
+     * @throws IOException If fails
+     */
+    private static byte[] record(final byte[] digest,
+        final ValidationResponse response) throws IOException {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(baos);
+        out.writeInt(0);
+        out.write(digest);
+        out.writeByte(FileResponseCache.FORMAT);
+        out.writeBoolean(response.valid());
+        FileResponseCache.write(out, response.checkedBy().toString());
+        FileResponseCache.write(out, response.doctype());
+        FileResponseCache.write(out, response.charset().name());
+        FileResponseCache.write(out, response.errors());
+        FileResponseCache.write(out, response.warnings());
+        out.flush();
+        final byte[] bytes = baos.toByteArray();
+        ByteBuffer.wrap(bytes).putInt(bytes.length - 4);
+        return bytes;
+    }
+
+    /**
+     * Deserialize the response, if the record is complete and of the known
+     * format.
+     * @param input Input with the record, after the digest
+     * @return The response or empty
+     * @throws IOException If fails
+     */
+    private static Optional<ValidationResponse> response(
+        final DataInputStream input) throws IOException {
+        Optional<ValidationResponse> found = Optional.empty();
+        try {
+            if (input.readByte() == FileResponseCache.FORMAT) {
+                final boolean valid = input.readBoolean();
+                final URI server = URI.create(FileResponseCache.text(input));
+                final String doctype = FileResponseCache.text(input);
+                final Charset charset = Charset.forName(
+                    FileResponseCache.text(input)
+                );
+                final ResponseBuilder response = new ResponseBuilder();
+                final int errors = input.readInt();
+                for (int idx = 0; idx < errors; ++idx) {
+                    response.error(FileResponseCache.defect(input));
+                }
+                final int warnings = input.readInt();
+                for (int idx = 0; idx < warnings; ++idx) {
+                    response.warning(FileResponseCache.defect(input));
+                }
+                found = Optional.of(
+                    response.build(valid, server, doctype, charset)
+                );
+            }
+        } catch (final EOFException | IllegalArgumentException ex) {
+            found = Optional.empty();
+        }
+        return found;
+    }
+
+    /**
+     * Write defects.
+     * @param out Output
+     * @param defects The defects
+     * @throws IOException If fails
+     */
+    private static void write(final DataOutputStream out,
+        final Set<Defect> defects) throws IOException {
+        out.writeInt(defects.size());
+        for (final Defect defect : defects) {
+            out.writeInt(defect.line());
+            out.writeInt(defect.column());
+            FileResponseCache.write(out, defect.source());
+            FileResponseCache.write(out, defect.explanation());
+            FileResponseCache.write(out, defect.messageId());
+            FileResponseCache.write(out, defect.message());
+        }
+    }
+
+    /**
+     * Read a defect.
+     * @param input Input
+     * @return The defect
+     * @throws IOException If fails
+     */
+    private static Defect defect(final DataInputStream input)
+        throws IOException {
+        return Defect.pooled(
+            input.readInt(),
+            input.readInt(),
+            FileResponseCache.text(input),
+            FileResponseCache.text(input),
+            FileResponseCache.text(input),
+            FileResponseCache.text(input)
+        );
+    }
+
+    /**
+     * Write a text of any length.
+     * @param out Output
+     * @param text The text
+     * @throws IOException If fails
+     */
+    private static void write(final DataOutputStream out, final String text)
+        throws IOException {
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Read a text.
+     * @param input Input
+     * @return The text
+     * @throws IOException If fails
+     */
+    private static String text(final DataInputStream input)
+        throws IOException {
+        final int length = input.readInt();
+        if (length < 0 || length > input.available()) {
+            throw new EOFException("Text is longer than the record");
+        }
+        final byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
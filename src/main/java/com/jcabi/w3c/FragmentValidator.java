@@ -0,0 +1,152 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import lombok.ToString;
+
+/**
+ * Validator of small HTML fragments, which sends many of them
+ * to another HTML validator in one request.
+ *
+ * <p>Fragments are queued and then wrapped into one synthetic HTML5
+ * document, each of them after its own sentinel comment, inside
+ * {@code <body>}. Defects of the document are given back to the fragments
+ * they were found in, by line number, and every fragment gets its own
+ * response, with lines counted from its first line:
+ *
+ * <pre> FragmentValidator validator = new FragmentValidator(
+ *   new ValidatorBuilder().html(), 64 * 1024, Duration.ofMillis(50L)
+ * );
+ * CompletableFuture&lt;ValidationResponse&gt; first =
+ *   validator.validateAsync("&lt;p&gt;Hello&lt;/p&gt;");
+ * CompletableFuture&lt;ValidationResponse&gt; second =
+ *   validator.validateAsync("&lt;img src='a.png'&gt;");</pre>
+ *
+ * <p>The queue is sent when its fragments together reach the given number
+ * of characters, or when the time window is over since the first
+ * fragment was queued, whichever happens first. A failure of the request
+ * fails all fragments of the batch.
+ *
+ * <p>Fragments must be content of {@code <body>}: they can't have their
+ * own DOCTYPE, {@code <html>} or {@code <head>}. A fragment with an unclosed
+ * element, tag or comment would swallow the fragments after it, and the
+ * server would report it at the end of the document, in the last fragment.
+ * Such a fragment is detected before it is queued and is validated alone,
+ * in a request of its own, so its errors don't leak into other fragments.
+ *
+ * <p>The synchronous {@link #validate(String)} waits until the batch
+ * with the fragment is validated, which takes at least the time window,
+ * unless the batch fills up sooner.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 2.0
+ */
+@ToString(of = "origin")
+public final class FragmentValidator implements Validator, AsyncValidator,
+    Closeable {
+
+    /**
+     * The HTML validator.
+     */
+    private final transient Validator origin;
+
+    /**
+     * Queue of fragments.
+     */
+    private final transient Batches batches;
+
+    /**
+     * Ctor.
+     * @param validator The HTML validator
+     */
+    public FragmentValidator(final Validator validator) {
+        this(validator, 256 * 1024, Duration.ofMillis(50L));
+    }
+
+    /**
+     * Ctor.
+     * @param validator The HTML validator
+     * @param size Maximum number of characters in a batch
+     * @param time Time window of a batch
+     */
+    public FragmentValidator(final Validator validator, final int size,
+        final Duration time) {
+        this(validator, size, time, VirtualThreads.executor());
+    }
+
+    /**
+     * Ctor.
+     * @param validator The HTML validator
+     * @param size Maximum number of characters in a batch
+     * @param time Time window of a batch
+     * @param exec Executor to validate batches
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public FragmentValidator(final Validator validator, final int size,
+        final Duration time, final Executor exec) {
+        this.origin = validator;
+        this.batches = new Batches(
+            batch -> FragmentValidator.validated(validator, batch),
+            size, time.toMillis(), exec, "w3c-fragment-batch"
+        );
+    }
+
+    @Override
+    public ValidationResponse validate(final String fragment)
+        throws IOException {
+        return Futures.await(this.validateAsync(fragment), "the batch");
+    }
+
+    @Override
+    public CompletableFuture<ValidationResponse> validateAsync(
+        final String fragment) {
+        final CompletableFuture<ValidationResponse> future;
+        if (Fragments.sealed(fragment)) {
+            future = this.batches.add(fragment);
+        } else {
+            future = this.batches.alone(fragment);
+        }
+        return future;
+    }
+
+    /**
+     * Send all queued fragments now, without waiting for the time window.
+     */
+    public void flush() {
+        this.batches.flush();
+    }
+
+    /**
+     * Send all queued fragments and stop the timer. Validations requested
+     * afterwards fail with {@link IOException}.
+     */
+    @Override
+    public void close() {
+        this.batches.close();
+    }
+
+    /**
+     * Validate the batch.
+     * @param validator The HTML validator
+     * @param batch Fragments
+     * @return Responses, one per fragment
+     * @throws IOException If fails
+     */
+    private static List<ValidationResponse> validated(
+        final Validator validator, final List<String> batch)
+        throws IOException {
+        final Fragments fragments = new Fragments(batch);
+        return fragments.segments().split(
+            validator.validate(fragments.text())
+        );
+    }
+}
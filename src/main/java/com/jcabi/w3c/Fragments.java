@@ -0,0 +1,229 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * HTML fragments, joined into one synthetic HTML5 document.
+ *
+ * <p>Every fragment starts on its own line, right after a sentinel
+ * comment with its position, inside the {@code <body>} of the document:
+ *
+ * <pre> &lt;!DOCTYPE html&gt;
+ * &lt;html lang="en"&gt;
+ * &lt;head&gt;...&lt;/head&gt;
+ * &lt;body&gt;
+ * &lt;!-- w3c-fragment 0 --&gt;
+ * &lt;p&gt;first&lt;/p&gt;
+ * &lt;!-- w3c-fragment 1 --&gt;
+ * &lt;p&gt;second&lt;/p&gt;
+ * &lt;/body&gt;
+ * &lt;/html&gt;</pre>
+ *
+ * <p>Only fragments, which are {@link #sealed(String)}, may be joined;
+ * otherwise an element or a comment left open by one of them would
+ * swallow the next ones, and the server would report it at the end
+ * of the document, in the last fragment.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+final class Fragments {
+
+    /**
+     * Lines before the first fragment.
+     */
+    private static final String HEAD = String.join(
+        "\n",
+        "<!DOCTYPE html>",
+        "<html lang=\"en\">",
+        "<head><meta charset=\"UTF-8\"><title>f</title></head>",
+        "<body>",
+        ""
+    );
+
+    /**
+     * Lines after the last fragment.
+     */
+    private static final String TAIL = "</body>\n</html>\n";
+
+    /**
+     * Elements, which never have an end tag.
+     */
+    private static final Set<String> VOID = new HashSet<>(
+        Arrays.asList(
+            "area", "base", "br", "col", "embed", "hr", "img", "input",
+            "link", "meta", "param", "source", "track", "wbr"
+        )
+    );
+
+    /**
+     * Elements, which contain raw text up to their end tag.
+     */
+    private static final Set<String> RAW = new HashSet<>(
+        Arrays.asList("script", "style", "textarea", "title")
+    );
+
+    /**
+     * The fragments.
+     */
+    private final transient List<String> items;
+
+    /**
+     * Ctor.
+     * @param fragments The fragments
+     */
+    Fragments(final List<String> fragments) {
+        this.items = new ArrayList<>(fragments);
+    }
+
+    /**
+     * Text of the synthetic document.
+     * @return HTML
+     */
+    String text() {
+        int length = Fragments.HEAD.length() + Fragments.TAIL.length();
+        for (final String item : this.items) {
+            length += item.length() + 32;
+        }
+        final StringBuilder text = new StringBuilder(length)
+            .append(Fragments.HEAD);
+        for (int idx = 0; idx < this.items.size(); ++idx) {
+            final String item = this.items.get(idx);
+            text.append("<!-- w3c-fragment ").append(idx).append(" -->\n")
+                .append(item);
+            if (!item.endsWith("\n")) {
+                text.append('\n');
+            }
+        }
+        return text.append(Fragments.TAIL).toString();
+    }
+
+    /**
+     * Line ranges of fragments inside the synthetic document.
+     * @return Segments
+     */
+    Segments segments() {
+        return Segments.sentinels(
+            Segments.lines(Fragments.HEAD) + 1, this.items
+        );
+    }
+
+    /**
+     * Can the fragment be joined with others, without affecting
+     * the way they are parsed.
+     *
+     * <p>The fragment is scanned once, tag by tag. It is sealed, if all
+     * its comments and tags are closed, and every start tag, except void
+     * and self-closing ones, has its end tag, in the right order. Optional
+     * end tags, which HTML allows to omit, for example of {@code <li>},
+     * are not guessed, such a fragment is not sealed.
+     *
+     * @param html The fragment
+     * @return TRUE if it may be joined
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    static boolean sealed(final String html) {
+        final Deque<String> open = new ArrayDeque<>(0);
+        boolean sealed = true;
+        int pos = html.indexOf('<');
+        while (sealed && pos >= 0) {
+            int next = pos + 1;
+            if (html.startsWith("<!--", pos)) {
+                next = html.indexOf("-->", pos + 4);
+                sealed = next >= 0;
+                next += 3;
+            } else if (html.startsWith("<!", pos)
+                || html.startsWith("<?", pos)) {
+                next = html.indexOf('>', pos);
+                sealed = next >= 0;
+                ++next;
+            } else if (html.startsWith("</", pos)) {
+                final String name = Fragments.name(html, pos + 2);
+                next = html.indexOf('>', pos);
+                sealed = next >= 0 && !name.isEmpty()
+                    && name.equals(open.pollFirst());
+                ++next;
+            } else {
+                final String name = Fragments.name(html, pos + 1);
+                if (!name.isEmpty()) {
+                    next = Fragments.end(html, pos);
+                    sealed = next >= 0;
+                    if (sealed && Fragments.RAW.contains(name)) {
+                        open.push(name);
+                        next = html.toLowerCase(Locale.ENGLISH).indexOf(
+                            String.format("</%s", name), next
+                        );
+                        sealed = next >= 0;
+                    } else if (sealed && html.charAt(next - 2) != '/'
+                        && !Fragments.VOID.contains(name)) {
+                        open.push(name);
+                    }
+                }
+            }
+            if (sealed) {
+                pos = html.indexOf('<', next);
+            }
+        }
+        return sealed && open.isEmpty();
+    }
+
+    /**
+     * Name of the tag, in lower case.
+     * @param html The fragment
+     * @param pos Where the name starts
+     * @return Name or empty string, if it's not a tag
+     */
+    private static String name(final String html, final int pos) {
+        int end = pos;
+        while (end < html.length()
+            && (Character.isLetterOrDigit(html.charAt(end))
+            || html.charAt(end) == '-' || html.charAt(end) == ':')) {
+            ++end;
+        }
+        final String name;
+        if (end > pos && Character.isLetter(html.charAt(pos))) {
+            name = html.substring(pos, end).toLowerCase(Locale.ENGLISH);
+        } else {
+            name = "";
+        }
+        return name;
+    }
+
+    /**
+     * Position right after the end of the start tag, skipping quoted
+     * attribute values.
+     * @param html The fragment
+     * @param pos Where the tag starts
+     * @return Position after its closing bracket or -1 if it's not closed
+     */
+    private static int end(final String html, final int pos) {
+        char quote = 0;
+        int end = -1;
+        for (int idx = pos + 1; idx < html.length(); ++idx) {
+            final char chr = html.charAt(idx);
+            if (quote != 0) {
+                if (chr == quote) {
+                    quote = 0;
+                }
+            } else if (chr == '"' || chr == '\'') {
+                quote = chr;
+            } else if (chr == '>') {
+                end = idx + 1;
+                break;
+            }
+        }
+        return end;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Waiting for validations running in other threads.
+ *
+ * <p>A failure of the task is thrown in the waiting thread the same way
+ * it would be thrown if the task ran there: {@link IOException},
+ * unchecked exceptions and {@link Error} as they are, other checked
+ * exceptions wrapped into {@link IOException}.
+ *
+ * <p>The waiting thread doesn't wait longer than its {@link Deadline},
+ * if there is any.
+ *
+ * @since 2.0
+ */
+final class Futures {
+
+    /**
+     * Timeout of a thread without a deadline.
+     */
+    private static final Duration FOREVER = Duration.ofNanos(Long.MAX_VALUE);
+
+    /**
+     * Utility class.
+     */
+    private Futures() {
+        // intentionally empty
+    }
+
+    /**
+     * Wait for the result of the task.
+     * @param future The task
+     * @param what What is awaited, for the message of interruption
+     * @param <T> Type of result
+     * @return The result
+     * @throws IOException If the task failed, the thread is interrupted
+     *  or the deadline of the thread is missed
+     */
+    static <T> T await(final Future<T> future, final String what)
+        throws IOException {
+        try {
+            return Futures.get(future, what);
+        } catch (final ExecutionException ex) {
+            throw Futures.failure(ex.getCause());
+        }
+    }
+
+    /**
+     * Wait for the task to finish, leaving its failure to the caller.
+     * @param future The task
+     * @param what What is awaited, for the message of interruption
+     * @param <T> Type of result
+     * @return The result
+     * @throws IOException If the thread is interrupted or the deadline
+     *  of the thread is missed
+     * @throws ExecutionException If the task failed
+     */
+    static <T> T get(final Future<T> future, final String what)
+        throws IOException, ExecutionException {
+        try {
+            final T result;
+            if (future.isDone()) {
+                result = future.get();
+            } else {
+                result = future.get(
+                    Deadline.timeout(Futures.FOREVER).toNanos(),
+                    TimeUnit.NANOSECONDS
+                );
+            }
+            return result;
+        } catch (final TimeoutException ex) {
+            final InterruptedIOException iex = new InterruptedIOException(
+                String.format("Deadline missed while waiting for %s", what)
+            );
+            iex.initCause(ex);
+            throw iex;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            final InterruptedIOException iex = new InterruptedIOException(
+                String.format("Interrupted while waiting for %s", what)
+            );
+            iex.initCause(ex);
+            throw iex;
+        }
+    }
+
+    /**
+     * The failure of the task, to be thrown in the waiting thread.
+     * Unchecked exceptions and errors are thrown right here.
+     * @param cause What the task has thrown
+     * @return The failure
+     */
+    static IOException failure(final Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        final IOException error;
+        if (cause instanceof IOException) {
+            error = (IOException) cause;
+        } else {
+            error = new IOException(cause);
+        }
+        return error;
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Input stream, which gzips another stream while it's being read.
+ *
+ * <p>Every read takes the next chunk of the origin stream and compresses
+ * it, so neither the origin nor the compressed body is ever kept in memory
+ * entirely, only one chunk and the output of the deflater for it.
+ *
+ * <p>Closing this stream releases the deflater, the origin stream
+ * is not closed.
+ *
+ * <p>The class is NOT thread-safe.
+ *
+ * @since 2.0
+ */
+final class GzipStream extends InputStream {
+
+    /**
+     * Size of the chunk, in bytes.
+     */
+    private static final int CHUNK = 8192;
+
+    /**
+     * The stream to compress.
+     */
+    private final transient InputStream origin;
+
+    /**
+     * Compressed bytes, which are not read yet.
+     */
+    private final transient GzipStream.Pending pending;
+
+    /**
+     * The compressor, which writes to the pending bytes.
+     */
+    private final transient GZIPOutputStream gzip;
+
+    /**
+     * The chunk of the origin stream.
+     */
+    private final transient byte[] chunk;
+
+    /**
+     * Position of the next pending byte to read.
+     */
+    private transient int pos;
+
+    /**
+     * Bytes read from the origin stream so far.
+     */
+    private transient long raw;
+
+    /**
+     * Compressed bytes read from this stream so far.
+     */
+    private transient long packed;
+
+    /**
+     * The origin stream is read to its end and compressed.
+     */
+    private transient boolean done;
+
+    /**
+     * Ctor.
+     * @param input The stream to compress
+     * @throws IOException If fails
+     */
+    GzipStream(final InputStream input) throws IOException {
+        super();
+        this.origin = input;
+        this.pending = new GzipStream.Pending();
+        this.gzip = new GZIPOutputStream(this.pending, GzipStream.CHUNK);
+        this.chunk = new byte[GzipStream.CHUNK];
+    }
+
+    @Override
+    public int read() throws IOException {
+        final byte[] one = new byte[1];
+        final int next;
+        if (this.read(one, 0, 1) < 0) {
+            next = -1;
+        } else {
+            next = one[0] & 0xff;
+        }
+        return next;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int off, final int len)
+        throws IOException {
+        while (this.pos == this.pending.size() && !this.done) {
+            this.fill();
+        }
+        final int count;
+        if (len == 0) {
+            count = 0;
+        } else if (this.pos == this.pending.size()) {
+            count = -1;
+        } else {
+            count = this.pending.copy(this.pos, buf, off, len);
+            this.pos += count;
+            this.packed += count;
+        }
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.gzip.close();
+    }
+
+    /**
+     * The origin stream is read to its end and compressed, and all
+     * compressed bytes are read from this stream.
+     * @return TRUE if finished
+     */
+    boolean finished() {
+        return this.done && this.pos == this.pending.size();
+    }
+
+    /**
+     * How many bytes were read from the origin stream.
+     * @return Number of bytes
+     */
+    long before() {
+        return this.raw;
+    }
+
+    /**
+     * How many compressed bytes were read from this stream.
+     * @return Number of bytes
+     */
+    long after() {
+        return this.packed;
+    }
+
+    /**
+     * Compress the next chunk of the origin stream, or finish
+     * the compression if it's over.
+     * @throws IOException If fails
+     */
+    private void fill() throws IOException {
+        this.pending.reset();
+        this.pos = 0;
+        final int count = this.origin.read(this.chunk);
+        if (count < 0) {
+            this.gzip.finish();
+            this.done = true;
+        } else {
+            this.raw += count;
+            this.gzip.write(this.chunk, 0, count);
+        }
+    }
+
+    /**
+     * Buffer of compressed bytes, which gives them without copying
+     * the entire buffer.
+     * @since 2.0
+     */
+    private static final class Pending extends ByteArrayOutputStream {
+
+        /**
+         * Ctor.
+         */
+        Pending() {
+            super(GzipStream.CHUNK);
+        }
+
+        /**
+         * Copy bytes into the array.
+         * @param from Position of the first byte to copy
+         * @param dest The array
+         * @param off Where to start in the array
+         * @param len Maximum number of bytes to copy
+         * @return How many bytes were copied
+         */
+        int copy(final int from, final byte[] dest, final int off,
+            final int len) {
+            final int count = Math.min(len, this.count - from);
+            System.arraycopy(this.buf, from, dest, off, count);
+            return count;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import com.jcabi.log.Logger;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Transport, which compresses large bodies with gzip before
+ * sending them.
+ *
+ * <p>Nu HTML checker accepts {@code Content-Encoding: gzip}, so big
+ * pages may be uploaded many times faster:
+ *
+ * <pre> Transport transport = new GzipTransport(
+ *   new PooledTransport(), 16 * 1024
+ * );
+ * Validator validator = new ValidatorBuilder().html(uri, transport);</pre>
+ *
+ * <p>Bodies are compressed while they are being sent, chunk by chunk,
+ * through {@link Transport#post(URI, Map, InputStream)} of the origin
+ * transport, so the compressed body is never kept in memory entirely,
+ * if the origin transport streams it, like {@link PooledTransport} does.
+ *
+ * <p>Bodies shorter than the threshold are sent as is, since gzip
+ * can't make them noticeably smaller. When a streamed body is posted,
+ * no more than the threshold is read ahead, to find out whether it's
+ * shorter. Jigsaw CSS validator doesn't
+ * understand compressed bodies, don't use this transport with it.
+ *
+ * <p>Use {@link #ratio()} to find out how well bodies are compressed
+ * and tune the threshold.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 2.0
+ */
+public final class GzipTransport implements Transport {
+
+    /**
+     * The transport to send through.
+     */
+    private final transient Transport origin;
+
+    /**
+     * Minimum size of a body to compress, in bytes.
+     */
+    private final transient int threshold;
+
+    /**
+     * Total size of compressed bodies, before compression.
+     */
+    private final transient LongAdder before;
+
+    /**
+     * Total size of compressed bodies, after compression.
+     */
+    private final transient LongAdder after;
+
+    /**
+     * Ctor, with 16Kb threshold.
+     * @param transport The transport to send through
+     */
+    public GzipTransport(final Transport transport) {
+        this(transport, 16 * 1024);
+    }
+
+    /**
+     * Ctor.
+     * @param transport The transport to send through
+     * @param min Minimum size of a body to compress, in bytes
+     */
+    public GzipTransport(final Transport transport, final int min) {
+        this.origin = transport;
+        this.threshold = min;
+        this.before = new LongAdder();
+        this.after = new LongAdder();
+    }
+
+    @Override
+    public Reply post(final URI uri, final Map<String, String> headers,
+        final byte[] body) throws IOException {
+        final Reply reply;
+        if (body.length < this.threshold) {
+            reply = this.origin.post(uri, headers, body);
+        } else {
+            reply = this.gzipped(uri, headers, new ByteArrayInputStream(body));
+        }
+        return reply;
+    }
+
+    @Override
+    public Reply post(final URI uri, final Map<String, String> headers,
+        final InputStream body) throws IOException {
+        final byte[] head = body.readNBytes(this.threshold);
+        final Reply reply;
+        if (head.length < this.threshold) {
+            reply = this.origin.post(uri, headers, head);
+        } else {
+            reply = this.gzipped(
+                uri, headers,
+                new SequenceInputStream(new ByteArrayInputStream(head), body)
+            );
+        }
+        return reply;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.origin.close();
+    }
+
+    /**
+     * Total size of all compressed bodies divided by their total size
+     * before compression.
+     * @return The ratio, for example 0.15, or 1.0 if nothing
+     *  was compressed yet
+     */
+    public double ratio() {
+        final long total = this.before.sum();
+        final double ratio;
+        if (total == 0L) {
+            ratio = 1.0d;
+        } else {
+            ratio = (double) this.after.sum() / (double) total;
+        }
+        return ratio;
+    }
+
+    @Override
+    public String toString() {
+        return Logger.format(
+            "gzip over %d bytes, %d bytes compressed to %d (%.2f) via %s",
+            this.threshold, this.before.sum(), this.after.sum(),
+            this.ratio(), this.origin
+        );
+    }
+
+    /**
+     * POST the body, compressing it while it's being sent.
+     * @param uri Where to POST
+     * @param headers HTTP headers
+     * @param body The body
+     * @return The reply
+     * @throws IOException If fails
+     */
+    private Reply gzipped(final URI uri, final Map<String, String> headers,
+        final InputStream body) throws IOException {
+        final Map<String, String> map = new HashMap<>(headers);
+        map.put("Content-Encoding", "gzip");
+        try (GzipStream gzip = new GzipStream(body)) {
+            final Reply reply = this.origin.post(uri, map, gzip);
+            if (gzip.finished()) {
+                this.before.add(gzip.before());
+                this.after.add(gzip.after());
+                Logger.debug(
+                    this, "%d bytes compressed to %d bytes for %s",
+                    gzip.before(), gzip.after(), uri
+                );
+            }
+            return reply;
+        }
+    }
+}
@@ -0,0 +1,394 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import com.jcabi.log.Logger;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Validator, which sends a document to the second validator, when
+ * the first one is late, and takes the answer which comes first.
+ *
+ * <p>One slow node of the validator makes the tail latency many times
+ * longer than the median. This validator remembers how long validations
+ * take and, when the first validator doesn't answer by the given
+ * percentile (95th by default), sends the same document to the second
+ * one. The first answer wins, the other request is cancelled by
+ * interrupting its thread, which {@link PooledTransport} supports:
+ *
+ * <pre> Validator validator = new DeadlineValidator(
+ *   new HedgedValidator(
+ *     new ValidatorBuilder().html(first, transport),
+ *     new ValidatorBuilder().html(second, transport)
+ *   ),
+ *   Duration.ofSeconds(10)
+ * );</pre>
+ *
+ * <p>Nothing is hedged until twenty validations are measured. When the
+ * first validator fails, the document goes to the second one at once.
+ * Once hedging is possible, or when the calling thread has a deadline
+ * (see {@link DeadlineValidator}), both attempts run in daemon threads
+ * of this validator, within that deadline, so every validation takes
+ * one extra thread; otherwise the calling thread validates by itself.
+ * Documents from an {@link InputStream} can't be sent twice, they only
+ * go to the first validator.
+ *
+ * <p>The losing attempt is interrupted, which {@link LimitedTransport}
+ * doesn't count as a failure of the endpoint, so hedging doesn't shrink
+ * its limit.
+ *
+ * <p>Close the validator to stop its threads.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 2.0
+ */
+public final class HedgedValidator implements Validator, Closeable {
+
+    /**
+     * How many validations to measure before hedging.
+     */
+    private static final long SAMPLES = 20L;
+
+    /**
+     * The validator to ask first.
+     */
+    private final transient Validator first;
+
+    /**
+     * The validator to ask when the first one is late.
+     */
+    private final transient Validator second;
+
+    /**
+     * Percentile of latency to wait for, for example 0.95.
+     */
+    private final transient double share;
+
+    /**
+     * Latencies of successful attempts.
+     */
+    private final transient Histogram latencies;
+
+    /**
+     * Threads to run attempts in.
+     */
+    private final transient ExecutorService threads;
+
+    /**
+     * How many documents were hedged.
+     */
+    private final transient LongAdder hedges;
+
+    /**
+     * Ctor, which hedges after 95th percentile.
+     * @param primary The validator to ask first
+     * @param backup The validator to ask when the first one is late
+     */
+    public HedgedValidator(final Validator primary, final Validator backup) {
+        this(primary, backup, 0.95d);
+    }
+
+    /**
+     * Ctor.
+     * @param primary The validator to ask first
+     * @param backup The validator to ask when the first one is late
+     * @param pctl Percentile of latency to wait for, for example 0.95
+     */
+    public HedgedValidator(final Validator primary, final Validator backup,
+        final double pctl) {
+        this(primary, backup, pctl, HedgedValidator.daemons());
+    }
+
+    /**
+     * Ctor.
+     * @param primary The validator to ask first
+     * @param backup The validator to ask when the first one is late
+     * @param pctl Percentile of latency to wait for
+     * @param service Threads to run attempts in
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private HedgedValidator(final Validator primary, final Validator backup,
+        final double pctl, final ExecutorService service) {
+        this.first = primary;
+        this.second = backup;
+        this.share = pctl;
+        this.latencies = new Histogram();
+        this.threads = service;
+        this.hedges = new LongAdder();
+    }
+
+    @Override
+    public ValidationResponse validate(final String content)
+        throws IOException {
+        return this.hedged(validator -> validator.validate(content));
+    }
+
+    @Override
+    public ValidationResponse validate(final Path file) throws IOException {
+        return this.hedged(validator -> validator.validate(file));
+    }
+
+    @Override
+    public ValidationResponse validate(final InputStream input,
+        final Charset charset) throws IOException {
+        return this.first.validate(input, charset);
+    }
+
+    @Override
+    public ValidationResponse validate(final ByteBuffer buffer,
+        final Charset charset) throws IOException {
+        return this.hedged(validator -> validator.validate(buffer, charset));
+    }
+
+    @Override
+    public void close() {
+        this.threads.shutdownNow();
+    }
+
+    /**
+     * How many documents were sent to the second validator.
+     * @return Number of hedged documents
+     */
+    public long hedged() {
+        return this.hedges.sum();
+    }
+
+    @Override
+    public String toString() {
+        return Logger.format(
+            "hedged after p%.0f, %d of %d documents hedged",
+            this.share * 100.0d, this.hedges.sum(), this.latencies.count()
+        );
+    }
+
+    /**
+     * Validate by the first validator and, if it is late, by the second
+     * one too.
+     * @param call What to do with a validator
+     * @return The first response
+     * @throws IOException If both attempts fail or the deadline is missed
+     */
+    private ValidationResponse hedged(final HedgedValidator.Call call)
+        throws IOException {
+        final Optional<Deadline> deadline = Deadline.current();
+        final ValidationResponse response;
+        if (deadline.isPresent()
+            || this.latencies.count() >= HedgedValidator.SAMPLES) {
+            response = this.pooled(call, deadline);
+        } else {
+            response = this.inline(call);
+        }
+        return response;
+    }
+
+    /**
+     * Validate by the first validator in the calling thread and,
+     * if it fails, by the second one.
+     * @param call What to do with a validator
+     * @return The response
+     * @throws IOException If both attempts fail
+     */
+    private ValidationResponse inline(final HedgedValidator.Call call)
+        throws IOException {
+        ValidationResponse response;
+        try {
+            response = this.attempt(this.first, call, Optional.empty());
+        } catch (final IOException ex) {
+            this.hedges.increment();
+            try {
+                response = this.attempt(this.second, call, Optional.empty());
+            } catch (final IOException cause) {
+                ex.addSuppressed(cause);
+                throw ex;
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Validate by the first validator in a thread of the pool and,
+     * if it is late, by the second one too.
+     * @param call What to do with a validator
+     * @param deadline Deadline of the calling thread
+     * @return The first response
+     * @throws IOException If both attempts fail or the deadline is missed
+     */
+    private ValidationResponse pooled(final HedgedValidator.Call call,
+        final Optional<Deadline> deadline) throws IOException {
+        final CompletionService<ValidationResponse> service =
+            new ExecutorCompletionService<>(this.threads);
+        final Collection<Future<ValidationResponse>> attempts =
+            new ArrayList<>(2);
+        final Future<ValidationResponse> primary = service.submit(
+            () -> this.attempt(this.first, call, deadline)
+        );
+        attempts.add(primary);
+        try {
+            boolean late;
+            try {
+                primary.get(
+                    Math.min(this.delay(), HedgedValidator.left(deadline)),
+                    TimeUnit.NANOSECONDS
+                );
+                late = false;
+            } catch (final TimeoutException | ExecutionException ex) {
+                late = true;
+            }
+            if (late && HedgedValidator.left(deadline) > 0L) {
+                this.hedges.increment();
+                attempts.add(
+                    service.submit(
+                        () -> this.attempt(this.second, call, deadline)
+                    )
+                );
+            }
+            return HedgedValidator.winner(service, attempts.size(), deadline);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            final InterruptedIOException iex = new InterruptedIOException(
+                "Interrupted while waiting for validators"
+            );
+            iex.initCause(ex);
+            throw iex;
+        } finally {
+            for (final Future<ValidationResponse> attempt : attempts) {
+                attempt.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Validate by one validator and measure how long it takes.
+     * @param validator The validator
+     * @param call What to do with it
+     * @param deadline Deadline of the calling thread
+     * @return The response
+     * @throws IOException If fails
+     */
+    private ValidationResponse attempt(final Validator validator,
+        final HedgedValidator.Call call, final Optional<Deadline> deadline)
+        throws IOException {
+        final long start = System.nanoTime();
+        final ValidationResponse response = Deadline.within(
+            deadline, () -> call.apply(validator)
+        );
+        this.latencies.add(System.nanoTime() - start);
+        return response;
+    }
+
+    /**
+     * How long to wait for the first validator before hedging.
+     * @return Nanoseconds
+     */
+    private long delay() {
+        final long delay;
+        if (this.latencies.count() < HedgedValidator.SAMPLES) {
+            delay = Long.MAX_VALUE;
+        } else {
+            delay = this.latencies.percentile(this.share);
+        }
+        return delay;
+    }
+
+    /**
+     * Take the first successful response.
+     * @param service Attempts
+     * @param total How many attempts were made
+     * @param deadline Deadline of the calling thread
+     * @return The response
+     * @throws IOException If all attempts fail or the deadline is missed
+     * @throws InterruptedException If interrupted
+     */
+    private static ValidationResponse winner(
+        final CompletionService<ValidationResponse> service, final int total,
+        final Optional<Deadline> deadline)
+        throws IOException, InterruptedException {
+        ValidationResponse response = null;
+        IOException error = null;
+        int pending = total;
+        while (response == null && pending > 0) {
+            final Future<ValidationResponse> done = service.poll(
+                HedgedValidator.left(deadline), TimeUnit.NANOSECONDS
+            );
+            if (done == null) {
+                throw new InterruptedIOException(
+                    "Deadline missed while waiting for validators"
+                );
+            }
+            --pending;
+            try {
+                response = done.get();
+            } catch (final ExecutionException ex) {
+                final IOException cause = Futures.failure(ex.getCause());
+                if (error == null) {
+                    error = cause;
+                } else {
+                    error.addSuppressed(cause);
+                }
+            }
+        }
+        if (response == null) {
+            throw error;
+        }
+        return response;
+    }
+
+    /**
+     * Time left till the deadline.
+     * @param deadline The deadline, if there is any
+     * @return Nanoseconds
+     */
+    private static long left(final Optional<Deadline> deadline) {
+        return deadline.map(Deadline::left).orElse(Long.MAX_VALUE);
+    }
+
+    /**
+     * Make a pool of daemon threads.
+     * @return The pool
+     */
+    private static ExecutorService daemons() {
+        return Executors.newCachedThreadPool(
+            runnable -> {
+                final Thread thread = new Thread(runnable, "w3c-hedged");
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+    }
+
+    /**
+     * Validation by one validator.
+     *
+     * @since 2.0
+     */
+    private interface Call {
+        /**
+         * Validate.
+         * @param validator The validator
+         * @return The response
+         * @throws IOException If fails
+         */
+        ValidationResponse apply(Validator validator) throws IOException;
+    }
+}
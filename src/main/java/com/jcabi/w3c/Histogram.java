@@ -0,0 +1,150 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of latencies, with fixed buckets from
+ * one millisecond to one minute.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 2.0
+ */
+final class Histogram {
+
+    /**
+     * Upper bounds of buckets, in nanoseconds.
+     */
+    private static final long[] BOUNDS = {
+        1_000_000L, 2_500_000L, 5_000_000L,
+        10_000_000L, 25_000_000L, 50_000_000L,
+        100_000_000L, 250_000_000L, 500_000_000L,
+        1_000_000_000L, 2_500_000_000L, 5_000_000_000L,
+        10_000_000_000L, 30_000_000_000L, 60_000_000_000L,
+    };
+
+    /**
+     * Counters of buckets, the last one is for values over all bounds.
+     */
+    private final transient LongAdder[] buckets;
+
+    /**
+     * Sum of all values, in nanoseconds.
+     */
+    private final transient LongAdder total;
+
+    /**
+     * Ctor.
+     */
+    Histogram() {
+        this.buckets = Histogram.counters(Histogram.BOUNDS.length + 1);
+        this.total = new LongAdder();
+    }
+
+    /**
+     * Add a value.
+     * @param nanos The value, in nanoseconds
+     */
+    void add(final long nanos) {
+        int idx = 0;
+        while (idx < Histogram.BOUNDS.length && nanos > Histogram.BOUNDS[idx]) {
+            ++idx;
+        }
+        this.buckets[idx].increment();
+        this.total.add(nanos);
+    }
+
+    /**
+     * How many values were added.
+     * @return Number of values
+     */
+    long count() {
+        return this.cumulative(Histogram.BOUNDS.length);
+    }
+
+    /**
+     * Sum of all values.
+     * @return Sum, in nanoseconds
+     */
+    long sum() {
+        return this.total.sum();
+    }
+
+    /**
+     * How many values are not greater than the upper bound of the bucket.
+     * @param bucket Number of the bucket, from zero to {@link #size()}
+     * @return Number of values
+     */
+    long cumulative(final int bucket) {
+        long count = 0L;
+        for (int idx = 0; idx <= bucket; ++idx) {
+            count += this.buckets[idx].sum();
+        }
+        return count;
+    }
+
+    /**
+     * Upper bound of the value, which is greater than the given share
+     * of all values.
+     * @param share The share, from zero to one, for example 0.99
+     * @return Upper bound of the bucket, in nanoseconds, zero if there
+     *  are no values, or {@link Long#MAX_VALUE} if it's over all bounds
+     */
+    long percentile(final double share) {
+        final long count = this.count();
+        final long rank = (long) Math.ceil(share * count);
+        long seen = this.buckets[0].sum();
+        int idx = 0;
+        while (seen < rank && idx < Histogram.BOUNDS.length) {
+            ++idx;
+            seen += this.buckets[idx].sum();
+        }
+        final long bound;
+        if (count == 0L) {
+            bound = 0L;
+        } else {
+            bound = Histogram.bound(idx);
+        }
+        return bound;
+    }
+
+    /**
+     * Total number of buckets with finite bounds.
+     * @return Number of buckets
+     */
+    static int size() {
+        return Histogram.BOUNDS.length;
+    }
+
+    /**
+     * Upper bound of the bucket.
+     * @param bucket Number of the bucket, from zero to {@link #size()}
+     * @return Bound, in nanoseconds, {@link Long#MAX_VALUE} for the last one
+     */
+    static long bound(final int bucket) {
+        final long bound;
+        if (bucket < Histogram.BOUNDS.length) {
+            bound = Histogram.BOUNDS[bucket];
+        } else {
+            bound = Long.MAX_VALUE;
+        }
+        return bound;
+    }
+
+    /**
+     * Make counters.
+     * @param total How many of them
+     * @return Counters
+     */
+    private static LongAdder[] counters(final int total) {
+        final LongAdder[] counters = new LongAdder[total];
+        for (int idx = 0; idx < total; ++idx) {
+            counters[idx] = new LongAdder();
+        }
+        return counters;
+    }
+}
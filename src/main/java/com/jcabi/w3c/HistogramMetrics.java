@@ -0,0 +1,268 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import com.jcabi.log.Logger;
+import java.net.URI;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics, which accumulate latency histograms of every phase,
+ * byte counts, defect counts, HTTP statuses and failures.
+ *
+ * <p>All accumulators are lock-free, so the metrics may be shared by
+ * many threads of one validator. Use one instance per validator and
+ * publish them with {@link PrometheusText}, if necessary.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 2.0
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class HistogramMetrics implements Metrics {
+
+    /**
+     * Histograms of phases.
+     */
+    private final transient Map<Metrics.Phase, Histogram> phases;
+
+    /**
+     * Bytes sent.
+     */
+    private final transient LongAdder sent;
+
+    /**
+     * Bytes received.
+     */
+    private final transient LongAdder received;
+
+    /**
+     * Errors found.
+     */
+    private final transient LongAdder errs;
+
+    /**
+     * Warnings found.
+     */
+    private final transient LongAdder warns;
+
+    /**
+     * Responses by HTTP status.
+     */
+    private final transient ConcurrentMap<Integer, LongAdder> codes;
+
+    /**
+     * Failures by type.
+     */
+    private final transient ConcurrentMap<String, LongAdder> fails;
+
+    /**
+     * Concurrency limits by endpoints.
+     */
+    private final transient ConcurrentMap<String, AtomicInteger> limits;
+
+    /**
+     * Ctor.
+     */
+    public HistogramMetrics() {
+        this.phases = HistogramMetrics.histograms();
+        this.sent = new LongAdder();
+        this.received = new LongAdder();
+        this.errs = new LongAdder();
+        this.warns = new LongAdder();
+        this.codes = new ConcurrentHashMap<>(0);
+        this.fails = new ConcurrentHashMap<>(0);
+        this.limits = new ConcurrentHashMap<>(0);
+    }
+
+    @Override
+    public void latency(final Metrics.Phase phase, final long nanos) {
+        this.phases.get(phase).add(nanos);
+    }
+
+    @Override
+    public void request(final long bytes) {
+        this.sent.add(bytes);
+    }
+
+    @Override
+    public void response(final long bytes) {
+        this.received.add(bytes);
+    }
+
+    @Override
+    public void status(final int code) {
+        this.codes.computeIfAbsent(code, key -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void defects(final int errors, final int warnings) {
+        this.errs.add(errors);
+        this.warns.add(warnings);
+    }
+
+    @Override
+    public void failure(final Throwable error) {
+        this.fails.computeIfAbsent(
+            error.getClass().getSimpleName(), key -> new LongAdder()
+        ).increment();
+    }
+
+    @Override
+    public void limit(final URI endpoint, final int value) {
+        this.limits.computeIfAbsent(
+            endpoint.toString(), key -> new AtomicInteger()
+        ).set(value);
+    }
+
+    @Override
+    public String toString() {
+        return Logger.format(
+            String.join(
+                ", ",
+                "fetch p50=%[nano]s p99=%[nano]s",
+                "parse p50=%[nano]s",
+                "%d calls",
+                "%d bytes sent",
+                "%d received",
+                "%d errors",
+                "%d warnings",
+                "statuses %s",
+                "failures %s"
+            ),
+            this.percentile(Metrics.Phase.FETCH, 0.5d),
+            this.percentile(Metrics.Phase.FETCH, 0.99d),
+            this.percentile(Metrics.Phase.PARSE, 0.5d),
+            this.count(Metrics.Phase.FETCH),
+            this.sent.sum(), this.received.sum(),
+            this.errs.sum(), this.warns.sum(),
+            this.statuses(), this.failures()
+        );
+    }
+
+    /**
+     * How many times the phase was measured.
+     * @param phase The phase
+     * @return Number of measurements
+     */
+    public long count(final Metrics.Phase phase) {
+        return this.phases.get(phase).count();
+    }
+
+    /**
+     * Approximate latency of the phase, which is longer than the given
+     * share of all measurements.
+     * @param phase The phase
+     * @param share The share, for example 0.99 for 99th percentile
+     * @return Upper bound of the latency, in nanoseconds
+     */
+    public long percentile(final Metrics.Phase phase, final double share) {
+        return this.phases.get(phase).percentile(share);
+    }
+
+    /**
+     * Total size of all request bodies.
+     * @return Number of bytes
+     */
+    public long requestBytes() {
+        return this.sent.sum();
+    }
+
+    /**
+     * Total size of all response bodies.
+     * @return Number of bytes
+     */
+    public long responseBytes() {
+        return this.received.sum();
+    }
+
+    /**
+     * Total number of errors found.
+     * @return Number of errors
+     */
+    public long errors() {
+        return this.errs.sum();
+    }
+
+    /**
+     * Total number of warnings found.
+     * @return Number of warnings
+     */
+    public long warnings() {
+        return this.warns.sum();
+    }
+
+    /**
+     * Number of responses by HTTP status.
+     * @return Numbers, sorted by status
+     */
+    public Map<Integer, Long> statuses() {
+        return HistogramMetrics.snapshot(this.codes);
+    }
+
+    /**
+     * Number of failures by simple name of exception class.
+     * @return Numbers, sorted by name
+     */
+    public Map<String, Long> failures() {
+        return HistogramMetrics.snapshot(this.fails);
+    }
+
+    /**
+     * Current concurrency limits by endpoints.
+     * @return Limits, sorted by endpoint
+     */
+    public Map<String, Integer> concurrency() {
+        final Map<String, Integer> map = new TreeMap<>();
+        for (final Map.Entry<String, AtomicInteger> entry
+            : this.limits.entrySet()) {
+            map.put(entry.getKey(), entry.getValue().get());
+        }
+        return map;
+    }
+
+    /**
+     * Histogram of the phase.
+     * @param phase The phase
+     * @return The histogram
+     */
+    Histogram histogram(final Metrics.Phase phase) {
+        return this.phases.get(phase);
+    }
+
+    /**
+     * Make histograms for all phases.
+     * @return Histograms
+     */
+    private static Map<Metrics.Phase, Histogram> histograms() {
+        final Map<Metrics.Phase, Histogram> map =
+            new EnumMap<>(Metrics.Phase.class);
+        for (final Metrics.Phase phase : Metrics.Phase.values()) {
+            map.put(phase, new Histogram());
+        }
+        return map;
+    }
+
+    /**
+     * Take a sorted snapshot of counters.
+     * @param counters The counters
+     * @param <T> Type of keys
+     * @return Snapshot
+     */
+    private static <T> Map<T, Long> snapshot(
+        final Map<T, LongAdder> counters) {
+        final Map<T, Long> map = new TreeMap<>();
+        for (final Map.Entry<T, LongAdder> entry : counters.entrySet()) {
+            map.put(entry.getKey(), entry.getValue().sum());
+        }
+        return map;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.request.JdkRequest;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Transport, which makes a new {@link JdkRequest} for every document.
+ *
+ * <p>This is what validators use by default. When the current thread
+ * has a deadline (see {@link DeadlineValidator}), connect and read
+ * timeouts are set to what is left of it.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode
+public final class JdkTransport implements Transport {
+
+    /**
+     * Longest timeout jcabi-http supports.
+     */
+    private static final Duration FOREVER =
+        Duration.ofMillis(Integer.MAX_VALUE);
+
+    @Override
+    public Reply post(final URI uri, final Map<String, String> headers,
+        final byte[] body) throws IOException {
+        Request request = new JdkRequest(uri)
+            .method(Request.POST)
+            .body().set(body).back();
+        for (final Map.Entry<String, String> header : headers.entrySet()) {
+            request = request.header(header.getKey(), header.getValue());
+        }
+        if (Deadline.current().isPresent()) {
+            final int millis = (int) Math.max(
+                1L, Deadline.timeout(JdkTransport.FOREVER).toMillis()
+            );
+            request = request.timeout(millis, millis);
+        }
+        return new JdkTransport.JdkReply(request.fetch());
+    }
+
+    @Override
+    public void close() {
+        // nothing to close
+    }
+
+    /**
+     * Reply of jcabi-http, which is already fully read.
+     * @since 2.0
+     */
+    private static final class JdkReply implements Reply {
+
+        /**
+         * The response.
+         */
+        private final transient Response response;
+
+        /**
+         * Ctor.
+         * @param rsp The response
+         */
+        JdkReply(final Response rsp) {
+            this.response = rsp;
+        }
+
+        @Override
+        public int status() {
+            return this.response.status();
+        }
+
+        @Override
+        public String reason() {
+            return this.response.reason();
+        }
+
+        @Override
+        public InputStream body() {
+            return new ByteArrayInputStream(this.response.binary());
+        }
+
+        @Override
+        public void close() {
+            // the body is already in memory
+        }
+    }
+}
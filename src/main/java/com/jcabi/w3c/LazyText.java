@@ -0,0 +1,162 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+/**
+ * Text field of a {@link Defect}, which is cut out of the
+ * {@link TextBuffer} of its response only when it is read.
+ *
+ * <p>The hash code is calculated when the text is made, the same way
+ * {@link String#hashCode()} does it, so defects can be put into hash sets
+ * without reading their texts. Texts are compared only when their hash
+ * codes are equal.
+ *
+ * <p>Once the text is read, it doesn't refer to the buffer anymore. A
+ * released copy, see {@link ValidationResponse#released()}, is the same
+ * text, already read.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 2.0
+ */
+final class LazyText {
+
+    /**
+     * Empty text.
+     */
+    static final LazyText EMPTY = new LazyText("");
+
+    /**
+     * Position of the first character in the buffer.
+     */
+    private final transient int start;
+
+    /**
+     * Position after the last character in the buffer.
+     */
+    private final transient int end;
+
+    /**
+     * Hash code of the text.
+     */
+    private final transient int hash;
+
+    /**
+     * The buffer or NULL, if the text is read.
+     */
+    private transient volatile TextBuffer buffer;
+
+    /**
+     * The text or NULL, if it is not read yet.
+     */
+    private transient volatile String value;
+
+    /**
+     * Ctor.
+     * @param text The text, which is already read
+     */
+    LazyText(final String text) {
+        this(null, 0, text.length(), text.hashCode(), text);
+    }
+
+    /**
+     * Ctor.
+     * @param buf The buffer
+     * @param first Position of the first character in the buffer
+     * @param last Position after the last character in the buffer
+     * @param code Hash code of the text
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    LazyText(final TextBuffer buf, final int first, final int last,
+        final int code) {
+        this(buf, first, last, code, null);
+    }
+
+    /**
+     * Ctor.
+     * @param buf The buffer or NULL
+     * @param first Position of the first character in the buffer
+     * @param last Position after the last character in the buffer
+     * @param code Hash code of the text
+     * @param text The text or NULL, if it is not read yet
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private LazyText(final TextBuffer buf, final int first, final int last,
+        final int code, final String text) {
+        this.start = first;
+        this.end = last;
+        this.hash = code;
+        this.buffer = buf;
+        this.value = text;
+    }
+
+    /**
+     * Read the text.
+     * @return The text
+     */
+    String get() {
+        String text = this.value;
+        if (text == null) {
+            synchronized (this) {
+                text = this.value;
+                if (text == null) {
+                    text = this.read();
+                    this.value = text;
+                    this.buffer = null;
+                }
+            }
+        }
+        return text;
+    }
+
+    /**
+     * Is it empty.
+     * @return TRUE if there are no characters in the text
+     */
+    boolean isEmpty() {
+        return this.start == this.end;
+    }
+
+    /**
+     * Make a copy, which doesn't refer to the buffer, reading the text
+     * from the buffer, if it is not read yet.
+     * @return The copy
+     */
+    LazyText released() {
+        return new LazyText(this.get());
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj || obj instanceof LazyText
+            && this.hash == ((LazyText) obj).hash
+            && this.get().equals(((LazyText) obj).get());
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    @Override
+    public String toString() {
+        return this.get();
+    }
+
+    /**
+     * Read the text from the buffer.
+     * @return The text
+     */
+    private String read() {
+        final TextBuffer buf = this.buffer;
+        final String text;
+        if (this.isEmpty()) {
+            text = "";
+        } else {
+            text = buf.substring(this.start, this.end);
+        }
+        return text;
+    }
+}
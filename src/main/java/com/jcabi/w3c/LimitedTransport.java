@@ -0,0 +1,204 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Transport, which limits the number of concurrent requests to every
+ * endpoint and adapts the limit to how the endpoint copes with the load.
+ *
+ * <p>Public W3C validators throttle aggressive clients, while a private
+ * instance may take much more than a fixed pool would send. The limit
+ * of every endpoint (scheme, host and port) starts low, grows while
+ * responses are fast and successful, and is halved as soon as the
+ * endpoint answers with 429 or 5xx, or fails, see {@link AimdLimit}.
+ * A request, which is interrupted or misses the deadline of its thread,
+ * is cancelled by the client and doesn't change the limit, so hedged
+ * and timed out validations don't shrink it. Requests over the limit
+ * wait for their turn instead of failing:
+ *
+ * <pre> Transport transport = new LimitedTransport(
+ *   new PooledTransport(), 4, 64, 10.0d, metrics
+ * );
+ * Validator validator = new ValidatorBuilder().html(
+ *   uri, transport, metrics
+ * );</pre>
+ *
+ * <p>Optionally, the rate of requests is capped by a token bucket,
+ * shared by all endpoints. A request is counted as in flight until
+ * the status of its response is received.
+ *
+ * <p>Current limits are reported to {@link Metrics#limit(URI, int)}
+ * and are also available via {@link #limits()}.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 2.0
+ */
+public final class LimitedTransport implements Transport {
+
+    /**
+     * The transport to send through.
+     */
+    private final transient Transport origin;
+
+    /**
+     * Initial limit of every endpoint.
+     */
+    private final transient int initial;
+
+    /**
+     * Maximum limit of every endpoint.
+     */
+    private final transient int max;
+
+    /**
+     * Rate limit.
+     */
+    private final transient TokenBucket bucket;
+
+    /**
+     * Where to report limits.
+     */
+    private final transient Metrics metrics;
+
+    /**
+     * Limits by endpoints.
+     */
+    private final transient ConcurrentMap<URI, AimdLimit> endpoints;
+
+    /**
+     * Ctor, with limits from 4 to 64 and no rate limit.
+     * @param transport The transport to send through
+     */
+    public LimitedTransport(final Transport transport) {
+        this(transport, 4, 64);
+    }
+
+    /**
+     * Ctor, with no rate limit.
+     * @param transport The transport to send through
+     * @param first Initial limit of every endpoint
+     * @param most Maximum limit of every endpoint
+     */
+    public LimitedTransport(final Transport transport, final int first,
+        final int most) {
+        this(transport, first, most, 0.0d, new NoMetrics());
+    }
+
+    /**
+     * Ctor.
+     * @param transport The transport to send through
+     * @param first Initial limit of every endpoint
+     * @param most Maximum limit of every endpoint
+     * @param rate Maximum requests per second, zero for no limit
+     * @param mtrcs Where to report limits
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public LimitedTransport(final Transport transport, final int first,
+        final int most, final double rate, final Metrics mtrcs) {
+        this.origin = transport;
+        this.initial = first;
+        this.max = most;
+        this.bucket = new TokenBucket(rate);
+        this.metrics = mtrcs;
+        this.endpoints = new ConcurrentHashMap<>(0);
+    }
+
+    @Override
+    public Reply post(final URI uri, final Map<String, String> headers,
+        final byte[] body) throws IOException {
+        return this.limited(uri, () -> this.origin.post(uri, headers, body));
+    }
+
+    @Override
+    public Reply post(final URI uri, final Map<String, String> headers,
+        final InputStream body) throws IOException {
+        return this.limited(uri, () -> this.origin.post(uri, headers, body));
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.origin.close();
+    }
+
+    /**
+     * Current concurrency limits by endpoints.
+     * @return Limits, sorted by endpoint
+     */
+    public Map<URI, Integer> limits() {
+        final Map<URI, Integer> map = new TreeMap<>();
+        for (final Map.Entry<URI, AimdLimit> entry
+            : this.endpoints.entrySet()) {
+            map.put(entry.getKey(), entry.getValue().limit());
+        }
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return Logger.format("limits %s via %s", this.limits(), this.origin);
+    }
+
+    /**
+     * Send the request when the limits allow it.
+     * @param uri Where the request goes
+     * @param call How to send it
+     * @return The reply
+     * @throws IOException If fails
+     */
+    private Reply limited(final URI uri, final LimitedTransport.Call call)
+        throws IOException {
+        final URI endpoint = uri.resolve("/");
+        final AimdLimit limit = this.endpoints.computeIfAbsent(
+            endpoint, key -> new AimdLimit(this.initial, this.max)
+        );
+        this.bucket.take();
+        limit.acquire();
+        boolean finished = false;
+        boolean dropped = false;
+        final long start = System.nanoTime();
+        try {
+            final Reply reply = call.send();
+            final int status = reply.status();
+            dropped = status == 429 || status >= 500;
+            finished = true;
+            return reply;
+        } catch (final IOException ex) {
+            finished = !Deadline.cancelled(ex);
+            dropped = finished;
+            throw ex;
+        } finally {
+            if (finished) {
+                limit.release(dropped, System.nanoTime() - start);
+            } else {
+                limit.cancel();
+            }
+            this.metrics.limit(endpoint, limit.limit());
+        }
+    }
+
+    /**
+     * Sending of a request.
+     *
+     * @since 2.0
+     */
+    private interface Call {
+        /**
+         * Send it.
+         * @return The reply
+         * @throws IOException If fails
+         */
+        Reply send() throws IOException;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import com.jcabi.log.Logger;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bounded in-memory LRU store of validation responses.
+ *
+ * <p>Every entry has a weight: one unit for the response itself plus
+ * one unit for every error and warning inside it. When the total weight
+ * goes over the capacity, least recently used entries are evicted,
+ * so a few huge responses can't take the entire memory:
+ *
+ * <pre> LruResponseCache cache = new LruResponseCache(10_000);
+ * Validator validator = new ValidatorBuilder().html(uri, cache);</pre>
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 2.0
+ */
+public final class LruResponseCache implements ResponseCache {
+
+    /**
+     * Maximum total weight of all entries.
+     */
+    private final transient long capacity;
+
+    /**
+     * Entries, in access order.
+     */
+    private final transient LinkedHashMap<String, ValidationResponse> entries;
+
+    /**
+     * Total weight of all entries.
+     */
+    private transient long weight;
+
+    /**
+     * How many times a response was found.
+     */
+    private transient long hit;
+
+    /**
+     * How many times a response was not found.
+     */
+    private transient long miss;
+
+    /**
+     * How many entries were evicted.
+     */
+    private transient long evicted;
+
+    /**
+     * Ctor.
+     * @param max Maximum total weight of all entries
+     */
+    public LruResponseCache(final long max) {
+        this.capacity = max;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    @Override
+    public Optional<ValidationResponse> find(final String key) {
+        synchronized (this.entries) {
+            final Optional<ValidationResponse> found =
+                Optional.ofNullable(this.entries.get(key));
+            if (found.isPresent()) {
+                ++this.hit;
+            } else {
+                ++this.miss;
+            }
+            return found;
+        }
+    }
+
+    @Override
+    public void save(final String key, final ValidationResponse response) {
+        final long size = LruResponseCache.weightOf(response);
+        if (size <= this.capacity) {
+            synchronized (this.entries) {
+                final ValidationResponse before = this.entries.put(
+                    key, response
+                );
+                if (before != null) {
+                    this.weight -= LruResponseCache.weightOf(before);
+                }
+                this.weight += size;
+                this.evict();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        synchronized (this.entries) {
+            return Logger.format(
+                "%d entries, weight %d of %d, %d hits, %d misses, %d evicted",
+                this.entries.size(), this.weight, this.capacity,
+                this.hit, this.miss, this.evicted
+            );
+        }
+    }
+
+    /**
+     * Total number of entries in the cache.
+     * @return Number of entries
+     */
+    public int size() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        }
+    }
+
+    /**
+     * How many times a response was found in the cache.
+     * @return Number of hits
+     */
+    public long hits() {
+        synchronized (this.entries) {
+            return this.hit;
+        }
+    }
+
+    /**
+     * How many times a response was not found in the cache.
+     * @return Number of misses
+     */
+    public long misses() {
+        synchronized (this.entries) {
+            return this.miss;
+        }
+    }
+
+    /**
+     * How many entries were evicted because the cache was full.
+     * @return Number of evictions
+     */
+    public long evictions() {
+        synchronized (this.entries) {
+            return this.evicted;
+        }
+    }
+
+    /**
+     * Remove least recently used entries until the total weight
+     * fits into the capacity.
+     */
+    private void evict() {
+        final Iterator<Map.Entry<String, ValidationResponse>> iterator =
+            this.entries.entrySet().iterator();
+        while (this.weight > this.capacity && iterator.hasNext()) {
+            this.weight -= LruResponseCache.weightOf(
+                iterator.next().getValue()
+            );
+            iterator.remove();
+            ++this.evicted;
+        }
+    }
+
+    /**
+     * Weight of the response.
+     * @param response The response
+     * @return Its weight
+     */
+    private static long weightOf(final ValidationResponse response) {
+        return 1L + response.errors().size() + response.warnings().size();
+    }
+}
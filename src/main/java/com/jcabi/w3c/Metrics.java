@@ -0,0 +1,94 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.net.URI;
+
+/**
+ * Sink of measurements, taken by validators during every validation.
+ *
+ * <p>Give an instance of {@link HistogramMetrics} to a validator, in order
+ * to see where the time goes and how much data travels:
+ *
+ * <pre> HistogramMetrics metrics = new HistogramMetrics();
+ * Validator validator = new ValidatorBuilder().html(
+ *   uri, new PooledTransport(), metrics
+ * );</pre>
+ *
+ * <p>Implementations must be thread-safe and fast, since they are called
+ * by all threads, on every validation.
+ *
+ * @see ValidatorBuilder#html(URI, Transport, Metrics)
+ * @see ValidatorBuilder#css(URI, Transport, Metrics)
+ * @since 2.0
+ */
+public interface Metrics {
+
+    /**
+     * A phase of validation took some time.
+     * @param phase The phase
+     * @param nanos How long it took, in nanoseconds
+     */
+    void latency(Metrics.Phase phase, long nanos);
+
+    /**
+     * A request body was sent.
+     * @param bytes Its size
+     */
+    void request(long bytes);
+
+    /**
+     * A response body was received.
+     * @param bytes Its size
+     */
+    void response(long bytes);
+
+    /**
+     * A response with this HTTP status was received.
+     * @param code The status
+     */
+    void status(int code);
+
+    /**
+     * A response with defects was parsed.
+     * @param errors How many errors
+     * @param warnings How many warnings
+     */
+    void defects(int errors, int warnings);
+
+    /**
+     * Validation failed.
+     * @param error The failure
+     */
+    void failure(Throwable error);
+
+    /**
+     * Concurrency limit of the endpoint was changed.
+     * @param endpoint The endpoint
+     * @param value How many requests may be in flight now
+     * @see LimitedTransport
+     */
+    void limit(URI endpoint, int value);
+
+    /**
+     * Phase of validation.
+     *
+     * @since 2.0
+     */
+    enum Phase {
+        /**
+         * Encoding of the document into the HTTP body.
+         */
+        ENCODE,
+        /**
+         * Sending the body till receiving headers of the response.
+         */
+        FETCH,
+        /**
+         * Reading and parsing of the response body.
+         */
+        PARSE
+    }
+}
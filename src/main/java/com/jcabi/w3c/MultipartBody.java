@@ -0,0 +1,243 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Multipart HTTP form with a document and {@code output=soap12} field,
+ * as Jigsaw expects it.
+ *
+ * <p>Everything around the document is encoded once, in the constructor.
+ * The document is encoded in UTF-8 right into the body, through a small
+ * buffer of characters and an encoder, taken from a small pool, shared
+ * by all threads. Thread-local buffers would be useless here, since every
+ * validation may run in its own virtual thread. When the pool is empty,
+ * a new buffer is made, and when it's full, the buffer is dropped.
+ * Normally, the only allocation per request is the body itself, of its
+ * exact size.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+final class MultipartBody {
+
+    /**
+     * Pool of buffers and encoders, shared by all threads.
+     */
+    private static final BlockingQueue<MultipartBody.Scratch> POOL =
+        new ArrayBlockingQueue<>(
+            Runtime.getRuntime().availableProcessors() * 2
+        );
+
+    /**
+     * Headers of the part with the document.
+     */
+    private final transient byte[] head;
+
+    /**
+     * The rest of the form after the document.
+     */
+    private final transient byte[] tail;
+
+    /**
+     * Ctor.
+     * @param name Name of the form field with the document
+     * @param type Media type of the document
+     * @param boundary Boundary of parts
+     */
+    MultipartBody(final String name, final String type,
+        final String boundary) {
+        this(
+            String.join(
+                "\r\n",
+                String.join("", "--", boundary),
+                String.format(
+                    "Content-Disposition: form-data; name=\"%s\"; %s",
+                    name, "filename=\"file\""
+                ),
+                String.format("Content-Type: %s; charset=UTF-8", type),
+                "Content-Transfer-Encoding: binary",
+                "",
+                ""
+            ).getBytes(StandardCharsets.US_ASCII),
+            String.join(
+                "\r\n",
+                "",
+                String.join("", "--", boundary),
+                "Content-Disposition: form-data; name=\"output\"",
+                "Content-Type: text/plain; charset=ISO-8859-1",
+                "Content-Transfer-Encoding: 8bit",
+                "",
+                "soap12",
+                String.join("", "--", boundary, "--"),
+                ""
+            ).getBytes(StandardCharsets.US_ASCII)
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param before Headers of the part with the document
+     * @param after The rest of the form after the document
+     */
+    private MultipartBody(final byte[] before, final byte[] after) {
+        this.head = before;
+        this.tail = after;
+    }
+
+    /**
+     * Make the body of the form with the document.
+     * @param content The document
+     * @return The body
+     */
+    byte[] encode(final String content) {
+        MultipartBody.Scratch scratch = MultipartBody.POOL.poll();
+        if (scratch == null) {
+            scratch = new MultipartBody.Scratch();
+        }
+        try {
+            final byte[] body = new byte[
+                this.head.length + MultipartBody.length(content, scratch.chunk)
+                    + this.tail.length
+            ];
+            System.arraycopy(this.head, 0, body, 0, this.head.length);
+            final int end = MultipartBody.utf(
+                content, scratch, body, this.head.length
+            );
+            System.arraycopy(this.tail, 0, body, end, this.tail.length);
+            return body;
+        } finally {
+            MultipartBody.POOL.offer(scratch);
+        }
+    }
+
+    /**
+     * Length of the text in UTF-8.
+     * @param text The text
+     * @param chunk Buffer for chunks of the text
+     * @return Number of bytes
+     */
+    private static int length(final String text, final char[] chunk) {
+        int total = 0;
+        int from = 0;
+        while (from < text.length()) {
+            final int size = MultipartBody.chunk(text, from, chunk);
+            for (int idx = 0; idx < size; ++idx) {
+                final char chr = chunk[idx];
+                if (chr < 0x80) {
+                    total += 1;
+                } else if (chr < 0x800) {
+                    total += 2;
+                } else if (MultipartBody.paired(chunk, idx, size)) {
+                    total += 4;
+                    ++idx;
+                } else if (Character.isSurrogate(chr)) {
+                    total += 1;
+                } else {
+                    total += 3;
+                }
+            }
+            from += size;
+        }
+        return total;
+    }
+
+    /**
+     * Encode the text in UTF-8, replacing unpaired surrogates with
+     * question marks, the way {@link String#getBytes(java.nio.charset.Charset)}
+     * does.
+     * @param text The text
+     * @param scratch Buffer for chunks of the text and the encoder
+     * @param dest Where to encode
+     * @param start Position to start from
+     * @return Position after the last byte
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static int utf(final String text,
+        final MultipartBody.Scratch scratch, final byte[] dest,
+        final int start) {
+        final char[] chunk = scratch.chunk;
+        final CharsetEncoder encoder = scratch.encoder;
+        final ByteBuffer out =
+            ByteBuffer.wrap(dest, start, dest.length - start);
+        int from = 0;
+        while (from < text.length()) {
+            final int size = MultipartBody.chunk(text, from, chunk);
+            encoder.reset().encode(CharBuffer.wrap(chunk, 0, size), out, true);
+            encoder.flush(out);
+            from += size;
+        }
+        return out.position();
+    }
+
+    /**
+     * Copy next chunk of the text into the buffer, never splitting
+     * a surrogate pair.
+     * @param text The text
+     * @param from Where the chunk starts
+     * @param chunk The buffer
+     * @return Size of the chunk
+     */
+    private static int chunk(final String text, final int from,
+        final char[] chunk) {
+        int size = Math.min(chunk.length, text.length() - from);
+        if (size > 1 && from + size < text.length()
+            && Character.isHighSurrogate(text.charAt(from + size - 1))) {
+            --size;
+        }
+        text.getChars(from, from + size, chunk, 0);
+        return size;
+    }
+
+    /**
+     * The character is a high surrogate, followed by a low one.
+     * @param chunk The chunk of the text
+     * @param idx Position of the character
+     * @param size Size of the chunk
+     * @return TRUE if it is
+     */
+    private static boolean paired(final char[] chunk, final int idx,
+        final int size) {
+        return Character.isHighSurrogate(chunk[idx])
+            && idx + 1 < size
+            && Character.isLowSurrogate(chunk[idx + 1]);
+    }
+
+    /**
+     * Buffer for chunks of a document and the encoder, used by one
+     * thread at a time.
+     * @since 2.0
+     */
+    private static final class Scratch {
+
+        /**
+         * Buffer for chunks.
+         */
+        private final transient char[] chunk;
+
+        /**
+         * The encoder.
+         */
+        private final transient CharsetEncoder encoder;
+
+        /**
+         * Ctor.
+         */
+        Scratch() {
+            this.chunk = new char[4096];
+            this.encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+    }
+}
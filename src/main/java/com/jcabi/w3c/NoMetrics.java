@@ -0,0 +1,56 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.net.URI;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Metrics, which ignore all measurements.
+ *
+ * <p>This is what validators use by default.
+ *
+ * @since 2.0
+ */
+@ToString
+@EqualsAndHashCode
+final class NoMetrics implements Metrics {
+
+    @Override
+    public void latency(final Metrics.Phase phase, final long nanos) {
+        // ignore it
+    }
+
+    @Override
+    public void request(final long bytes) {
+        // ignore it
+    }
+
+    @Override
+    public void response(final long bytes) {
+        // ignore it
+    }
+
+    @Override
+    public void status(final int code) {
+        // ignore it
+    }
+
+    @Override
+    public void defects(final int errors, final int warnings) {
+        // ignore it
+    }
+
+    @Override
+    public void failure(final Throwable error) {
+        // ignore it
+    }
+
+    @Override
+    public void limit(final URI endpoint, final int value) {
+        // ignore it
+    }
+}
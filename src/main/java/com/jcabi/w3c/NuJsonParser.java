@@ -0,0 +1,238 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParserFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Collections;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Single-pass streaming parser of Nu validator JSON output
+ * ({@code out=json}).
+ *
+ * <p>Messages of type {@code error} become errors and messages of type
+ * {@code info} become warnings, exactly like {@code error} and {@code info}
+ * elements in the XML output, see {@link NuParser}.
+ *
+ * <p>Type and encoding of the document are taken from the {@code source}
+ * object, which is there only if {@code showsource=yes} is requested.
+ * Without it, {@link ValidationResponse#doctype()} is empty and
+ * {@link ValidationResponse#charset()} is the default charset of the JVM.
+ *
+ * <p>A JSON-P provider, for example {@code org.eclipse.parsson:parsson},
+ * must be in classpath. It is looked up when the first response is parsed,
+ * and if it's not found, {@link #parse(InputStream, DefectListener)}
+ * throws {@link IOException}.
+ *
+ * @see <a href="https://github.com/validator/validator/wiki">Nu validator</a>
+ * @since 2.0
+ */
+final class NuJsonParser implements ResponseParser {
+
+    /**
+     * Factory of parsers, made when the first response is parsed.
+     */
+    private static final AtomicReference<JsonParserFactory> FACTORY =
+        new AtomicReference<>();
+
+    /**
+     * Who validates.
+     */
+    private final transient URI server;
+
+    /**
+     * Ctor.
+     * @param uri URI of the validator
+     */
+    NuJsonParser(final URI uri) {
+        this.server = uri;
+    }
+
+    @Override
+    public ValidationResponse parse(final InputStream input,
+        final DefectListener listener) throws IOException {
+        final JsonParserFactory factory = NuJsonParser.factory();
+        try (JsonParser parser = factory.createParser(input)) {
+            return this.parse(parser, new ResponseBuilder(listener));
+        } catch (final JsonException | IllegalArgumentException
+            | IllegalStateException | NoSuchElementException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    /**
+     * Parse the response.
+     * @param parser The parser
+     * @param defects Where to collect defects
+     * @return The validation response
+     * @throws IOException If it's not a Nu response
+     */
+    private ValidationResponse parse(final JsonParser parser,
+        final ResponseBuilder defects) throws IOException {
+        if (parser.next() != JsonParser.Event.START_OBJECT) {
+            throw new IOException("Nu response is not a JSON object");
+        }
+        final String[] source = {"", ""};
+        boolean messages = false;
+        JsonParser.Event event = parser.next();
+        while (!defects.stopped() && event == JsonParser.Event.KEY_NAME) {
+            final String key = parser.getString();
+            final JsonParser.Event value = parser.next();
+            if ("messages".equals(key)
+                && value == JsonParser.Event.START_ARRAY) {
+                messages = true;
+                NuJsonParser.messages(parser, defects);
+            } else if ("source".equals(key)
+                && value == JsonParser.Event.START_OBJECT) {
+                NuJsonParser.source(parser, source);
+            } else {
+                NuJsonParser.skip(parser, value);
+            }
+            event = parser.next();
+        }
+        if (!messages) {
+            throw new IOException("Nu response doesn't have \"messages\"");
+        }
+        return defects.build(
+            defects.clean(),
+            this.server,
+            source[0],
+            AbstractBaseValidator.charset(source[1])
+        );
+    }
+
+    /**
+     * Read the array of messages.
+     * @param parser The parser, right after the start of the array
+     * @param defects Where to collect defects
+     */
+    private static void messages(final JsonParser parser,
+        final ResponseBuilder defects) {
+        JsonParser.Event event = parser.next();
+        while (!defects.stopped() && event != JsonParser.Event.END_ARRAY) {
+            if (event == JsonParser.Event.START_OBJECT) {
+                NuJsonParser.message(parser, defects);
+            } else {
+                NuJsonParser.skip(parser, event);
+            }
+            event = parser.next();
+        }
+    }
+
+    /**
+     * Read one message.
+     * @param parser The parser, right after the start of the object
+     * @param defects Where to collect defects
+     */
+    private static void message(final JsonParser parser,
+        final ResponseBuilder defects) {
+        String type = "";
+        int line = 0;
+        int column = 0;
+        String message = "";
+        String extract = "";
+        JsonParser.Event event = parser.next();
+        while (event == JsonParser.Event.KEY_NAME) {
+            final String key = parser.getString();
+            final JsonParser.Event value = parser.next();
+            if (value == JsonParser.Event.VALUE_STRING) {
+                if ("type".equals(key)) {
+                    type = parser.getString();
+                } else if ("message".equals(key)) {
+                    message = parser.getString();
+                } else if ("extract".equals(key)) {
+                    extract = parser.getString();
+                }
+            } else if (value == JsonParser.Event.VALUE_NUMBER) {
+                if ("lastLine".equals(key)) {
+                    line = parser.getInt();
+                } else if ("lastColumn".equals(key)) {
+                    column = parser.getInt();
+                }
+            } else {
+                NuJsonParser.skip(parser, value);
+            }
+            event = parser.next();
+        }
+        final Defect defect = Defect.pooled(
+            line, column, extract, "", "", message
+        );
+        if ("error".equals(type)) {
+            defects.error(defect);
+        } else if ("info".equals(type)) {
+            defects.warning(defect);
+        }
+    }
+
+    /**
+     * Read the source object.
+     * @param parser The parser, right after the start of the object
+     * @param source Type and encoding of the source
+     */
+    private static void source(final JsonParser parser, final String[] source) {
+        JsonParser.Event event = parser.next();
+        while (event == JsonParser.Event.KEY_NAME) {
+            final String key = parser.getString();
+            final JsonParser.Event value = parser.next();
+            if (value == JsonParser.Event.VALUE_STRING && "type".equals(key)) {
+                source[0] = parser.getString();
+            } else if (value == JsonParser.Event.VALUE_STRING
+                && "encoding".equals(key)) {
+                source[1] = parser.getString();
+            } else {
+                NuJsonParser.skip(parser, value);
+            }
+            event = parser.next();
+        }
+    }
+
+    /**
+     * Skip the value, which starts with the given event.
+     * @param parser The parser
+     * @param event The event, which starts the value
+     */
+    private static void skip(final JsonParser parser,
+        final JsonParser.Event event) {
+        if (event == JsonParser.Event.START_OBJECT) {
+            parser.skipObject();
+        } else if (event == JsonParser.Event.START_ARRAY) {
+            parser.skipArray();
+        }
+    }
+
+    /**
+     * Factory of parsers, made by the JSON-P provider, which is looked up
+     * on the first call, not when the class is loaded.
+     * @return The factory
+     * @throws IOException If there is no JSON-P provider in classpath
+     */
+    private static JsonParserFactory factory() throws IOException {
+        JsonParserFactory factory = NuJsonParser.FACTORY.get();
+        if (factory == null) {
+            try {
+                factory = Json.createParserFactory(Collections.emptyMap());
+            } catch (final JsonException ex) {
+                throw new IOException(
+                    String.join(
+                        " ",
+                        "JSON-P provider is not found in classpath, add",
+                        "org.eclipse.parsson:parsson or another one,",
+                        "to parse JSON output of Nu validator"
+                    ),
+                    ex
+                );
+            }
+            NuJsonParser.FACTORY.compareAndSet(null, factory);
+        }
+        return factory;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Single-pass streaming parser of Nu validator XML output
+ * ({@code out=xml}).
+ *
+ * <p>Every {@code error} element becomes an error and every {@code info}
+ * element becomes a warning, no matter how deep they are in the document.
+ *
+ * @see <a href="https://github.com/validator/validator/wiki">Nu validator</a>
+ * @since 2.0
+ */
+final class NuParser implements ResponseParser {
+
+    /**
+     * Namespace of Nu messages.
+     */
+    private static final String NS = "http://n.validator.nu/messages/";
+
+    /**
+     * Who validates.
+     */
+    private final transient URI server;
+
+    /**
+     * Ctor.
+     * @param uri URI of the validator
+     */
+    NuParser(final URI uri) {
+        this.server = uri;
+    }
+
+    @Override
+    public ValidationResponse parse(final InputStream input,
+        final DefectListener listener) throws IOException {
+        try {
+            final XMLStreamReader reader = Stax.reader(input);
+            final TextBuffer buffer = new TextBuffer();
+            try {
+                return this.parse(
+                    reader, new ResponseBuilder(listener), buffer
+                );
+            } finally {
+                buffer.seal();
+                reader.close();
+            }
+        } catch (final XMLStreamException | IllegalArgumentException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    /**
+     * Parse the response.
+     * @param reader The reader
+     * @param defects Where to collect defects
+     * @param buffer Buffer of texts
+     * @return The validation response
+     * @throws XMLStreamException If fails
+     * @throws IOException If it's not a Nu response
+     */
+    private ValidationResponse parse(final XMLStreamReader reader,
+        final ResponseBuilder defects, final TextBuffer buffer)
+        throws XMLStreamException, IOException {
+        boolean messages = false;
+        boolean source = false;
+        String type = "";
+        String encoding = "";
+        while (!defects.stopped() && reader.hasNext()) {
+            if (reader.next() == XMLStreamConstants.START_ELEMENT
+                && NuParser.NS.equals(reader.getNamespaceURI())) {
+                final String name = reader.getLocalName();
+                if ("error".equals(name)) {
+                    defects.error(NuParser.defect(reader, buffer));
+                } else if ("info".equals(name)) {
+                    defects.warning(NuParser.defect(reader, buffer));
+                } else if ("messages".equals(name)) {
+                    messages = true;
+                } else if ("source".equals(name) && !source) {
+                    source = true;
+                    type = Stax.attribute(reader, "type");
+                    encoding = Stax.attribute(reader, "encoding");
+                }
+            }
+        }
+        if (!defects.stopped() && (!messages || !source)) {
+            throw new IOException(
+                "Nu response doesn't have <messages> or <source> element"
+            );
+        }
+        return defects.build(
+            defects.clean(),
+            this.server,
+            type,
+            AbstractBaseValidator.charset(encoding)
+        );
+    }
+
+    /**
+     * Read the defect from {@code error} or {@code info} element.
+     * @param reader The reader, positioned at the start tag
+     * @param buffer Buffer of texts
+     * @return The defect
+     * @throws XMLStreamException If fails
+     */
+    private static Defect defect(final XMLStreamReader reader,
+        final TextBuffer buffer) throws XMLStreamException {
+        final int line = Stax.number(reader, "last-line");
+        final int column = Stax.number(reader, "last-column");
+        String message = "";
+        LazyText extract = LazyText.EMPTY;
+        String elaboration = "";
+        int depth = 1;
+        while (depth > 0) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                --depth;
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                final String name = reader.getLocalName();
+                if ("message".equals(name)) {
+                    message = Stax.text(reader);
+                } else if ("extract".equals(name)) {
+                    extract = Stax.text(reader, buffer);
+                } else if ("elaboration".equals(name)) {
+                    elaboration = Stax.text(reader);
+                } else {
+                    Stax.text(reader);
+                }
+            }
+        }
+        return Defect.pooled(line, column, extract, elaboration, "", message);
+    }
+}
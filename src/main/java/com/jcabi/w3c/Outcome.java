@@ -0,0 +1,105 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Outcome of validation of one document in a batch.
+ *
+ * <p>Either a response or a failure. A failure of one document
+ * doesn't affect other documents in the batch.
+ *
+ * <p>Objects of this class are immutable and thread-safe.
+ *
+ * @see BatchValidator
+ * @since 2.0
+ */
+public final class Outcome {
+
+    /**
+     * Position of the document in the batch.
+     */
+    private final transient int position;
+
+    /**
+     * Completed future with the response or the failure.
+     */
+    private final transient CompletableFuture<ValidationResponse> result;
+
+    /**
+     * Ctor.
+     * @param pos Position of the document in the batch
+     * @param done Completed future with the response or the failure
+     */
+    Outcome(final int pos, final CompletableFuture<ValidationResponse> done) {
+        this.position = pos;
+        this.result = done;
+    }
+
+    @Override
+    public String toString() {
+        final String text;
+        if (this.successful()) {
+            text = String.format("#%d: %s", this.position, this.result.join());
+        } else {
+            text = String.format("#%d: %s", this.position, this.cause());
+        }
+        return text;
+    }
+
+    /**
+     * Position of the document in the batch, starting from zero.
+     * @return The position
+     */
+    public int index() {
+        return this.position;
+    }
+
+    /**
+     * Was the document validated (no matter valid it is or not)?
+     * @return TRUE if the response is available
+     */
+    public boolean successful() {
+        return !this.result.isCompletedExceptionally();
+    }
+
+    /**
+     * The response.
+     *
+     * <p>If validation of the document failed with an unchecked exception
+     * or an {@link Error}, it is thrown as is, only checked ones
+     * are wrapped into {@link IOException}.
+     *
+     * @return The response
+     * @throws IOException If validation of this document failed
+     */
+    public ValidationResponse response() throws IOException {
+        if (!this.successful()) {
+            throw Futures.failure(this.cause());
+        }
+        return this.result.join();
+    }
+
+    /**
+     * The reason of the failure.
+     * @return The failure
+     */
+    private Throwable cause() {
+        Throwable cause;
+        try {
+            this.result.get();
+            cause = new IllegalStateException("not failed");
+        } catch (final ExecutionException ex) {
+            cause = ex.getCause();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            cause = ex;
+        }
+        return cause;
+    }
+}
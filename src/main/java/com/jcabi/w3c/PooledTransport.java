@@ -0,0 +1,334 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import lombok.ToString;
+
+/**
+ * Transport, which keeps connections to validators alive and shares them
+ * among all requests.
+ *
+ * <p>It is backed by one {@link HttpClient}, which negotiates HTTP/2
+ * whenever the server supports it (so many requests are multiplexed over
+ * one connection) and otherwise keeps HTTP/1.1 connections in a pool.
+ * Create one transport, give it to all validators and close it when
+ * they are not needed anymore:
+ *
+ * <pre> try (Transport transport = new PooledTransport(
+ *   Duration.ofSeconds(5), Duration.ofMinutes(1)
+ * )) {
+ *   Validator html = new ValidatorBuilder().html(nu, transport);
+ *   Validator css = new ValidatorBuilder().css(jigsaw, transport);
+ * }</pre>
+ *
+ * <p>A transport, which made its own client, runs it in its own pool of
+ * daemon threads, which {@link #close()} shuts down. On Java 21 and later
+ * the client is closed too, together with its connections. {@link HttpClient}
+ * of older JVMs can't be closed, so its idle connections stay open until
+ * the client is garbage collected. A client given to the constructor is
+ * closed only on Java 21 and later, its executor is not touched. After
+ * {@link #close()} the transport refuses new requests with
+ * {@link IOException}.
+ *
+ * <p>The timeout of every request is cut to what is left of the deadline
+ * of the current thread, if there is any, see {@link DeadlineValidator}.
+ *
+ * <p>Threads blocked in {@link #post(URI, Map, byte[])} may be interrupted,
+ * the exchange is cancelled and {@link InterruptedIOException} is thrown.
+ *
+ * <p>A streamed body, see {@link #post(URI, Map, InputStream)}, can be sent
+ * only once. If the server redirects such a request with 307 or 308,
+ * which requires the body to be sent again, {@link IOException} is thrown,
+ * instead of sending an empty body.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 2.0
+ */
+@ToString(of = "timeout")
+public final class PooledTransport implements Transport {
+
+    /**
+     * The client.
+     */
+    private final transient HttpClient client;
+
+    /**
+     * Timeout of every request, from sending till the headers
+     * of the reply.
+     */
+    private final transient Duration timeout;
+
+    /**
+     * Threads of the client, if they are ours.
+     */
+    private final transient Optional<ExecutorService> threads;
+
+    /**
+     * The transport is closed.
+     */
+    private final transient AtomicBoolean closed;
+
+    /**
+     * Ctor, with 10 seconds to connect and 2 minutes for a reply.
+     */
+    public PooledTransport() {
+        this(Duration.ofSeconds(10L), Duration.ofMinutes(2L));
+    }
+
+    /**
+     * Ctor.
+     * @param connect Timeout of connecting
+     * @param request Timeout of every request
+     */
+    public PooledTransport(final Duration connect, final Duration request) {
+        this(PooledTransport.pool(), connect, request);
+    }
+
+    /**
+     * Ctor.
+     * @param clnt The client to use
+     * @param request Timeout of every request
+     */
+    public PooledTransport(final HttpClient clnt, final Duration request) {
+        this(clnt, request, Optional.empty());
+    }
+
+    /**
+     * Ctor.
+     * @param exec Threads of the client
+     * @param connect Timeout of connecting
+     * @param request Timeout of every request
+     */
+    private PooledTransport(final ExecutorService exec,
+        final Duration connect, final Duration request) {
+        this(
+            HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(connect)
+                .executor(exec)
+                .build(),
+            request,
+            Optional.of(exec)
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param clnt The client to use
+     * @param request Timeout of every request
+     * @param exec Threads of the client, if they are ours
+     */
+    private PooledTransport(final HttpClient clnt, final Duration request,
+        final Optional<ExecutorService> exec) {
+        this.client = clnt;
+        this.timeout = request;
+        this.threads = exec;
+        this.closed = new AtomicBoolean();
+    }
+
+    @Override
+    public Reply post(final URI uri, final Map<String, String> headers,
+        final byte[] body) throws IOException {
+        final HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+            .timeout(Deadline.timeout(this.timeout))
+            .POST(HttpRequest.BodyPublishers.ofByteArray(body));
+        for (final Map.Entry<String, String> header : headers.entrySet()) {
+            request.setHeader(header.getKey(), header.getValue());
+        }
+        return this.send(request.build());
+    }
+
+    @Override
+    public Reply post(final URI uri, final Map<String, String> headers,
+        final InputStream body) throws IOException {
+        final HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+            .timeout(Deadline.timeout(this.timeout))
+            .POST(
+                HttpRequest.BodyPublishers.ofInputStream(
+                    new PooledTransport.Once(uri, body)
+                )
+            );
+        for (final Map.Entry<String, String> header : headers.entrySet()) {
+            request.setHeader(header.getKey(), header.getValue());
+        }
+        return this.send(request.build());
+    }
+
+    /**
+     * Refuse new requests, close the client, if the JVM supports it
+     * (Java 21+), and shut down its threads, if they are ours.
+     * @throws IOException If fails
+     */
+    @Override
+    public void close() throws IOException {
+        this.closed.set(true);
+        final Object closeable = this.client;
+        try {
+            if (closeable instanceof AutoCloseable) {
+                ((AutoCloseable) closeable).close();
+            }
+        } catch (final IOException ex) {
+            throw ex;
+        // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            throw new IOException(ex);
+        } finally {
+            this.threads.ifPresent(ExecutorService::shutdown);
+        }
+    }
+
+    /**
+     * Send the request.
+     * @param request The request
+     * @return The reply
+     * @throws IOException If fails
+     */
+    private Reply send(final HttpRequest request) throws IOException {
+        if (this.closed.get()) {
+            throw new IOException(
+                String.format("%s is closed", this)
+            );
+        }
+        try {
+            return new PooledTransport.PooledReply(
+                this.client.send(
+                    request, HttpResponse.BodyHandlers.ofInputStream()
+                )
+            );
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            final InterruptedIOException iex = new InterruptedIOException(
+                String.format("Interrupted while waiting for %s", request)
+            );
+            iex.initCause(ex);
+            throw iex;
+        }
+    }
+
+    /**
+     * Make a pool of daemon threads for the client.
+     * @return The pool
+     */
+    private static ExecutorService pool() {
+        return Executors.newCachedThreadPool(
+            runnable -> {
+                final Thread thread = new Thread(runnable, "jcabi-w3c-http");
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+    }
+
+    /**
+     * Supplier of a streamed body, which gives it only once and then
+     * gives a stream, which fails.
+     * @since 2.0
+     */
+    private static final class Once implements Supplier<InputStream> {
+
+        /**
+         * Where the body is sent.
+         */
+        private final transient URI uri;
+
+        /**
+         * The body.
+         */
+        private final transient InputStream body;
+
+        /**
+         * The body is given already.
+         */
+        private final transient AtomicBoolean given;
+
+        /**
+         * Ctor.
+         * @param target Where the body is sent
+         * @param stream The body
+         */
+        Once(final URI target, final InputStream stream) {
+            this.uri = target;
+            this.body = stream;
+            this.given = new AtomicBoolean();
+        }
+
+        @Override
+        public InputStream get() {
+            final InputStream stream;
+            if (this.given.compareAndSet(false, true)) {
+                stream = this.body;
+            } else {
+                stream = new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw new IOException(
+                            String.format(
+                                "Streamed body can't be sent again to %s",
+                                Once.this.uri
+                            )
+                        );
+                    }
+                };
+            }
+            return stream;
+        }
+    }
+
+    /**
+     * Reply of {@link HttpClient}, with the body still in the connection.
+     * @since 2.0
+     */
+    private static final class PooledReply implements Reply {
+
+        /**
+         * The response.
+         */
+        private final transient HttpResponse<InputStream> response;
+
+        /**
+         * Ctor.
+         * @param rsp The response
+         */
+        PooledReply(final HttpResponse<InputStream> rsp) {
+            this.response = rsp;
+        }
+
+        @Override
+        public int status() {
+            return this.response.statusCode();
+        }
+
+        @Override
+        public String reason() {
+            return String.format("HTTP %d", this.response.statusCode());
+        }
+
+        @Override
+        public InputStream body() {
+            return this.response.body();
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.response.body().close();
+        }
+    }
+}
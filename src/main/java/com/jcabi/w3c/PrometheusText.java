@@ -0,0 +1,268 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Metrics of validators in Prometheus text exposition format.
+ *
+ * <p>Every validator is labelled by its name:
+ *
+ * <pre> String page = new PrometheusText(
+ *   Collections.singletonMap("html", metrics)
+ * ).toString();</pre>
+ *
+ * <p>Return the page from the HTTP endpoint scraped by Prometheus, with
+ * {@code text/plain; version=0.0.4} content type.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 2.0
+ */
+public final class PrometheusText {
+
+    /**
+     * Metrics by names of validators.
+     */
+    private final transient Map<String, HistogramMetrics> metrics;
+
+    /**
+     * Ctor.
+     * @param name Name of the validator
+     * @param mtrcs Its metrics
+     */
+    public PrometheusText(final String name, final HistogramMetrics mtrcs) {
+        this(Collections.singletonMap(name, mtrcs));
+    }
+
+    /**
+     * Ctor.
+     * @param mtrcs Metrics by names of validators
+     */
+    public PrometheusText(final Map<String, HistogramMetrics> mtrcs) {
+        this.metrics = new TreeMap<>(mtrcs);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder text = new StringBuilder(4096);
+        this.latencies(text);
+        this.counters(
+            text, "w3c_request_bytes_total", "Total size of request bodies",
+            mtrcs -> Collections.singletonMap("", mtrcs.requestBytes())
+        );
+        this.counters(
+            text, "w3c_response_bytes_total", "Total size of response bodies",
+            mtrcs -> Collections.singletonMap("", mtrcs.responseBytes())
+        );
+        this.counters(
+            text, "w3c_defects_total", "Total number of defects found",
+            PrometheusText::defects
+        );
+        this.counters(
+            text, "w3c_responses_total",
+            "Total number of responses by HTTP status",
+            mtrcs -> PrometheusText.labelled("status", mtrcs.statuses())
+        );
+        this.counters(
+            text, "w3c_failures_total",
+            "Total number of failed validations by exception",
+            mtrcs -> PrometheusText.labelled("type", mtrcs.failures())
+        );
+        this.family(
+            text, "w3c_concurrency_limit", "gauge",
+            "Current concurrency limit by endpoint",
+            mtrcs -> PrometheusText.labelled(
+                "endpoint", PrometheusText.longs(mtrcs.concurrency())
+            )
+        );
+        return text.toString();
+    }
+
+    /**
+     * Print histograms of latencies.
+     * @param text Where to print
+     */
+    private void latencies(final StringBuilder text) {
+        PrometheusText.header(
+            text, "w3c_phase_seconds", "histogram",
+            "Latency of validation phases"
+        );
+        for (final Map.Entry<String, HistogramMetrics> entry
+            : this.metrics.entrySet()) {
+            for (final Metrics.Phase phase : Metrics.Phase.values()) {
+                final Histogram hist = entry.getValue().histogram(phase);
+                final String labels = String.format(
+                    "validator=\"%s\",phase=\"%s\"",
+                    PrometheusText.escape(entry.getKey()),
+                    phase.name().toLowerCase(Locale.ENGLISH)
+                );
+                for (int idx = 0; idx <= Histogram.size(); ++idx) {
+                    final String bound;
+                    if (idx == Histogram.size()) {
+                        bound = "+Inf";
+                    } else {
+                        bound = PrometheusText.seconds(Histogram.bound(idx));
+                    }
+                    text.append(
+                        String.format(
+                            "w3c_phase_seconds_bucket{%s,le=\"%s\"} %d\n",
+                            labels, bound, hist.cumulative(idx)
+                        )
+                    );
+                }
+                text.append(
+                    String.format(
+                        "w3c_phase_seconds_sum{%s} %s\n",
+                        labels, PrometheusText.seconds(hist.sum())
+                    )
+                ).append(
+                    String.format(
+                        "w3c_phase_seconds_count{%s} %d\n",
+                        labels, hist.count()
+                    )
+                );
+            }
+        }
+    }
+
+    /**
+     * Print a family of counters.
+     * @param text Where to print
+     * @param family Name of the family
+     * @param help Description of it
+     * @param values Values of the family by extra labels
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private void counters(final StringBuilder text, final String family,
+        final String help,
+        final Function<HistogramMetrics, Map<String, Long>> values) {
+        this.family(text, family, "counter", help, values);
+    }
+
+    /**
+     * Print a family of counters or gauges.
+     * @param text Where to print
+     * @param family Name of the family
+     * @param type Type of it
+     * @param help Description of it
+     * @param values Values of the family by extra labels
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private void family(final StringBuilder text, final String family,
+        final String type, final String help,
+        final Function<HistogramMetrics, Map<String, Long>> values) {
+        PrometheusText.header(text, family, type, help);
+        for (final Map.Entry<String, HistogramMetrics> entry
+            : this.metrics.entrySet()) {
+            final String name = PrometheusText.escape(entry.getKey());
+            for (final Map.Entry<String, Long> value
+                : values.apply(entry.getValue()).entrySet()) {
+                final String labels;
+                if (value.getKey().isEmpty()) {
+                    labels = String.format("validator=\"%s\"", name);
+                } else {
+                    labels = String.format(
+                        "validator=\"%s\",%s", name, value.getKey()
+                    );
+                }
+                text.append(
+                    String.format(
+                        "%s{%s} %d\n", family, labels, value.getValue()
+                    )
+                );
+            }
+        }
+    }
+
+    /**
+     * Numbers of defects by kind.
+     * @param mtrcs The metrics
+     * @return Values by labels
+     */
+    private static Map<String, Long> defects(final HistogramMetrics mtrcs) {
+        final Map<String, Long> map = new TreeMap<>();
+        map.put("kind=\"error\"", mtrcs.errors());
+        map.put("kind=\"warning\"", mtrcs.warnings());
+        return map;
+    }
+
+    /**
+     * Label counters.
+     * @param label Name of the label
+     * @param counters Counters by values of the label
+     * @param <T> Type of label values
+     * @return Values by labels
+     */
+    private static <T> Map<String, Long> labelled(final String label,
+        final Map<T, Long> counters) {
+        final Map<String, Long> map = new TreeMap<>();
+        for (final Map.Entry<T, Long> entry : counters.entrySet()) {
+            map.put(
+                String.format(
+                    "%s=\"%s\"", label,
+                    PrometheusText.escape(entry.getKey().toString())
+                ),
+                entry.getValue()
+            );
+        }
+        return map;
+    }
+
+    /**
+     * Convert integer values to long ones.
+     * @param values The values
+     * @return Same values, as longs
+     */
+    private static Map<String, Long> longs(final Map<String, Integer> values) {
+        final Map<String, Long> map = new TreeMap<>();
+        for (final Map.Entry<String, Integer> entry : values.entrySet()) {
+            map.put(entry.getKey(), entry.getValue().longValue());
+        }
+        return map;
+    }
+
+    /**
+     * Print HELP and TYPE lines.
+     * @param text Where to print
+     * @param family Name of the family
+     * @param type Type of it
+     * @param help Description of it
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static void header(final StringBuilder text, final String family,
+        final String type, final String help) {
+        text.append(String.format("# HELP %s %s\n", family, help)).append(
+            String.format("# TYPE %s %s\n", family, type)
+        );
+    }
+
+    /**
+     * Format nanoseconds as seconds.
+     * @param nanos Nanoseconds
+     * @return Seconds
+     */
+    private static String seconds(final long nanos) {
+        return String.format(
+            Locale.ENGLISH, "%s", (double) nanos / 1_000_000_000.0d
+        );
+    }
+
+    /**
+     * Escape label value.
+     * @param value The value
+     * @return Escaped value
+     */
+    private static String escape(final String value) {
+        return value.replace("\\", "\\\\")
+            .replace("\"", "\\\"")
+            .replace("\n", "\\n");
+    }
+}
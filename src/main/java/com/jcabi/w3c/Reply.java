@@ -0,0 +1,36 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.Closeable;
+import java.io.InputStream;
+
+/**
+ * HTTP reply, delivered by {@link Transport}.
+ *
+ * <p>The reply must be closed, in order to release the connection.
+ *
+ * @since 2.0
+ */
+public interface Reply extends Closeable {
+
+    /**
+     * HTTP status code.
+     * @return The status
+     */
+    int status();
+
+    /**
+     * HTTP reason phrase.
+     * @return The reason, maybe empty
+     */
+    String reason();
+
+    /**
+     * The body.
+     * @return Stream with the body, which may be read only once
+     */
+    InputStream body();
+}
@@ -0,0 +1,139 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+
+/**
+ * Builder of a validation response, which collects defects as they
+ * are parsed and reports them to a {@link DefectListener}.
+ *
+ * <p>Duplicates are dropped by hash on the way in, so collecting
+ * {@code n} defects takes O(n). When the response is built, defects
+ * are frozen into compact {@link DefectSet}s, sorted by line:
+ *
+ * <pre> ResponseBuilder builder = new ResponseBuilder();
+ * builder.error(defect);
+ * ValidationResponse response = builder.build(
+ *   builder.clean(), server, doctype, charset
+ * );</pre>
+ *
+ * <p>The class is mutable and NOT thread-safe.
+ *
+ * @since 2.0
+ */
+final class ResponseBuilder {
+
+    /**
+     * Errors, in order of arrival.
+     */
+    private final transient Collection<Defect> errors;
+
+    /**
+     * Warnings, in order of arrival.
+     */
+    private final transient Collection<Defect> warnings;
+
+    /**
+     * Listener of defects.
+     */
+    private final transient DefectListener listener;
+
+    /**
+     * The listener asked to stop.
+     */
+    private transient boolean stop;
+
+    /**
+     * Ctor.
+     */
+    ResponseBuilder() {
+        this(defect -> true);
+    }
+
+    /**
+     * Ctor.
+     * @param lstnr Listener of defects
+     */
+    ResponseBuilder(final DefectListener lstnr) {
+        this.errors = new LinkedHashSet<>(16);
+        this.warnings = new LinkedHashSet<>(16);
+        this.listener = lstnr;
+    }
+
+    /**
+     * Add an error, unless it is already there.
+     * @param defect The error
+     * @return This builder
+     */
+    ResponseBuilder error(final Defect defect) {
+        if (this.errors.add(defect)) {
+            this.stop = this.stop || !this.listener.error(defect);
+        }
+        return this;
+    }
+
+    /**
+     * Add a warning, unless it is already there.
+     * @param defect The warning
+     * @return This builder
+     */
+    ResponseBuilder warning(final Defect defect) {
+        if (this.warnings.add(defect)) {
+            this.stop = this.stop || !this.listener.warning(defect);
+        }
+        return this;
+    }
+
+    /**
+     * The listener asked to stop parsing.
+     * @return TRUE if parsing must stop
+     */
+    boolean stopped() {
+        return this.stop;
+    }
+
+    /**
+     * Are there no errors and no warnings.
+     * @return TRUE if nothing was added
+     */
+    boolean clean() {
+        return this.errors.isEmpty() && this.warnings.isEmpty();
+    }
+
+    /**
+     * Build the response, which is never valid, if the listener asked
+     * to stop.
+     * @param valid The document is valid?
+     * @param server Who validated it?
+     * @param doctype DOCTYPE of the document
+     * @param charset Charset of the document
+     * @return The response
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    ValidationResponse build(final boolean valid, final URI server,
+        final String doctype, final Charset charset) {
+        return new DefaultValidationResponse(
+            valid && !this.stop, server, doctype, charset,
+            ResponseBuilder.frozen(this.errors),
+            ResponseBuilder.frozen(this.warnings)
+        );
+    }
+
+    /**
+     * Freeze defects into a sorted set.
+     * @param defects Unique defects
+     * @return The set
+     */
+    private static DefectSet frozen(final Collection<Defect> defects) {
+        final Defect[] array = defects.toArray(new Defect[0]);
+        Arrays.sort(array, DefectSet.ORDER);
+        return new DefectSet(array);
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Store of validation responses, used by {@link CachedValidator}.
+ *
+ * <p>Keys are hex digests of the document content and the URI
+ * of the validator, see {@link CachedValidator}.
+ *
+ * <p>Implementations must be thread-safe.
+ *
+ * @see CachedValidator
+ * @see LruResponseCache
+ * @since 2.0
+ */
+public interface ResponseCache {
+
+    /**
+     * Find a response by its key.
+     * @param key The key
+     * @return The response, if it is in the cache
+     * @throws IOException If fails
+     */
+    Optional<ValidationResponse> find(String key) throws IOException;
+
+    /**
+     * Save a response.
+     * @param key The key
+     * @param response The response to save
+     * @throws IOException If fails
+     */
+    void save(String key, ValidationResponse response) throws IOException;
+}
@@ -0,0 +1,37 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Parser of the body of a W3C validator response.
+ *
+ * @since 2.0
+ */
+interface ResponseParser {
+
+    /**
+     * Parse the response.
+     * @param input The body of HTTP response
+     * @return The validation response
+     * @throws IOException If the body is broken
+     */
+    default ValidationResponse parse(InputStream input) throws IOException {
+        return this.parse(input, defect -> true);
+    }
+
+    /**
+     * Parse the response, reporting every defect to the listener,
+     * until it asks to stop.
+     * @param input The body of HTTP response
+     * @param listener The listener
+     * @return The validation response, with defects reported so far
+     * @throws IOException If the body is broken
+     */
+    ValidationResponse parse(InputStream input, DefectListener listener)
+        throws IOException;
+}
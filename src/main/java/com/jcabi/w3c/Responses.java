@@ -0,0 +1,77 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Utility methods for validation responses.
+ *
+ * @since 2.0
+ */
+final class Responses {
+
+    /**
+     * Utility class.
+     */
+    private Responses() {
+        // intentionally empty
+    }
+
+    /**
+     * Make a copy of the response, with line numbers of all defects
+     * translated.
+     * @param response The response
+     * @param lines Translation of line numbers
+     * @return New response
+     */
+    static ValidationResponse translated(final ValidationResponse response,
+        final IntUnaryOperator lines) {
+        final ResponseBuilder copy = new ResponseBuilder();
+        for (final Defect error : response.errors()) {
+            copy.error(Responses.translated(error, lines));
+        }
+        for (final Defect warning : response.warnings()) {
+            copy.warning(Responses.translated(warning, lines));
+        }
+        return copy.build(
+            response.valid(), response.checkedBy(),
+            response.doctype(), response.charset()
+        );
+    }
+
+    /**
+     * Make a listener, which translates line numbers of all defects
+     * before giving them to another listener.
+     * @param listener The listener to give defects to
+     * @param lines Translation of line numbers
+     * @return New listener
+     */
+    static DefectListener translated(final DefectListener listener,
+        final IntUnaryOperator lines) {
+        return new DefectListener() {
+            @Override
+            public boolean error(final Defect defect) {
+                return listener.error(Responses.translated(defect, lines));
+            }
+
+            @Override
+            public boolean warning(final Defect defect) {
+                return listener.warning(Responses.translated(defect, lines));
+            }
+        };
+    }
+
+    /**
+     * Make a copy of the defect, with the line number translated.
+     * @param defect The defect
+     * @param lines Translation of line numbers
+     * @return New defect
+     */
+    static Defect translated(final Defect defect,
+        final IntUnaryOperator lines) {
+        return defect.moved(lines.applyAsInt(defect.line()));
+    }
+}
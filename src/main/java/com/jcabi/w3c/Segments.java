@@ -0,0 +1,213 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Line ranges of documents, which were joined together into one
+ * document and validated at once.
+ *
+ * <p>Every segment starts at some line of the joined document and
+ * takes some number of lines. Defects of the joined response are given
+ * back to the segments they were found in, with line numbers counted
+ * from the first line of the segment:
+ *
+ * <pre> Segments segments = new Segments(
+ *   new int[] {3, 10}, new int[] {5, 2}
+ * );
+ * List&lt;ValidationResponse&gt; responses = segments.split(joined);</pre>
+ *
+ * <p>A defect found between two segments, or after the last one, goes
+ * to the segment right above it, at its last line, since it is usually
+ * caused by something left unclosed there. A defect before the first
+ * segment goes to the first one, at its first line. A defect without
+ * a line number concerns the entire document, so every segment gets it.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 2.0
+ */
+final class Segments {
+
+    /**
+     * First lines of segments, in ascending order, starting from one.
+     */
+    private final transient int[] starts;
+
+    /**
+     * Numbers of lines in segments.
+     */
+    private final transient int[] sizes;
+
+    /**
+     * Ctor.
+     * @param first First lines of segments, in ascending order
+     * @param lines Numbers of lines in segments
+     */
+    Segments(final int[] first, final int[] lines) {
+        this.starts = first.clone();
+        this.sizes = lines.clone();
+    }
+
+    /**
+     * Make segments of documents, which are joined one after another,
+     * each of them after its own one-line sentinel and on its own lines.
+     * @param first Line number of the first sentinel
+     * @param items The documents
+     * @return Segments
+     */
+    static Segments sentinels(final int first, final List<String> items) {
+        final int[] starts = new int[items.size()];
+        final int[] sizes = new int[items.size()];
+        int line = first;
+        for (int idx = 0; idx < starts.length; ++idx) {
+            final String item = items.get(idx);
+            starts[idx] = line + 1;
+            sizes[idx] = Segments.lines(item);
+            if (!item.endsWith("\n")) {
+                sizes[idx] += 1;
+            }
+            line = starts[idx] + sizes[idx];
+        }
+        return new Segments(starts, sizes);
+    }
+
+    /**
+     * Total number of segments.
+     * @return Number of segments
+     */
+    int size() {
+        return this.starts.length;
+    }
+
+    /**
+     * Find the segment, which owns the line of the joined document.
+     * @param line Line number in the joined document, starting from one
+     * @return Position of the segment
+     */
+    int owner(final int line) {
+        int low = 0;
+        int high = this.starts.length - 1;
+        while (low < high) {
+            final int mid = low + high + 1 >>> 1;
+            if (this.starts[mid] <= line) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Translate the line of the joined document into the line
+     * of the segment.
+     * @param segment Position of the segment
+     * @param line Line number in the joined document
+     * @return Line number in the segment, starting from one
+     */
+    int local(final int segment, final int line) {
+        final int local;
+        if (line <= 0) {
+            local = line;
+        } else {
+            local = Math.max(
+                1,
+                Math.min(
+                    line - this.starts[segment] + 1,
+                    Math.max(this.sizes[segment], 1)
+                )
+            );
+        }
+        return local;
+    }
+
+    /**
+     * Split the response of the joined document into responses
+     * of segments.
+     *
+     * <p>A segment is valid, if it has no errors.
+     *
+     * @param joined Response of the joined document
+     * @return Responses, one per segment, in the same order
+     */
+    List<ValidationResponse> split(final ValidationResponse joined) {
+        final ResponseBuilder[] builders =
+            new ResponseBuilder[this.starts.length];
+        final boolean[] failed = new boolean[this.starts.length];
+        for (int idx = 0; idx < builders.length; ++idx) {
+            builders[idx] = new ResponseBuilder();
+        }
+        for (final Defect error : joined.errors()) {
+            for (final int idx : this.owners(error)) {
+                builders[idx].error(this.translated(idx, error));
+                failed[idx] = true;
+            }
+        }
+        for (final Defect warning : joined.warnings()) {
+            for (final int idx : this.owners(warning)) {
+                builders[idx].warning(this.translated(idx, warning));
+            }
+        }
+        final List<ValidationResponse> responses =
+            new ArrayList<>(builders.length);
+        for (int idx = 0; idx < builders.length; ++idx) {
+            responses.add(
+                builders[idx].build(
+                    !failed[idx], joined.checkedBy(),
+                    joined.doctype(), joined.charset()
+                )
+            );
+        }
+        return responses;
+    }
+
+    /**
+     * Count line breaks.
+     * @param text The text
+     * @return Number of line breaks
+     */
+    static int lines(final String text) {
+        int count = 0;
+        for (int pos = 0; pos < text.length(); ++pos) {
+            if (text.charAt(pos) == '\n') {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Segments, which own the defect.
+     * @param defect The defect
+     * @return Positions of segments
+     */
+    private int[] owners(final Defect defect) {
+        final int[] owners;
+        if (defect.line() <= 0) {
+            owners = new int[this.starts.length];
+            for (int idx = 0; idx < owners.length; ++idx) {
+                owners[idx] = idx;
+            }
+        } else {
+            owners = new int[] {this.owner(defect.line())};
+        }
+        return owners;
+    }
+
+    /**
+     * Translate the defect into the lines of the segment.
+     * @param segment Position of the segment
+     * @param defect The defect
+     * @return New defect
+     */
+    private Defect translated(final int segment, final Defect defect) {
+        return Responses.translated(
+            defect, line -> this.local(segment, line)
+        );
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Single-pass streaming parser of Jigsaw SOAP 1.2 output
+ * ({@code output=soap12}).
+ *
+ * <p>Every {@code m:error} element becomes an error and every
+ * {@code m:warning} element becomes a warning, no matter how deep they
+ * are in the document.
+ *
+ * @see <a href="http://jigsaw.w3.org/css-validator/api.html">W3C API</a>
+ * @since 2.0
+ */
+final class SoapParser implements ResponseParser {
+
+    /**
+     * Namespace of CSS validator.
+     */
+    private static final String NS = "http://www.w3.org/2005/07/css-validator";
+
+    @Override
+    public ValidationResponse parse(final InputStream input,
+        final DefectListener listener) throws IOException {
+        try {
+            final XMLStreamReader reader = Stax.reader(input);
+            final TextBuffer buffer = new TextBuffer();
+            try {
+                return SoapParser.parse(
+                    reader, new ResponseBuilder(listener), buffer
+                );
+            } finally {
+                buffer.seal();
+                reader.close();
+            }
+        } catch (final XMLStreamException | IllegalArgumentException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    /**
+     * Parse the response.
+     * @param reader The reader
+     * @param defects Where to collect defects
+     * @param buffer Buffer of texts
+     * @return The validation response
+     * @throws XMLStreamException If fails
+     * @throws IOException If it's not a SOAP response of CSS validator
+     */
+    private static ValidationResponse parse(final XMLStreamReader reader,
+        final ResponseBuilder defects, final TextBuffer buffer)
+        throws XMLStreamException, IOException {
+        final String[] fields = new String[4];
+        while (!defects.stopped() && reader.hasNext()) {
+            if (reader.next() == XMLStreamConstants.START_ELEMENT
+                && SoapParser.NS.equals(reader.getNamespaceURI())) {
+                final String name = reader.getLocalName();
+                if ("error".equals(name)) {
+                    defects.error(SoapParser.defect(reader, buffer));
+                } else if ("warning".equals(name)) {
+                    defects.warning(SoapParser.defect(reader, buffer));
+                } else {
+                    SoapParser.field(reader, name, fields);
+                }
+            }
+        }
+        if (fields[0] == null || fields[1] == null) {
+            throw new IOException(
+                "SOAP response doesn't have <m:validity> or <m:checkedby>"
+            );
+        }
+        return defects.build(
+            "true".equals(fields[0].trim()),
+            URI.create(fields[1].trim()),
+            SoapParser.orEmpty(fields[2]),
+            AbstractBaseValidator.charset(SoapParser.orEmpty(fields[3]))
+        );
+    }
+
+    /**
+     * Remember the text of one of the top level fields, if it's
+     * the first occurrence.
+     * @param reader The reader, positioned at the start tag
+     * @param name Local name of the element
+     * @param fields Validity, checkedby, doctype and charset
+     * @throws XMLStreamException If fails
+     */
+    private static void field(final XMLStreamReader reader, final String name,
+        final String[] fields) throws XMLStreamException {
+        final int idx;
+        if ("validity".equals(name)) {
+            idx = 0;
+        } else if ("checkedby".equals(name)) {
+            idx = 1;
+        } else if ("doctype".equals(name)) {
+            idx = 2;
+        } else if ("charset".equals(name)) {
+            idx = 3;
+        } else {
+            idx = -1;
+        }
+        if (idx >= 0 && fields[idx] == null) {
+            fields[idx] = Stax.text(reader);
+        }
+    }
+
+    /**
+     * Read the defect from {@code m:error} or {@code m:warning} element.
+     *
+     * <p>Source line is not read from the buffer until it is needed.
+     *
+     * @param reader The reader, positioned at the start tag
+     * @param buffer Buffer of texts
+     * @return The defect
+     * @throws XMLStreamException If fails
+     */
+    private static Defect defect(final XMLStreamReader reader,
+        final TextBuffer buffer) throws XMLStreamException {
+        final String[] fields = {"", "", "", "", "", ""};
+        LazyText source = LazyText.EMPTY;
+        int depth = 1;
+        while (depth > 0) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                --depth;
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                final int idx = SoapParser.position(reader.getLocalName());
+                if (idx == 2) {
+                    final LazyText text = Stax.text(reader, buffer);
+                    if (source.isEmpty()) {
+                        source = text;
+                    }
+                } else {
+                    final String text = Stax.text(reader);
+                    if (idx >= 0 && fields[idx].isEmpty()) {
+                        fields[idx] = text;
+                    }
+                }
+            }
+        }
+        return Defect.pooled(
+            Stax.number(fields[0]),
+            Stax.number(fields[1]),
+            source,
+            fields[3],
+            fields[4],
+            fields[5]
+        );
+    }
+
+    /**
+     * Position of the child of {@code m:error} among defect fields.
+     * @param name Local name of the child element
+     * @return Position or -1 if it's not a defect field
+     */
+    private static int position(final String name) {
+        final int idx;
+        if ("line".equals(name)) {
+            idx = 0;
+        } else if ("col".equals(name)) {
+            idx = 1;
+        } else if ("source".equals(name)) {
+            idx = 2;
+        } else if ("explanation".equals(name)) {
+            idx = 3;
+        } else if ("messageid".equals(name)) {
+            idx = 4;
+        } else if ("message".equals(name)) {
+            idx = 5;
+        } else {
+            idx = -1;
+        }
+        return idx;
+    }
+
+    /**
+     * Replace NULL with empty string.
+     * @param text The text or NULL
+     * @return The text
+     */
+    private static String orEmpty(final String text) {
+        final String result;
+        if (text == null) {
+            result = "";
+        } else {
+            result = text;
+        }
+        return result;
+    }
+}
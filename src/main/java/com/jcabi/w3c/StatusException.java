@@ -0,0 +1,63 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.IOException;
+
+/**
+ * Validation server answered with an HTTP status, which is not
+ * a validation response.
+ *
+ * <p>The status tells who is to blame: 429 and 5xx mean that the server
+ * can't take the document now and another one may, while the rest, like
+ * 413, mean that the document itself is refused and it's no use to send
+ * it anywhere else.
+ *
+ * @since 2.0
+ */
+final class StatusException extends IOException {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = 0x7c4e15a2b3d1f96eL;
+
+    /**
+     * Status "Too Many Requests", which is not in
+     * {@link java.net.HttpURLConnection}.
+     */
+    private static final int TOO_MANY = 429;
+
+    /**
+     * HTTP status.
+     */
+    private final int code;
+
+    /**
+     * Ctor.
+     * @param status HTTP status
+     * @param message Message
+     */
+    StatusException(final int status, final String message) {
+        super(message);
+        this.code = status;
+    }
+
+    /**
+     * HTTP status.
+     * @return The status
+     */
+    int status() {
+        return this.code;
+    }
+
+    /**
+     * The server is busy or broken, rather than the document refused.
+     * @return TRUE if 429 or 5xx
+     */
+    boolean busy() {
+        return this.code == StatusException.TOO_MANY || this.code >= 500;
+    }
+}
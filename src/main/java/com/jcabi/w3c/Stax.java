@@ -0,0 +1,163 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.InputStream;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Helpers for streaming (StAX) parsing of W3C responses.
+ *
+ * @since 2.0
+ */
+final class Stax {
+
+    /**
+     * Factory of readers, thread-safe once configured.
+     */
+    private static final XMLInputFactory FACTORY = Stax.factory();
+
+    /**
+     * Utility class.
+     */
+    private Stax() {
+        // intentionally empty
+    }
+
+    /**
+     * Open a reader.
+     * @param input The XML
+     * @return The reader
+     * @throws XMLStreamException If fails
+     */
+    static XMLStreamReader reader(final InputStream input)
+        throws XMLStreamException {
+        return Stax.FACTORY.createXMLStreamReader(input);
+    }
+
+    /**
+     * Read all text inside the current element, including its children,
+     * and stop at its end tag.
+     *
+     * <p>This is what XPath calls a "string value" of the element.
+     *
+     * @param reader The reader, positioned at the start tag
+     * @return The text
+     * @throws XMLStreamException If fails
+     */
+    static String text(final XMLStreamReader reader)
+        throws XMLStreamException {
+        final StringBuilder text = new StringBuilder(0);
+        int depth = 1;
+        while (depth > 0) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                ++depth;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                --depth;
+            } else if (event == XMLStreamConstants.CHARACTERS
+                || event == XMLStreamConstants.CDATA
+                || event == XMLStreamConstants.SPACE) {
+                text.append(
+                    reader.getTextCharacters(),
+                    reader.getTextStart(),
+                    reader.getTextLength()
+                );
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Read all text inside the current element, including its children,
+     * into the buffer, and stop at its end tag.
+     * @param reader The reader, positioned at the start tag
+     * @param buffer The buffer
+     * @return The text, which is not read from the buffer yet
+     * @throws XMLStreamException If fails
+     */
+    static LazyText text(final XMLStreamReader reader,
+        final TextBuffer buffer) throws XMLStreamException {
+        final int start = buffer.length();
+        int depth = 1;
+        while (depth > 0) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                ++depth;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                --depth;
+            } else if (event == XMLStreamConstants.CHARACTERS
+                || event == XMLStreamConstants.CDATA
+                || event == XMLStreamConstants.SPACE) {
+                buffer.append(
+                    reader.getTextCharacters(),
+                    reader.getTextStart(),
+                    reader.getTextLength()
+                );
+            }
+        }
+        return buffer.text(start);
+    }
+
+    /**
+     * Get number from the attribute of the current element.
+     * @param reader The reader, positioned at the start tag
+     * @param name Local name of the attribute
+     * @return The number or zero, if there is no such attribute
+     */
+    static int number(final XMLStreamReader reader, final String name) {
+        return Stax.number(Stax.attribute(reader, name));
+    }
+
+    /**
+     * Convert text to number.
+     * @param text The text, maybe empty
+     * @return The number or zero, if the text is empty
+     */
+    static int number(final String text) {
+        final int value;
+        final String trimmed = text.trim();
+        if (trimmed.isEmpty()) {
+            value = 0;
+        } else {
+            value = Integer.parseInt(trimmed);
+        }
+        return value;
+    }
+
+    /**
+     * Get the attribute of the current element.
+     * @param reader The reader, positioned at the start tag
+     * @param name Local name of the attribute
+     * @return The value or empty string, if there is no such attribute
+     */
+    static String attribute(final XMLStreamReader reader, final String name) {
+        final String value = reader.getAttributeValue(null, name);
+        final String text;
+        if (value == null) {
+            text = "";
+        } else {
+            text = value;
+        }
+        return text;
+    }
+
+    /**
+     * Make a factory, which doesn't load DTDs and external entities.
+     * @return The factory
+     */
+    private static XMLInputFactory factory() {
+        final XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(
+            XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false
+        );
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        return factory;
+    }
+}
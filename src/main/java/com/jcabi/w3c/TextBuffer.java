@@ -0,0 +1,119 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+/**
+ * Buffer of texts of one response, which {@link LazyText}s point to.
+ *
+ * <p>While the response is parsed, texts are appended to the buffer one
+ * after another, without making a {@link String} of each of them. When
+ * the response is parsed, the buffer is sealed into one compact
+ * {@link String}, and a text is cut out of it only when it is read
+ * for the first time:
+ *
+ * <pre> TextBuffer buffer = new TextBuffer();
+ * int start = buffer.length();
+ * buffer.append(chars, 0, chars.length);
+ * LazyText text = buffer.text(start);
+ * buffer.seal();
+ * String value = text.get();</pre>
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 2.0
+ */
+final class TextBuffer {
+
+    /**
+     * Texts, while the response is parsed.
+     */
+    private final transient StringBuilder chars;
+
+    /**
+     * Texts, after the response is parsed.
+     */
+    private transient String sealed;
+
+    /**
+     * Ctor.
+     */
+    TextBuffer() {
+        this.chars = new StringBuilder(256);
+    }
+
+    /**
+     * Current length of the buffer.
+     * @return Number of characters
+     */
+    synchronized int length() {
+        final int length;
+        if (this.sealed == null) {
+            length = this.chars.length();
+        } else {
+            length = this.sealed.length();
+        }
+        return length;
+    }
+
+    /**
+     * Append characters.
+     * @param src Characters
+     * @param start Position of the first one
+     * @param len How many of them
+     */
+    synchronized void append(final char[] src, final int start,
+        final int len) {
+        this.chars.append(src, start, len);
+    }
+
+    /**
+     * Make a lazy text of everything appended since the given position,
+     * without leading and trailing white spaces.
+     * @param start The position
+     * @return The text
+     */
+    synchronized LazyText text(final int start) {
+        int first = start;
+        int last = this.chars.length();
+        while (first < last && this.chars.charAt(first) <= ' ') {
+            ++first;
+        }
+        while (last > first && this.chars.charAt(last - 1) <= ' ') {
+            --last;
+        }
+        int hash = 0;
+        for (int pos = first; pos < last; ++pos) {
+            hash = 31 * hash + this.chars.charAt(pos);
+        }
+        return new LazyText(this, first, last, hash);
+    }
+
+    /**
+     * Seal the buffer, when the response is parsed.
+     */
+    synchronized void seal() {
+        if (this.sealed == null) {
+            this.sealed = this.chars.toString();
+            this.chars.setLength(0);
+            this.chars.trimToSize();
+        }
+    }
+
+    /**
+     * Cut the text out of the buffer.
+     * @param start Position of the first character
+     * @param end Position after the last character
+     * @return The text
+     */
+    synchronized String substring(final int start, final int end) {
+        final String text;
+        if (this.sealed == null) {
+            text = this.chars.substring(start, end);
+        } else {
+            text = this.sealed.substring(start, end);
+        }
+        return text;
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import com.jcabi.log.Logger;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of texts of defects, which keeps one copy of every distinct text.
+ *
+ * <p>Messages, message IDs and explanations of W3C validators repeat
+ * in almost every response, but every response brings its own copies
+ * of them. Parsers put these texts through the shared pool, so that
+ * all defects refer to the same {@link String} objects:
+ *
+ * <pre> System.out.println(TextPool.shared());
+ * // 312 texts, 1840223 hits, 312 misses, ~154624 KB saved</pre>
+ *
+ * <p>The pool refers to its texts weakly, so a text is garbage
+ * collected as soon as no defect uses it anymore. The pool is split
+ * into stripes, each of them with its own lock, so parsers in different
+ * threads rarely wait for each other.
+ *
+ * <p>The savings are estimated: every hit saves a {@link String} object
+ * and its array of bytes, about forty bytes plus the length of the text.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 2.0
+ */
+public final class TextPool {
+
+    /**
+     * The pool, shared by all parsers.
+     */
+    private static final TextPool SHARED = new TextPool(16);
+
+    /**
+     * Approximate size of an empty {@link String}, with its array.
+     */
+    private static final long OVERHEAD = 40L;
+
+    /**
+     * Stripes, each of them guarded by itself.
+     */
+    private final transient List<Map<String, WeakReference<String>>> stripes;
+
+    /**
+     * How many times a text was found in the pool.
+     */
+    private final transient LongAdder hit;
+
+    /**
+     * How many times a text was added to the pool.
+     */
+    private final transient LongAdder miss;
+
+    /**
+     * Approximate number of bytes saved.
+     */
+    private final transient LongAdder bytes;
+
+    /**
+     * Ctor.
+     * @param total Number of stripes, a power of two
+     */
+    TextPool(final int total) {
+        this(TextPool.striped(total));
+    }
+
+    /**
+     * Ctor.
+     * @param maps Stripes
+     */
+    private TextPool(final List<Map<String, WeakReference<String>>> maps) {
+        this.stripes = maps;
+        this.hit = new LongAdder();
+        this.miss = new LongAdder();
+        this.bytes = new LongAdder();
+    }
+
+    /**
+     * The pool, shared by all parsers.
+     * @return The pool
+     */
+    public static TextPool shared() {
+        return TextPool.SHARED;
+    }
+
+    /**
+     * Get the pooled copy of the text, adding it to the pool if
+     * it is not there yet.
+     * @param text The text
+     * @return The same text, maybe another object
+     */
+    public String intern(final String text) {
+        String pooled = text;
+        if (!text.isEmpty()) {
+            final Map<String, WeakReference<String>> stripe =
+                this.stripes.get(text.hashCode() & this.stripes.size() - 1);
+            String found = null;
+            synchronized (stripe) {
+                final WeakReference<String> ref = stripe.get(text);
+                if (ref != null) {
+                    found = ref.get();
+                }
+                if (found == null) {
+                    stripe.put(text, new WeakReference<>(text));
+                }
+            }
+            if (found == null) {
+                this.miss.increment();
+            } else {
+                pooled = found;
+                this.hit.increment();
+                this.bytes.add(TextPool.OVERHEAD + text.length());
+            }
+        }
+        return pooled;
+    }
+
+    /**
+     * How many texts are in the pool now.
+     * @return Number of texts
+     */
+    public int size() {
+        int size = 0;
+        for (final Map<String, WeakReference<String>> stripe : this.stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * How many times a text was found in the pool.
+     * @return Number of hits
+     */
+    public long hits() {
+        return this.hit.sum();
+    }
+
+    /**
+     * How many times a text was added to the pool.
+     * @return Number of misses
+     */
+    public long misses() {
+        return this.miss.sum();
+    }
+
+    /**
+     * Approximate number of bytes saved so far, by all hits together.
+     * @return Number of bytes
+     */
+    public long saved() {
+        return this.bytes.sum();
+    }
+
+    @Override
+    public String toString() {
+        return Logger.format(
+            "%d texts, %d hits, %d misses, ~%d KB saved",
+            this.size(), this.hits(), this.misses(), this.saved() >> 10
+        );
+    }
+
+    /**
+     * Make stripes.
+     * @param total Number of stripes, a power of two
+     * @return Stripes
+     */
+    private static List<Map<String, WeakReference<String>>> striped(
+        final int total) {
+        final List<Map<String, WeakReference<String>>> maps =
+            new ArrayList<>(total);
+        for (int idx = 0; idx < total; ++idx) {
+            maps.add(new WeakHashMap<>(64));
+        }
+        return maps;
+    }
+}
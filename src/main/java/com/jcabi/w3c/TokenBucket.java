@@ -0,0 +1,107 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket, which limits the rate of requests.
+ *
+ * <p>Tokens are added at the given rate, up to the burst. A request
+ * takes a token, or reserves the next one and sleeps until it arrives,
+ * so waiting requests are served in the order they came.
+ *
+ * <p>A bucket with zero or negative rate is unlimited and never waits.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 2.0
+ */
+final class TokenBucket {
+
+    /**
+     * Tokens per nanosecond.
+     */
+    private final transient double rate;
+
+    /**
+     * Maximum number of tokens.
+     */
+    private final transient double burst;
+
+    /**
+     * Tokens available, negative if reserved ahead.
+     */
+    private transient double tokens;
+
+    /**
+     * When tokens were added last time, in nanoseconds.
+     */
+    private transient long updated;
+
+    /**
+     * Ctor, with the burst of one second.
+     * @param per Tokens per second
+     */
+    TokenBucket(final double per) {
+        this(per, Math.max(1.0d, per));
+    }
+
+    /**
+     * Ctor.
+     * @param per Tokens per second
+     * @param most Maximum number of tokens
+     */
+    TokenBucket(final double per, final double most) {
+        this.rate = per / TimeUnit.SECONDS.toNanos(1L);
+        this.burst = most;
+        this.tokens = most;
+        this.updated = System.nanoTime();
+    }
+
+    /**
+     * Take a token, waiting for it if necessary.
+     * @throws InterruptedIOException If interrupted while waiting
+     */
+    void take() throws InterruptedIOException {
+        if (this.rate > 0.0d) {
+            this.reserve();
+        }
+    }
+
+    /**
+     * Reserve a token and wait for it.
+     * @throws InterruptedIOException If interrupted while waiting
+     */
+    private void reserve() throws InterruptedIOException {
+        final long delay;
+        synchronized (this) {
+            final long now = System.nanoTime();
+            this.tokens = Math.min(
+                this.burst, this.tokens + (now - this.updated) * this.rate
+            );
+            this.updated = now;
+            this.tokens -= 1.0d;
+            if (this.tokens < 0.0d) {
+                delay = (long) (-this.tokens / this.rate);
+            } else {
+                delay = 0L;
+            }
+        }
+        if (delay > 0L) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                final InterruptedIOException iex = new InterruptedIOException(
+                    "Interrupted while waiting for the rate limit"
+                );
+                iex.initCause(ex);
+                throw iex;
+            }
+        }
+    }
+}
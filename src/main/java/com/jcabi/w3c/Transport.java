@@ -0,0 +1,63 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * HTTP transport, which delivers documents to W3C validators.
+ *
+ * <p>By default, validators open a new connection for every request,
+ * see {@link JdkTransport}. A shared {@link PooledTransport} keeps
+ * connections alive and reuses them:
+ *
+ * <pre> try (Transport transport = new PooledTransport()) {
+ *   Validator validator = new ValidatorBuilder().html(uri, transport);
+ *   // validate as many documents as you need
+ * }</pre>
+ *
+ * <p>Objects of this interface should be thread-safe, they may keep
+ * connections, limits or other mutable state inside.
+ *
+ * @see ValidatorBuilder#html(URI, Transport)
+ * @see ValidatorBuilder#css(URI, Transport)
+ * @since 2.0
+ */
+public interface Transport extends Closeable {
+
+    /**
+     * POST the body.
+     * @param uri Where to POST
+     * @param headers HTTP headers
+     * @param body The body
+     * @return The reply, which must be closed
+     * @throws IOException If fails
+     */
+    Reply post(URI uri, Map<String, String> headers, byte[] body)
+        throws IOException;
+
+    /**
+     * POST the body, which is read from the stream.
+     *
+     * <p>By default, the stream is read into memory and sent by
+     * {@link #post(URI, Map, byte[])}. Transports may stream it instead,
+     * with chunked transfer encoding.
+     *
+     * @param uri Where to POST
+     * @param headers HTTP headers
+     * @param body The body, which is not closed
+     * @return The reply, which must be closed
+     * @throws IOException If fails
+     * @since 2.0
+     */
+    default Reply post(final URI uri, final Map<String, String> headers,
+        final InputStream body) throws IOException {
+        return this.post(uri, headers, body.readAllBytes());
+    }
+}
@@ -61,4 +61,59 @@ public interface ValidationResponse {
      * @return List of warnings
      */
     Set<Defect> warnings();
+
+    /**
+     * Index of errors, for fast queries by line, message ID and message.
+     *
+     * <p>By default, a new index is made on every call. Implementations
+     * may keep it.
+     *
+     * @return The index
+     * @since 2.0
+     */
+    default DefectIndex errorIndex() {
+        return new DefectIndex(this.errors());
+    }
+
+    /**
+     * Index of warnings, for fast queries by line, message ID and message.
+     *
+     * <p>By default, a new index is made on every call. Implementations
+     * may keep it.
+     *
+     * @return The index
+     * @since 2.0
+     */
+    default DefectIndex warningIndex() {
+        return new DefectIndex(this.warnings());
+    }
+
+    /**
+     * Make a copy of the response, which doesn't refer to the buffer of
+     * source lines of defects.
+     *
+     * <p>Parsers of W3C responses don't make strings of source lines until
+     * {@link Defect#source()} is called. Until then, every defect refers
+     * to one buffer with source lines of all defects of the response, so
+     * even a single defect, kept for long, keeps the entire buffer in
+     * memory. Source lines, which were not read yet, are read into the
+     * copy, so it is equal to this response and loses nothing. The copy
+     * is safe to make of a response, which is shared with others, for
+     * example by {@link CachedValidator}.
+     *
+     * @return The copy
+     * @since 2.0
+     */
+    default ValidationResponse released() {
+        final ResponseBuilder copy = new ResponseBuilder();
+        for (final Defect error : this.errors()) {
+            copy.error(error.released());
+        }
+        for (final Defect warning : this.warnings()) {
+            copy.warning(warning.released());
+        }
+        return copy.build(
+            this.valid(), this.checkedBy(), this.doctype(), this.charset()
+        );
+    }
 }
@@ -5,6 +5,12 @@
 package com.jcabi.w3c;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 /**
  * Validator of CSS pages through W3C validation API.
@@ -63,4 +69,95 @@ public interface Validator {
      * @throws IOException If fails
      */
     ValidationResponse validate(String content) throws IOException;
+
+    /**
+     * Validate and report defects to the listener one by one, until it
+     * asks to stop.
+     *
+     * <p>By default, the document is validated by
+     * {@link #validate(String)} and then defects are reported to the
+     * listener: errors first, then warnings. Validators may report them
+     * while the response of the server is being parsed and stop parsing
+     * when the listener asks, returning a response with only the defects
+     * reported so far.
+     *
+     * @param content The HTML/CSS content to validate
+     * @param listener The listener
+     * @return The response
+     * @throws IOException If fails
+     * @since 2.0
+     */
+    default ValidationResponse validate(final String content,
+        final DefectListener listener) throws IOException {
+        final ValidationResponse response = this.validate(content);
+        boolean more = true;
+        for (final Defect error : response.errors()) {
+            more = more && listener.error(error);
+        }
+        for (final Defect warning : response.warnings()) {
+            more = more && listener.warning(warning);
+        }
+        return response;
+    }
+
+    /**
+     * Validate the document in the file, encoded in UTF-8.
+     *
+     * <p>By default, the file is read into memory and validated by
+     * {@link #validate(String)}. The HTML validator sends it without
+     * decoding, but the entire file still gets into memory, unless the
+     * validator is built with {@link PooledTransport}, see
+     * {@link ValidatorBuilder#html(java.net.URI, Transport)}. The default
+     * {@link JdkTransport} reads it into a byte array before sending.
+     *
+     * @param file The file with HTML/CSS content to validate
+     * @return The response
+     * @throws IOException If fails
+     * @since 2.0
+     */
+    default ValidationResponse validate(final Path file) throws IOException {
+        return this.validate(
+            new String(Files.readAllBytes(file), StandardCharsets.UTF_8)
+        );
+    }
+
+    /**
+     * Validate the document in the stream.
+     *
+     * <p>By default, the stream is read into memory and validated by
+     * {@link #validate(String)}. The HTML validator streams it to the
+     * server only with {@link PooledTransport}, the default
+     * {@link JdkTransport} reads the entire stream into a byte array
+     * before sending. The stream is not closed.
+     *
+     * @param input The stream with HTML/CSS content to validate
+     * @param charset The encoding of the content
+     * @return The response
+     * @throws IOException If fails
+     * @since 2.0
+     */
+    default ValidationResponse validate(final InputStream input,
+        final Charset charset) throws IOException {
+        return this.validate(new String(input.readAllBytes(), charset));
+    }
+
+    /**
+     * Validate the document in the buffer, from its position to its limit.
+     *
+     * <p>By default, the buffer is decoded and validated by
+     * {@link #validate(String)}. The HTML validator sends it without
+     * decoding, but it is copied into a byte array before sending, unless
+     * the validator is built with {@link PooledTransport}. The position
+     * of the buffer is not changed.
+     *
+     * @param buffer The buffer with HTML/CSS content to validate
+     * @param charset The encoding of the content
+     * @return The response
+     * @throws IOException If fails
+     * @since 2.0
+     */
+    default ValidationResponse validate(final ByteBuffer buffer,
+        final Charset charset) throws IOException {
+        return this.validate(charset.decode(buffer.duplicate()).toString());
+    }
 }
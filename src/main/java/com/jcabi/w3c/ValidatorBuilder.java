@@ -5,6 +5,7 @@
 package com.jcabi.w3c;
 
 import java.net.URI;
+import java.util.Collection;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
@@ -86,4 +87,188 @@ public final class ValidatorBuilder {
     public Validator css(final URI uri) {
         return new DefaultCssValidator(uri);
     }
+
+    /**
+     * Build HTML validator, which uses JSON output of the validator,
+     * instead of XML.
+     *
+     * <p>JSON output is smaller and faster to parse, but JSON-P API
+     * ({@code jakarta.json:jakarta.json-api}) and its provider, for example
+     * {@code org.eclipse.parsson:parsson}, must be in classpath at runtime.
+     * This library doesn't bring them, both are optional, add them to
+     * your dependencies. Without a provider, every validation fails with
+     * {@link java.io.IOException}. Other validators don't need them.
+     *
+     * <p>The document is not sent back ({@code showsource} is not
+     * requested), that's why {@link ValidationResponse#doctype()} of its
+     * responses is empty and {@link ValidationResponse#charset()} is the
+     * default charset of the JVM.
+     *
+     * @return The validator
+     * @since 2.0
+     */
+    public Validator htmlJson() {
+        return this.htmlJson(
+            URI.create("https://validator.w3.org/nu/?out=json")
+        );
+    }
+
+    /**
+     * Build HTML validator, pointing to the given URI of W3C engine,
+     * which uses JSON output of the validator.
+     *
+     * <p>The URI must request JSON output, for example
+     * {@code http://localhost:8888/?out=json}. Unless it also requests
+     * {@code showsource=yes}, the document is not sent back, so
+     * {@link ValidationResponse#doctype()} of responses is empty and
+     * {@link ValidationResponse#charset()} is the default charset
+     * of the JVM.
+     *
+     * @param uri URI of validator
+     * @return The validator
+     * @since 2.0
+     */
+    public Validator htmlJson(final URI uri) {
+        return new DefaultHtmlValidator(uri, new NuJsonParser(uri));
+    }
+
+    /**
+     * Build HTML validator, pointing to the given URI of W3C engine,
+     * which keeps responses in the given cache.
+     * @param uri URI of validator
+     * @param cache The cache of responses
+     * @return The validator
+     * @since 2.0
+     */
+    public Validator html(final URI uri, final ResponseCache cache) {
+        return new CachedValidator(this.html(uri), uri, cache);
+    }
+
+    /**
+     * Build CSS validator, pointing to the given URI of W3C engine,
+     * which keeps responses in the given cache.
+     * @param uri URI of validator
+     * @param cache The cache of responses
+     * @return The validator
+     * @since 2.0
+     */
+    public Validator css(final URI uri, final ResponseCache cache) {
+        return new CachedValidator(this.css(uri), uri, cache);
+    }
+
+    /**
+     * Build HTML validator, pointing to the given URI of W3C engine,
+     * which delivers documents through the given transport.
+     * @param uri URI of validator
+     * @param transport The transport, for example {@link PooledTransport}
+     * @return The validator
+     * @since 2.0
+     */
+    public Validator html(final URI uri, final Transport transport) {
+        return new DefaultHtmlValidator(uri, new NuParser(uri), transport);
+    }
+
+    /**
+     * Build CSS validator, pointing to the given URI of W3C engine,
+     * which delivers documents through the given transport.
+     * @param uri URI of validator
+     * @param transport The transport, for example {@link PooledTransport}
+     * @return The validator
+     * @since 2.0
+     */
+    public Validator css(final URI uri, final Transport transport) {
+        return new DefaultCssValidator(uri, transport);
+    }
+
+    /**
+     * Build HTML validator, pointing to the given URI of W3C engine,
+     * which delivers documents through the given transport and reports
+     * to the given metrics.
+     * @param uri URI of validator
+     * @param transport The transport, for example {@link PooledTransport}
+     * @param metrics The metrics, for example {@link HistogramMetrics}
+     * @return The validator
+     * @since 2.0
+     */
+    public Validator html(final URI uri, final Transport transport,
+        final Metrics metrics) {
+        return new DefaultHtmlValidator(
+            uri, new NuParser(uri), transport, metrics
+        );
+    }
+
+    /**
+     * Build CSS validator, pointing to the given URI of W3C engine,
+     * which delivers documents through the given transport and reports
+     * to the given metrics.
+     * @param uri URI of validator
+     * @param transport The transport, for example {@link PooledTransport}
+     * @param metrics The metrics, for example {@link HistogramMetrics}
+     * @return The validator
+     * @since 2.0
+     */
+    public Validator css(final URI uri, final Transport transport,
+        final Metrics metrics) {
+        return new DefaultCssValidator(uri, transport, metrics);
+    }
+
+    /**
+     * Build HTML validator, which spreads documents across the given
+     * instances of W3C engine.
+     * @param uris URIs of instances
+     * @return The validator, which must be closed
+     * @see BalancedValidator
+     * @since 2.0
+     */
+    public BalancedValidator html(final Collection<URI> uris) {
+        return new BalancedValidator(uris, this::html);
+    }
+
+    /**
+     * Build CSS validator, which spreads documents across the given
+     * instances of W3C engine.
+     * @param uris URIs of instances
+     * @return The validator, which must be closed
+     * @see BalancedValidator
+     * @since 2.0
+     */
+    public BalancedValidator css(final Collection<URI> uris) {
+        return new BalancedValidator(
+            uris, this::css, BalancedValidator.PERIOD,
+            BalancedValidator.CSS_PROBE
+        );
+    }
+
+    /**
+     * Build HTML validator, which spreads documents across the given
+     * instances of W3C engine and delivers them through the given
+     * transport.
+     * @param uris URIs of instances
+     * @param transport The transport, for example {@link PooledTransport}
+     * @return The validator, which must be closed
+     * @see BalancedValidator
+     * @since 2.0
+     */
+    public BalancedValidator html(final Collection<URI> uris,
+        final Transport transport) {
+        return new BalancedValidator(uris, uri -> this.html(uri, transport));
+    }
+
+    /**
+     * Build CSS validator, which spreads documents across the given
+     * instances of W3C engine and delivers them through the given
+     * transport.
+     * @param uris URIs of instances
+     * @param transport The transport, for example {@link PooledTransport}
+     * @return The validator, which must be closed
+     * @see BalancedValidator
+     * @since 2.0
+     */
+    public BalancedValidator css(final Collection<URI> uris,
+        final Transport transport) {
+        return new BalancedValidator(
+            uris, uri -> this.css(uri, transport), BalancedValidator.PERIOD,
+            BalancedValidator.CSS_PROBE
+        );
+    }
 }
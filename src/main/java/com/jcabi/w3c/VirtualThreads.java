@@ -0,0 +1,63 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Shared executor, which runs every task in its own virtual thread.
+ *
+ * <p>Virtual threads are available since Java 21. On older JVMs a cached
+ * pool of daemon platform threads is used instead.
+ *
+ * @since 2.0
+ */
+final class VirtualThreads {
+
+    /**
+     * The executor.
+     */
+    private static final ExecutorService EXECUTOR = VirtualThreads.create();
+
+    /**
+     * Utility class.
+     */
+    private VirtualThreads() {
+        // intentionally empty
+    }
+
+    /**
+     * Get the shared executor.
+     * @return The executor
+     */
+    static ExecutorService executor() {
+        return VirtualThreads.EXECUTOR;
+    }
+
+    /**
+     * Create an executor.
+     * @return The executor
+     */
+    private static ExecutorService create() {
+        ExecutorService service;
+        try {
+            service = (ExecutorService) Executors.class
+                .getMethod("newVirtualThreadPerTaskExecutor")
+                .invoke(null);
+        } catch (final NoSuchMethodException | IllegalAccessException
+            | InvocationTargetException ex) {
+            service = Executors.newCachedThreadPool(
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "jcabi-w3c");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            );
+        }
+        return service;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link BackgroundValidator}.
+ * @since 2.0
+ */
+public final class BackgroundValidatorTest {
+
+    /**
+     * BackgroundValidator can validate in the background.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void validatesInBackground() throws Exception {
+        final ValidationResponse response = new DefaultValidationResponse(
+            true, URI.create("http://localhost/"), "", StandardCharsets.UTF_8
+        );
+        MatcherAssert.assertThat(
+            "response must arrive through the future",
+            new BackgroundValidator(content -> response)
+                .validateAsync("<html/>")
+                .get(1L, TimeUnit.MINUTES),
+            Matchers.sameInstance(response)
+        );
+    }
+
+    /**
+     * BackgroundValidator can report failures through the future.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void reportsFailures() throws Exception {
+        final CompletableFuture<ValidationResponse> future =
+            new BackgroundValidator(
+                content -> {
+                    throw new IOException("boom");
+                }
+            ).validateAsync("a { }");
+        try {
+            future.get(1L, TimeUnit.MINUTES);
+        } catch (final ExecutionException ex) {
+            MatcherAssert.assertThat(
+                "failure must be reported",
+                ex.getCause(),
+                Matchers.instanceOf(IOException.class)
+            );
+        }
+        MatcherAssert.assertThat(
+            "future must fail",
+            future.isCompletedExceptionally(),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * BackgroundValidator can report errors through the future.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void reportsErrors() throws Exception {
+        final CompletableFuture<ValidationResponse> future =
+            new BackgroundValidator(
+                content -> {
+                    throw new AssertionError(content);
+                }
+            ).validateAsync("p { }");
+        try {
+            future.get(1L, TimeUnit.MINUTES);
+        } catch (final ExecutionException ex) {
+            MatcherAssert.assertThat(
+                "error must be reported",
+                ex.getCause(),
+                Matchers.instanceOf(AssertionError.class)
+            );
+        }
+        MatcherAssert.assertThat(
+            "future must fail",
+            future.isCompletedExceptionally(),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * BackgroundValidator can interrupt validation on cancel.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void interruptsOnCancel() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final CompletableFuture<ValidationResponse> future =
+            new BackgroundValidator(
+                content -> {
+                    started.countDown();
+                    try {
+                        TimeUnit.MINUTES.sleep(1L);
+                    } catch (final InterruptedException ex) {
+                        interrupted.countDown();
+                        Thread.currentThread().interrupt();
+                    }
+                    throw new InterruptedIOException();
+                }
+            ).validateAsync("<p>");
+        started.await(1L, TimeUnit.MINUTES);
+        future.cancel(true);
+        MatcherAssert.assertThat(
+            "validation must be interrupted",
+            interrupted.await(1L, TimeUnit.MINUTES),
+            Matchers.is(true)
+        );
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link BalancedValidator}.
+ * @since 2.0
+ */
+public final class BalancedValidatorTest {
+
+    /**
+     * BalancedValidator can send documents to the least loaded instance.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void sendsToLeastLoadedInstance() throws Exception {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Map<URI, AtomicInteger> calls = new ConcurrentHashMap<>(0);
+        final URI first = URI.create("http://first/");
+        final URI second = URI.create("http://second/");
+        final BalancedValidator validator = new BalancedValidator(
+            Arrays.asList(first, second),
+            uri -> content -> {
+                calls.computeIfAbsent(uri, key -> new AtomicInteger())
+                    .incrementAndGet();
+                if ("slow".equals(content)) {
+                    entered.countDown();
+                    BalancedValidatorTest.await(release);
+                }
+                return AbstractBaseValidator.success("");
+            },
+            Duration.ZERO
+        );
+        final ExecutorService service = Executors.newSingleThreadExecutor();
+        try {
+            final Future<ValidationResponse> slow = service.submit(
+                () -> validator.validate("slow")
+            );
+            entered.await(1L, TimeUnit.MINUTES);
+            validator.validate("fast");
+            release.countDown();
+            slow.get();
+        } finally {
+            service.shutdown();
+            validator.close();
+        }
+        MatcherAssert.assertThat(
+            "Both instances must be used",
+            calls.keySet(),
+            Matchers.containsInAnyOrder(first, second)
+        );
+    }
+
+    /**
+     * BalancedValidator can fail over and eject a failing instance.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void failsOverAndEjectsFailingInstance() throws Exception {
+        final AtomicInteger failures = new AtomicInteger();
+        final URI broken = URI.create("http://broken/");
+        final BalancedValidator validator = new BalancedValidator(
+            Arrays.asList(broken, URI.create("http://healthy/")),
+            uri -> content -> {
+                if (uri.equals(broken)) {
+                    failures.incrementAndGet();
+                    throw new IOException("connection refused");
+                }
+                return AbstractBaseValidator.success("");
+            },
+            Duration.ZERO
+        );
+        for (int idx = 0; idx < 20; ++idx) {
+            MatcherAssert.assertThat(
+                "Every document must be validated",
+                validator.validate("<p>hello</p>").valid(),
+                Matchers.is(true)
+            );
+        }
+        MatcherAssert.assertThat(
+            "Broken instance must be ejected",
+            failures.get(),
+            Matchers.equalTo(3)
+        );
+    }
+
+    /**
+     * BalancedValidator can report failures of all instances.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test(expected = IOException.class)
+    public void reportsFailureOfAllInstances() throws Exception {
+        new BalancedValidator(
+            Arrays.asList(URI.create("http://a/"), URI.create("http://b/")),
+            uri -> content -> {
+                throw new IOException("timeout");
+            },
+            Duration.ZERO
+        ).validate("body { }");
+    }
+
+    /**
+     * BalancedValidator can refuse a document, which is refused by
+     * an instance, without trying others.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void doesNotRetryRefusedDocuments() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final BalancedValidator validator = new BalancedValidator(
+            Arrays.asList(URI.create("http://a/"), URI.create("http://b/")),
+            uri -> content -> {
+                calls.incrementAndGet();
+                throw new StatusException(413, "Payload Too Large");
+            },
+            Duration.ZERO
+        );
+        try {
+            validator.validate("<p>huge</p>");
+        } catch (final StatusException ex) {
+            MatcherAssert.assertThat(
+                "Status must be reported",
+                ex.status(),
+                Matchers.equalTo(413)
+            );
+        }
+        MatcherAssert.assertThat(
+            "Refused document must not be sent to another instance",
+            calls.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    /**
+     * BalancedValidator can rethrow cancellation without trying other
+     * instances and without ejecting the instance.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void rethrowsCancellation() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final URI first = URI.create("http://first/");
+        final BalancedValidator validator = new BalancedValidator(
+            Arrays.asList(first, URI.create("http://second/")),
+            uri -> content -> {
+                if ("cancel".equals(content)) {
+                    calls.incrementAndGet();
+                    throw new InterruptedIOException("cancelled");
+                }
+                return AbstractBaseValidator.success(uri.toString());
+            },
+            Duration.ZERO
+        );
+        for (int idx = 0; idx < 5; ++idx) {
+            try {
+                validator.validate("cancel");
+            } catch (final InterruptedIOException ex) {
+                MatcherAssert.assertThat(
+                    "Cancellation must be rethrown as is",
+                    ex.getMessage(),
+                    Matchers.equalTo("cancelled")
+                );
+            }
+        }
+        MatcherAssert.assertThat(
+            "Cancelled document must not be sent to another instance",
+            calls.get(),
+            Matchers.equalTo(5)
+        );
+        MatcherAssert.assertThat(
+            "Cancellation must not be counted as a failure",
+            validator.toString(),
+            Matchers.not(Matchers.containsString("ejected"))
+        );
+    }
+
+    /**
+     * BalancedValidator can check health of instances in background.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void checksHealthInBackground() throws Exception {
+        final Queue<String> documents = new ConcurrentLinkedQueue<>();
+        final BalancedValidator validator = new BalancedValidator(
+            Arrays.asList(URI.create("http://localhost/")),
+            uri -> content -> {
+                documents.add(content);
+                return AbstractBaseValidator.success("");
+            },
+            Duration.ofMillis(10L)
+        );
+        try {
+            validator.validate("<p>hello</p>");
+            final long start = System.nanoTime();
+            while (documents.size() < 2
+                && System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5L)) {
+                TimeUnit.MILLISECONDS.sleep(10L);
+            }
+        } finally {
+            validator.close();
+        }
+        MatcherAssert.assertThat(
+            "Health must be checked with a tiny document",
+            documents,
+            Matchers.hasItem(Matchers.containsString("<title>health</title>"))
+        );
+    }
+
+    /**
+     * BalancedValidator can check health with the given document.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void checksHealthWithGivenProbe() throws Exception {
+        final Queue<String> documents = new ConcurrentLinkedQueue<>();
+        try (BalancedValidator validator = new BalancedValidator(
+            Arrays.asList(URI.create("http://localhost/")),
+            uri -> content -> {
+                documents.add(content);
+                return AbstractBaseValidator.success("");
+            },
+            Duration.ofMillis(10L),
+            BalancedValidator.CSS_PROBE
+        )) {
+            validator.validate("p { }");
+            final long start = System.nanoTime();
+            while (documents.size() < 2
+                && System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5L)) {
+                TimeUnit.MILLISECONDS.sleep(10L);
+            }
+        }
+        MatcherAssert.assertThat(
+            "Health must be checked with the stylesheet",
+            documents,
+            Matchers.hasItem(BalancedValidator.CSS_PROBE)
+        );
+    }
+
+    /**
+     * BalancedValidator can refuse documents after it is closed.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test(expected = IOException.class)
+    public void refusesDocumentsAfterClose() throws Exception {
+        final BalancedValidator validator = new BalancedValidator(
+            Arrays.asList(URI.create("http://localhost/")),
+            uri -> content -> AbstractBaseValidator.success(""),
+            Duration.ofMillis(10L)
+        );
+        validator.validate("<p>first</p>");
+        validator.close();
+        validator.validate("<p>second</p>");
+    }
+
+    /**
+     * Wait for the latch.
+     * @param latch The latch
+     * @throws IOException If interrupted
+     */
+    private static void await(final CountDownLatch latch) throws IOException {
+        try {
+            latch.await(1L, TimeUnit.MINUTES);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException(ex);
+        }
+    }
+}
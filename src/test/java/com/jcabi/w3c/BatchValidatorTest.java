@@ -0,0 +1,148 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link BatchValidator}.
+ * @since 2.0
+ */
+public final class BatchValidatorTest {
+
+    /**
+     * BatchValidator can return outcomes in the order of documents.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void keepsOrderOfDocuments() throws Exception {
+        final List<Outcome> outcomes = new BatchValidator(
+            content -> BatchValidatorTest.response(content),
+            4
+        ).validateAll(Arrays.asList("a", "b", "c", "d", "e"));
+        final List<String> types = new ArrayList<>(outcomes.size());
+        for (final Outcome outcome : outcomes) {
+            types.add(outcome.response().doctype());
+        }
+        MatcherAssert.assertThat(
+            "outcomes must be in the order of documents",
+            types,
+            Matchers.contains("a", "b", "c", "d", "e")
+        );
+    }
+
+    /**
+     * BatchValidator can isolate failures of single documents.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void isolatesFailures() throws Exception {
+        final List<Outcome> outcomes = new BatchValidator(
+            content -> {
+                if ("bad".equals(content)) {
+                    throw new IOException("Bad status from W3C server: 503");
+                }
+                return BatchValidatorTest.response(content);
+            },
+            2
+        ).validateAll(Arrays.asList("good", "bad", "fine"));
+        MatcherAssert.assertThat(
+            "only the broken document must fail",
+            outcomes.stream().map(Outcome::successful)
+                .collect(Collectors.toList()),
+            Matchers.contains(true, false, true)
+        );
+    }
+
+    /**
+     * BatchValidator can report an error thrown by the validator as
+     * a failure of the document, and throw it as is from the outcome.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test(expected = StackOverflowError.class)
+    public void reportsErrorsAsFailures() throws Exception {
+        final Outcome outcome = new BatchValidator(
+            content -> {
+                throw new StackOverflowError(content);
+            },
+            1
+        ).validateAll(Arrays.asList("deep")).get(0);
+        MatcherAssert.assertThat(
+            "document must fail",
+            outcome.successful(),
+            Matchers.is(false)
+        );
+        outcome.response();
+    }
+
+    /**
+     * BatchValidator can reject a limit, which is less than one.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsZeroLimit() {
+        new BatchValidator(content -> AbstractBaseValidator.success(""), 0);
+    }
+
+    /**
+     * BatchValidator can limit the number of concurrent validations.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void limitsConcurrency() throws Exception {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger max = new AtomicInteger();
+        final AtomicInteger total = new AtomicInteger();
+        new BatchValidator(
+            content -> {
+                max.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(5L);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                return BatchValidatorTest.response(content);
+            },
+            3
+        ).validateAll(
+            IntStream.range(0, 50).mapToObj(String::valueOf),
+            outcome -> total.incrementAndGet()
+        );
+        MatcherAssert.assertThat(
+            "concurrency must be limited",
+            max.get(),
+            Matchers.lessThanOrEqualTo(3)
+        );
+        MatcherAssert.assertThat(
+            "all outcomes must be delivered",
+            total.get(),
+            Matchers.is(50)
+        );
+    }
+
+    /**
+     * Make a response, which remembers the content in its DOCTYPE.
+     * @param content The content
+     * @return The response
+     */
+    private static ValidationResponse response(final String content) {
+        return new DefaultValidationResponse(
+            true, URI.create("http://localhost/"), content,
+            StandardCharsets.UTF_8
+        );
+    }
+}
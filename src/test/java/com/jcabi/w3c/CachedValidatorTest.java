@@ -0,0 +1,129 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link CachedValidator}.
+ * @since 2.0
+ */
+public final class CachedValidatorTest {
+
+    /**
+     * CachedValidator can validate the same document only once.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void validatesSameDocumentOnlyOnce() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Validator validator = new CachedValidator(
+            content -> {
+                calls.incrementAndGet();
+                return AbstractBaseValidator.success("");
+            },
+            URI.create("http://localhost/html"),
+            new LruResponseCache(100L)
+        );
+        validator.validate("<html/>");
+        validator.validate("<html/>");
+        MatcherAssert.assertThat(
+            "origin validator must be called once",
+            calls.get(),
+            Matchers.is(1)
+        );
+    }
+
+    /**
+     * CachedValidator can tell different documents apart.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void validatesDifferentDocuments() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Validator validator = new CachedValidator(
+            content -> {
+                calls.incrementAndGet();
+                return AbstractBaseValidator.success("");
+            },
+            URI.create("http://localhost/css"),
+            new LruResponseCache(100L)
+        );
+        validator.validate("a { }");
+        validator.validate("b { }");
+        MatcherAssert.assertThat(
+            "origin validator must be called twice",
+            calls.get(),
+            Matchers.is(2)
+        );
+    }
+
+    /**
+     * CachedValidator can tell different validators apart.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void keepsValidatorsApart() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Validator origin = content -> {
+            calls.incrementAndGet();
+            return AbstractBaseValidator.success("");
+        };
+        final ResponseCache cache = new LruResponseCache(100L);
+        new CachedValidator(origin, URI.create("http://localhost/a"), cache)
+            .validate("p { }");
+        new CachedValidator(origin, URI.create("http://localhost/b"), cache)
+            .validate("p { }");
+        MatcherAssert.assertThat(
+            "origin validator must be called for each URI",
+            calls.get(),
+            Matchers.is(2)
+        );
+    }
+
+    /**
+     * CachedValidator can give the same response to the next caller,
+     * after the previous one released it.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void keepsSourcesOfReleasedResponse() throws Exception {
+        final URI uri = URI.create("http://localhost/nu");
+        final Validator validator = new CachedValidator(
+            content -> new NuParser(uri).parse(
+                new ByteArrayInputStream(
+                    String.join(
+                        "",
+                        "<messages xmlns='http://n.validator.nu/messages/'>",
+                        "<source type='text/html'>x</source>",
+                        "<error last-line='1' last-column='1'>",
+                        "<message>a</message><extract>b</extract></error>",
+                        "</messages>"
+                    ).getBytes(StandardCharsets.UTF_8)
+                )
+            ),
+            uri,
+            new LruResponseCache(100L)
+        );
+        final Defect before = validator.validate("<p>")
+            .released().errors().iterator().next();
+        MatcherAssert.assertThat(
+            "second caller must see the source",
+            validator.validate("<p>").errors().iterator().next().source(),
+            Matchers.equalTo("b")
+        );
+        MatcherAssert.assertThat(
+            "released copy must see the source too",
+            before.source(),
+            Matchers.equalTo("b")
+        );
+    }
+}
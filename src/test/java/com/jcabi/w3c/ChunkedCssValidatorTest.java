@@ -0,0 +1,125 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link ChunkedCssValidator}.
+ * @since 2.0
+ */
+public final class ChunkedCssValidatorTest {
+
+    /**
+     * ChunkedCssValidator can translate lines of chunks back.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void translatesLinesOfChunks() throws Exception {
+        final StringBuilder css = new StringBuilder(
+            "@import url(\"colr.css\");\n"
+        );
+        for (int line = 2; line <= 100; ++line) {
+            if (line == 57 || line == 93) {
+                css.append("p { colr: 0; }\n");
+            } else {
+                css.append("a { color: red; }\n");
+            }
+        }
+        final Queue<String> sent = new ConcurrentLinkedQueue<>();
+        final ValidationResponse response = new ChunkedCssValidator(
+            text -> {
+                sent.add(text);
+                return ChunkedCssValidatorTest.marked(text);
+            },
+            200, 4
+        ).validate(css.toString());
+        MatcherAssert.assertThat(
+            "errors must be at lines of the stylesheet",
+            response.errors(),
+            Matchers.contains(
+                new Defect(1, 0, "", "", "", "colr"),
+                new Defect(57, 0, "", "", "", "colr"),
+                new Defect(93, 0, "", "", "", "colr")
+            )
+        );
+        MatcherAssert.assertThat(
+            "stylesheet must be split into chunks",
+            sent.size(),
+            Matchers.greaterThan(5)
+        );
+        MatcherAssert.assertThat(
+            "every chunk must start with the preamble",
+            sent,
+            Matchers.everyItem(Matchers.startsWith("@import"))
+        );
+        MatcherAssert.assertThat(
+            "no rule must be cut in two",
+            sent,
+            Matchers.everyItem(Matchers.endsWith("}\n"))
+        );
+    }
+
+    /**
+     * ChunkedCssValidator can send a small stylesheet as is.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void sendsSmallStylesheetAsIs() throws Exception {
+        final Queue<String> sent = new ConcurrentLinkedQueue<>();
+        final String css = "a { color: red; }\np { colr: 0; }";
+        MatcherAssert.assertThat(
+            "error must be reported",
+            new ChunkedCssValidator(
+                text -> {
+                    sent.add(text);
+                    return ChunkedCssValidatorTest.marked(text);
+                }
+            ).validate(css).errors(),
+            Matchers.contains(new Defect(2, 0, "", "", "", "colr"))
+        );
+        MatcherAssert.assertThat(
+            "stylesheet must be sent as is",
+            sent,
+            Matchers.contains(css)
+        );
+    }
+
+    /**
+     * ChunkedCssValidator can reject a limit, which is less than one.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsZeroLimit() {
+        new ChunkedCssValidator(
+            css -> AbstractBaseValidator.success(""), 1024, 0
+        );
+    }
+
+    /**
+     * Response with an error at every line, which has a misspelled
+     * property.
+     * @param css The stylesheet
+     * @return Response
+     */
+    private static ValidationResponse marked(final String css) {
+        final ResponseBuilder builder = new ResponseBuilder();
+        final String[] lines = css.split("\n", -1);
+        for (int idx = 0; idx < lines.length; ++idx) {
+            if (lines[idx].contains("colr")) {
+                builder.error(new Defect(idx + 1, 0, "", "", "", "colr"));
+            }
+        }
+        return builder.build(
+            builder.clean(), URI.create("http://localhost/"),
+            "css3", StandardCharsets.UTF_8
+        );
+    }
+}
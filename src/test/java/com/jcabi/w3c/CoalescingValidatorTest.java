@@ -0,0 +1,211 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link CoalescingValidator}.
+ * @since 2.0
+ */
+public final class CoalescingValidatorTest {
+
+    /**
+     * CoalescingValidator can validate identical documents only once.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void validatesIdenticalDocumentsOnce() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final ValidationResponse valid = AbstractBaseValidator.success("");
+        final CoalescingValidator validator = new CoalescingValidator(
+            content -> {
+                calls.incrementAndGet();
+                try {
+                    latch.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(ex);
+                }
+                return valid;
+            },
+            URI.create("http://localhost/")
+        );
+        final int total = 5;
+        final ExecutorService threads = Executors.newFixedThreadPool(total);
+        final List<Future<ValidationResponse>> futures = new ArrayList<>(total);
+        for (int idx = 0; idx < total; ++idx) {
+            futures.add(threads.submit(() -> validator.validate("<p>same")));
+        }
+        while (validator.coalesced() < total - 1) {
+            TimeUnit.MILLISECONDS.sleep(1L);
+        }
+        latch.countDown();
+        for (final Future<ValidationResponse> future : futures) {
+            MatcherAssert.assertThat(
+                "All callers must get the same response",
+                future.get(),
+                Matchers.sameInstance(valid)
+            );
+        }
+        threads.shutdown();
+        MatcherAssert.assertThat(
+            "Validator must be called once",
+            calls.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    /**
+     * CoalescingValidator can validate the same document again, after
+     * the first validation is finished.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void validatesAgainAfterFailure() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Validator validator = new CoalescingValidator(
+            content -> {
+                if (calls.incrementAndGet() == 1) {
+                    throw new IOException("server is down");
+                }
+                return AbstractBaseValidator.success("");
+            },
+            URI.create("http://localhost/"),
+            1
+        );
+        try {
+            validator.validate("p {}");
+        } catch (final IOException ex) {
+            MatcherAssert.assertThat(
+                "Failure must be reported",
+                ex.getMessage(),
+                Matchers.equalTo("server is down")
+            );
+        }
+        MatcherAssert.assertThat(
+            "Second validation must go to the validator",
+            validator.validate("p {}").valid(),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * CoalescingValidator can let a waiting caller validate the document,
+     * when the caller, which validates it, is cancelled.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void takesOverCancelledValidation() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch entered = new CountDownLatch(1);
+        final ValidationResponse valid = AbstractBaseValidator.success("");
+        final CoalescingValidator validator = new CoalescingValidator(
+            content -> {
+                if (calls.incrementAndGet() == 1) {
+                    entered.countDown();
+                    try {
+                        TimeUnit.MINUTES.sleep(1L);
+                    } catch (final InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        throw new InterruptedIOException("cancelled");
+                    }
+                }
+                return valid;
+            },
+            URI.create("http://localhost/")
+        );
+        final ExecutorService threads = Executors.newFixedThreadPool(2);
+        try {
+            final Future<ValidationResponse> leader = threads.submit(
+                () -> validator.validate("<p>same")
+            );
+            entered.await(1L, TimeUnit.MINUTES);
+            final Future<ValidationResponse> follower = threads.submit(
+                () -> validator.validate("<p>same")
+            );
+            while (validator.coalesced() < 1L) {
+                TimeUnit.MILLISECONDS.sleep(1L);
+            }
+            leader.cancel(true);
+            MatcherAssert.assertThat(
+                "Waiting caller must get the response",
+                follower.get(1L, TimeUnit.MINUTES),
+                Matchers.sameInstance(valid)
+            );
+        } finally {
+            threads.shutdownNow();
+        }
+        MatcherAssert.assertThat(
+            "Validator must be called again",
+            calls.get(),
+            Matchers.equalTo(2)
+        );
+    }
+
+    /**
+     * CoalescingValidator can give every waiting caller its own failure.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void givesEveryCallerItsOwnFailure() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final CoalescingValidator validator = new CoalescingValidator(
+            content -> {
+                try {
+                    latch.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(ex);
+                }
+                throw new IOException("server is down");
+            },
+            URI.create("http://localhost/")
+        );
+        final int total = 4;
+        final ExecutorService threads = Executors.newFixedThreadPool(total);
+        final List<Future<ValidationResponse>> futures = new ArrayList<>(total);
+        for (int idx = 0; idx < total; ++idx) {
+            futures.add(threads.submit(() -> validator.validate("p {}")));
+        }
+        while (validator.coalesced() < total - 1) {
+            TimeUnit.MILLISECONDS.sleep(1L);
+        }
+        latch.countDown();
+        final Set<Throwable> failures =
+            Collections.newSetFromMap(new IdentityHashMap<>(total));
+        for (final Future<ValidationResponse> future : futures) {
+            try {
+                future.get();
+            } catch (final ExecutionException ex) {
+                failures.add(ex.getCause());
+            }
+        }
+        threads.shutdown();
+        MatcherAssert.assertThat(
+            "Every caller must get its own failure",
+            failures,
+            Matchers.hasSize(total)
+        );
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link CssBundleValidator}.
+ * @since 2.0
+ */
+public final class CssBundleValidatorTest {
+
+    /**
+     * CssBundleValidator can give defects back to their stylesheets.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void splitsDefectsByStylesheets() throws Exception {
+        final Queue<String> sent = new ConcurrentLinkedQueue<>();
+        try (CssBundleValidator validator = new CssBundleValidator(
+            css -> {
+                sent.add(css);
+                return CssBundleValidatorTest.marked(css);
+            },
+            Integer.MAX_VALUE, Duration.ofMinutes(1L)
+        )) {
+            final CompletableFuture<ValidationResponse> first =
+                validator.validateAsync("a {\n  color: red;\n}\n");
+            final CompletableFuture<ValidationResponse> second =
+                validator.validateAsync("p {\n  colr: red;\n}");
+            validator.flush();
+            MatcherAssert.assertThat(
+                "first stylesheet must be valid",
+                first.get(1L, TimeUnit.MINUTES).valid(),
+                Matchers.is(true)
+            );
+            MatcherAssert.assertThat(
+                "second stylesheet must have an error at its second line",
+                second.get(1L, TimeUnit.MINUTES).errors(),
+                Matchers.contains(new Defect(2, 0, "", "", "", "colr"))
+            );
+        }
+        MatcherAssert.assertThat(
+            "stylesheets must be sent in one request",
+            sent,
+            Matchers.hasSize(1)
+        );
+    }
+
+    /**
+     * CssBundleValidator can validate a stylesheet, which would break
+     * the bundle, alone.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void isolatesUnclosedStylesheet() throws Exception {
+        final Queue<String> sent = new ConcurrentLinkedQueue<>();
+        final String broken = "a { color: red;\n/* colr";
+        try (CssBundleValidator validator = new CssBundleValidator(
+            css -> {
+                sent.add(css);
+                return CssBundleValidatorTest.marked(css);
+            },
+            Integer.MAX_VALUE, Duration.ofMinutes(1L)
+        )) {
+            final CompletableFuture<ValidationResponse> first =
+                validator.validateAsync("p { margin: 0; }");
+            final CompletableFuture<ValidationResponse> second =
+                validator.validateAsync(broken);
+            final CompletableFuture<ValidationResponse> third =
+                validator.validateAsync("@import 'x.css';\ni { colr: 0; }");
+            validator.flush();
+            MatcherAssert.assertThat(
+                "unclosed stylesheet must keep its own error",
+                second.get(1L, TimeUnit.MINUTES).errors(),
+                Matchers.contains(new Defect(2, 0, "", "", "", "colr"))
+            );
+            MatcherAssert.assertThat(
+                "stylesheet with @import must keep its own error",
+                third.get(1L, TimeUnit.MINUTES).errors(),
+                Matchers.contains(new Defect(2, 0, "", "", "", "colr"))
+            );
+            MatcherAssert.assertThat(
+                "closed stylesheet must not get foreign errors",
+                first.get(1L, TimeUnit.MINUTES).valid(),
+                Matchers.is(true)
+            );
+        }
+        MatcherAssert.assertThat(
+            "unclosed stylesheet must be sent as is",
+            sent,
+            Matchers.hasItem(broken)
+        );
+    }
+
+    /**
+     * CssBundleValidator can skip an ignored stylesheet.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void skipsIgnoredStylesheet() throws Exception {
+        try (CssBundleValidator validator = new CssBundleValidator(
+            css -> {
+                throw new IllegalStateException("must not be called");
+            }
+        )) {
+            MatcherAssert.assertThat(
+                "ignored stylesheet must be valid",
+                validator.validate(
+                    "/* JIGSAW IGNORE: legacy */\na { colr: 0; }"
+                ).valid(),
+                Matchers.is(true)
+            );
+        }
+    }
+
+    /**
+     * Response with an error at every line, which has a misspelled
+     * property.
+     * @param css The stylesheet
+     * @return Response
+     */
+    private static ValidationResponse marked(final String css) {
+        final ResponseBuilder builder = new ResponseBuilder();
+        final String[] lines = css.split("\n", -1);
+        for (int idx = 0; idx < lines.length; ++idx) {
+            if (lines[idx].contains("colr")) {
+                builder.error(new Defect(idx + 1, 0, "", "", "", "colr"));
+            }
+        }
+        return builder.build(
+            builder.clean(), URI.create("http://localhost/"),
+            "css3", StandardCharsets.UTF_8
+        );
+    }
+}
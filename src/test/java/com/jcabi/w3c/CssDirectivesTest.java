@@ -0,0 +1,107 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link CssDirectives}.
+ * @since 2.0
+ */
+public final class CssDirectivesTest {
+
+    /**
+     * CssDirectives can remove lines with JIGSAW directive.
+     */
+    @Test
+    public void removesLinesWithDirective() {
+        final CssDirectives directives = CssDirectives.scan(
+            String.join(
+                "\n",
+                "/* JIGSAW: first line */",
+                "a {",
+                "  #zoom: 1; /* JIGSAW: IE hack */",
+                "  *zoom: 1; /* JIGSAW: another hack */  ",
+                "  color: red;",
+                "}"
+            )
+        );
+        MatcherAssert.assertThat(
+            "Lines must be removed",
+            directives.text(),
+            Matchers.equalTo("a {\n  color: red;\n}")
+        );
+        MatcherAssert.assertThat(
+            "Lines must be translated",
+            new int[] {
+                directives.line(1),
+                directives.line(2),
+                directives.line(3),
+            },
+            Matchers.equalTo(new int[] {2, 5, 6})
+        );
+        MatcherAssert.assertThat(
+            "Stylesheet must not be ignored",
+            directives.ignored(),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * CssDirectives can keep the stylesheet without directives.
+     */
+    @Test
+    public void keepsStylesheetWithoutDirectives() {
+        final String css = "/* JIGSAW:*/\r\na { color: red; /* JIGSAW */ }\r\n";
+        final CssDirectives directives = CssDirectives.scan(css);
+        MatcherAssert.assertThat(
+            "Stylesheet must not be changed",
+            directives.text(),
+            Matchers.sameInstance(css)
+        );
+        MatcherAssert.assertThat(
+            "Lines must not be translated",
+            directives.line(2),
+            Matchers.equalTo(2)
+        );
+    }
+
+    /**
+     * CssDirectives can find JIGSAW IGNORE directive.
+     */
+    @Test
+    public void findsIgnoreDirective() {
+        MatcherAssert.assertThat(
+            "Stylesheet must be ignored",
+            CssDirectives.scan(
+                "a { }\r\n  /* JIGSAW IGNORE: experimental */\r\nb { }"
+            ).ignored(),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * CssDirectives can translate lines of defects.
+     */
+    @Test
+    public void translatesDefects() {
+        final DefaultValidationResponse response =
+            new DefaultValidationResponse(
+                false, URI.create("http://localhost/"), "",
+                StandardCharsets.UTF_8
+            );
+        response.addError(new Defect(1, 3, "", "", "", "Parse Error"));
+        MatcherAssert.assertThat(
+            "Defect must point to the original line",
+            CssDirectives.scan("a { } /* JIGSAW: ok */\nb { x }")
+                .translated(response).errors().iterator().next().line(),
+            Matchers.equalTo(2)
+        );
+    }
+}
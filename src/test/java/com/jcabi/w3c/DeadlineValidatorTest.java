@@ -0,0 +1,166 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link DeadlineValidator}.
+ * @since 2.0
+ */
+public final class DeadlineValidatorTest {
+
+    /**
+     * DeadlineValidator can cut timeouts of the layers below.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void cutsTimeoutsBelow() throws Exception {
+        MatcherAssert.assertThat(
+            "Timeout must be cut to the budget",
+            Duration.parse(
+                new DeadlineValidator(
+                    content -> new DefaultValidationResponse(
+                        true, URI.create("http://localhost/"),
+                        Deadline.timeout(Duration.ofMinutes(1L)).toString(),
+                        StandardCharsets.UTF_8
+                    ),
+                    Duration.ofSeconds(5L)
+                ).validate("<p>hi</p>").doctype()
+            ).toMillis(),
+            Matchers.lessThanOrEqualTo(5000L)
+        );
+    }
+
+    /**
+     * DeadlineValidator can stop validation, which is over the budget.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test(expected = InterruptedIOException.class)
+    public void stopsValidationOverBudget() throws Exception {
+        new DeadlineValidator(
+            content -> {
+                DeadlineValidatorTest.pause(50L);
+                Deadline.timeout(Duration.ofMinutes(1L));
+                throw new IllegalStateException("must not reach here");
+            },
+            Duration.ofMillis(10L)
+        ).validate("body { }");
+    }
+
+    /**
+     * DeadlineValidator can't extend the budget of the outer one.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void neverExtendsOuterBudget() throws Exception {
+        MatcherAssert.assertThat(
+            "Inner budget must not extend outer one",
+            Long.parseLong(
+                new DeadlineValidator(
+                    new DeadlineValidator(
+                        content -> new DefaultValidationResponse(
+                            true, URI.create("http://localhost/"),
+                            Long.toString(
+                                Deadline.timeout(Duration.ofMinutes(1L))
+                                    .toMillis()
+                            ),
+                            StandardCharsets.UTF_8
+                        ),
+                        Duration.ofSeconds(30L)
+                    ),
+                    Duration.ofSeconds(1L)
+                ).validate("<p>hi</p>").doctype()
+            ),
+            Matchers.lessThanOrEqualTo(1000L)
+        );
+    }
+
+    /**
+     * DeadlineValidator can carry the budget to threads, which validate
+     * chunks of a stylesheet.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void carriesBudgetToOtherThreads() throws Exception {
+        final StringBuilder css = new StringBuilder(0);
+        for (int line = 0; line < 100; ++line) {
+            css.append("a { color: red; }\n");
+        }
+        final Queue<Boolean> seen = new ConcurrentLinkedQueue<>();
+        new DeadlineValidator(
+            new ChunkedCssValidator(
+                text -> {
+                    seen.add(Deadline.current().isPresent());
+                    return AbstractBaseValidator.success("");
+                },
+                200, 4
+            ),
+            Duration.ofMinutes(1L)
+        ).validate(css.toString());
+        MatcherAssert.assertThat(
+            "Every chunk must be validated within the budget",
+            seen,
+            Matchers.allOf(
+                Matchers.<Boolean>iterableWithSize(Matchers.greaterThan(1)),
+                Matchers.everyItem(Matchers.is(true))
+            )
+        );
+    }
+
+    /**
+     * DeadlineValidator can stop waiting for a batch, which is over
+     * the budget.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test(expected = InterruptedIOException.class)
+    public void stopsWaitingForBatchOverBudget() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        try {
+            new DeadlineValidator(
+                new CssBundleValidator(
+                    content -> {
+                        try {
+                            latch.await();
+                        } catch (final InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                            throw new IOException(ex);
+                        }
+                        return AbstractBaseValidator.success("");
+                    },
+                    1, Duration.ZERO
+                ),
+                Duration.ofMillis(50L)
+            ).validate("body { }");
+        } finally {
+            latch.countDown();
+        }
+    }
+
+    /**
+     * Sleep for a while.
+     * @param millis How long
+     * @throws IOException If interrupted
+     */
+    private static void pause(final long millis) throws IOException {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException(ex);
+        }
+    }
+}
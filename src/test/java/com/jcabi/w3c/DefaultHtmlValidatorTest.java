@@ -7,17 +7,24 @@ package com.jcabi.w3c;
 import com.jcabi.http.mock.MkAnswer;
 import com.jcabi.http.mock.MkContainer;
 import com.jcabi.http.mock.MkGrizzlyContainer;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.net.HttpURLConnection;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 /**
  * Test case for {@link DefaultHtmlValidator}.
@@ -25,6 +32,13 @@ import org.junit.Test;
  */
 public final class DefaultHtmlValidatorTest {
 
+    /**
+     * Temporary folder.
+     * @checkstyle VisibilityModifierCheck (3 lines)
+     */
+    @Rule
+    public final transient TemporaryFolder temp = new TemporaryFolder();
+
     /**
      * DefaultHtmlValidator can validate HTML document.
      * @throws Exception If something goes wrong inside
@@ -112,6 +126,166 @@ public final class DefaultHtmlValidatorTest {
         );
     }
 
+    /**
+     * DefaultHtmlValidator can send files as they are, small and big.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void sendsFilesAsTheyAre() throws Exception {
+        final FakeTransport transport = new FakeTransport(
+            HttpURLConnection.HTTP_OK,
+            this.validReturn().getBytes(StandardCharsets.UTF_8)
+        );
+        final Validator validator = new DefaultHtmlValidator(
+            URI.create("http://localhost/"),
+            new NuParser(URI.create("http://localhost/")),
+            transport
+        );
+        for (final int size : new int[] {100, 3 << 20}) {
+            final Path file = this.temp.newFile().toPath();
+            final byte[] html = StringUtils.rightPad(
+                "<html><p>\u00e9t\u00e9</p>", size, ' '
+            ).concat("</html>").getBytes(StandardCharsets.UTF_8);
+            Files.write(file, html);
+            MatcherAssert.assertThat(
+                "Response must be parsed",
+                validator.validate(file).valid(),
+                Matchers.is(true)
+            );
+            MatcherAssert.assertThat(
+                "File must be sent as is",
+                Arrays.equals(transport.body(), html),
+                Matchers.is(true)
+            );
+        }
+    }
+
+    /**
+     * DefaultHtmlValidator can send streams in their own encoding.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void sendsStreamsInTheirEncoding() throws Exception {
+        final FakeTransport transport = new FakeTransport(
+            HttpURLConnection.HTTP_OK,
+            this.validReturn().getBytes(StandardCharsets.UTF_8)
+        );
+        final byte[] html = "<p>\u00e9t\u00e9</p>".getBytes(
+            StandardCharsets.ISO_8859_1
+        );
+        new DefaultHtmlValidator(
+            URI.create("http://localhost/"),
+            new NuParser(URI.create("http://localhost/")),
+            transport
+        ).validate(new ByteArrayInputStream(html), StandardCharsets.ISO_8859_1);
+        MatcherAssert.assertThat(
+            "Encoding must be declared",
+            transport.headers(),
+            Matchers.hasEntry(
+                "Content-Type", "text/html; charset=ISO-8859-1"
+            )
+        );
+        MatcherAssert.assertThat(
+            "Stream must be sent as is",
+            Arrays.equals(transport.body(), html),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * DefaultHtmlValidator can stop parsing XML output of Nu, when
+     * the listener refuses a defect.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void stopsParsingWhenListenerRefuses() throws Exception {
+        final StringBuilder xml = new StringBuilder(
+            "<messages xmlns='http://n.validator.nu/messages/'>"
+        );
+        for (int idx = 1; idx <= 5; ++idx) {
+            xml.append("<error last-line='").append(idx)
+                .append("' last-column='1'><message>bad</message></error>");
+        }
+        final FakeTransport transport = new FakeTransport(
+            HttpURLConnection.HTTP_OK,
+            xml.append("</messages>").toString()
+                .getBytes(StandardCharsets.UTF_8)
+        );
+        DefaultHtmlValidatorTest.assertStops(
+            new DefaultHtmlValidator(
+                URI.create("http://localhost/"),
+                new NuParser(URI.create("http://localhost/")),
+                transport
+            ),
+            transport
+        );
+    }
+
+    /**
+     * DefaultHtmlValidator can stop parsing JSON output of Nu, when
+     * the listener refuses a defect.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void stopsParsingJsonWhenListenerRefuses() throws Exception {
+        final StringBuilder json = new StringBuilder("{\"messages\":[");
+        for (int idx = 1; idx <= 5; ++idx) {
+            if (idx > 1) {
+                json.append(',');
+            }
+            json.append("{\"type\":\"error\",\"lastLine\":").append(idx)
+                .append(",\"lastColumn\":1,\"message\":\"bad\"}");
+        }
+        final FakeTransport transport = new FakeTransport(
+            HttpURLConnection.HTTP_OK,
+            json.append("]}").toString().getBytes(StandardCharsets.UTF_8)
+        );
+        DefaultHtmlValidatorTest.assertStops(
+            new DefaultHtmlValidator(
+                URI.create("http://localhost/?out=json"),
+                new NuJsonParser(URI.create("http://localhost/?out=json")),
+                transport
+            ),
+            transport
+        );
+    }
+
+    /**
+     * Validate a document, whose response has five errors, with
+     * a listener, which refuses the second one, and check that parsing
+     * stopped there.
+     * @param validator The validator
+     * @param transport Its transport
+     * @throws IOException If fails
+     */
+    private static void assertStops(final Validator validator,
+        final FakeTransport transport) throws IOException {
+        final AtomicInteger seen = new AtomicInteger();
+        final ValidationResponse response = validator.validate(
+            "<p>", defect -> seen.incrementAndGet() < 2
+        );
+        MatcherAssert.assertThat(
+            "parsing must stop after the second error",
+            response.errors(),
+            Matchers.hasSize(2)
+        );
+        MatcherAssert.assertThat(
+            "listener must not see errors after the refused one",
+            seen.get(),
+            Matchers.equalTo(2)
+        );
+        MatcherAssert.assertThat(
+            "interrupted response must not be valid",
+            response.valid(),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            "reply must be closed",
+            transport.closed(),
+            Matchers.equalTo(1)
+        );
+    }
+
     /**
      * Build a response with valid result from W3C.
      * @return Response from W3C
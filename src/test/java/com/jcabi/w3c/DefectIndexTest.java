@@ -0,0 +1,162 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link DefectIndex}.
+ * @since 2.0
+ */
+public final class DefectIndexTest {
+
+    /**
+     * Unclosed element at line 2.
+     */
+    private static final Defect UNCLOSED =
+        new Defect(2, 1, "<p>", "", "html-1", "Unclosed element p");
+
+    /**
+     * Stray tag at line 2.
+     */
+    private static final Defect STRAY =
+        new Defect(2, 9, "</b>", "", "html-2", "Stray end tag b");
+
+    /**
+     * Unclosed element at line 5.
+     */
+    private static final Defect AGAIN =
+        new Defect(5, 3, "<i>", "", "html-1", "Unclosed element i");
+
+    /**
+     * Bad value at line 7.
+     */
+    private static final Defect BAD =
+        new Defect(7, 4, "", "", "css-1", "Bad value");
+
+    /**
+     * DefectIndex can find defects by line.
+     */
+    @Test
+    public void findsDefectsByLine() {
+        final DefectIndex index = DefectIndexTest.response().errorIndex();
+        MatcherAssert.assertThat(
+            "Defects at the line must be found",
+            index.atLine(2),
+            Matchers.contains(DefectIndexTest.UNCLOSED, DefectIndexTest.STRAY)
+        );
+        MatcherAssert.assertThat(
+            "Defects between lines must be found",
+            index.between(3, 7),
+            Matchers.contains(DefectIndexTest.AGAIN, DefectIndexTest.BAD)
+        );
+        MatcherAssert.assertThat(
+            "Nothing must be found at the empty line",
+            index.atLine(6),
+            Matchers.empty()
+        );
+        MatcherAssert.assertThat(
+            "Nothing must be found in the reversed range",
+            index.between(7, 2),
+            Matchers.empty()
+        );
+    }
+
+    /**
+     * DefectIndex can sort defects at the line by column, when they are
+     * not sorted in the set.
+     */
+    @Test
+    public void sortsDefectsOfUnsortedSetByColumn() {
+        MatcherAssert.assertThat(
+            "Defects at the line must be sorted by column",
+            new DefectIndex(
+                new LinkedHashSet<>(
+                    Arrays.asList(
+                        DefectIndexTest.STRAY, DefectIndexTest.BAD,
+                        DefectIndexTest.UNCLOSED
+                    )
+                )
+            ).atLine(2),
+            Matchers.contains(DefectIndexTest.UNCLOSED, DefectIndexTest.STRAY)
+        );
+    }
+
+    /**
+     * DefectIndex can find defects by message ID.
+     */
+    @Test
+    public void findsDefectsById() {
+        final DefectIndex index = DefectIndexTest.response().errorIndex();
+        MatcherAssert.assertThat(
+            "Defects with the ID must be found",
+            index.withId("html-1"),
+            Matchers.contains(DefectIndexTest.UNCLOSED, DefectIndexTest.AGAIN)
+        );
+        MatcherAssert.assertThat(
+            "Nothing must be found by unknown ID",
+            index.withId("html-0"),
+            Matchers.empty()
+        );
+        MatcherAssert.assertThat(
+            "Defects must be counted by ID",
+            index.countById().toString(),
+            Matchers.equalTo("{css-1=1, html-1=2, html-2=1}")
+        );
+    }
+
+    /**
+     * DefectIndex can find defects by prefix of the message.
+     */
+    @Test
+    public void findsDefectsByMessagePrefix() {
+        final DefectIndex index = new DefectIndex(
+            new HashSet<>(
+                Arrays.asList(
+                    DefectIndexTest.BAD, DefectIndexTest.AGAIN,
+                    DefectIndexTest.STRAY, DefectIndexTest.UNCLOSED
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            "Defects with the prefix must be found",
+            index.startingWith("Unclosed"),
+            Matchers.contains(DefectIndexTest.AGAIN, DefectIndexTest.UNCLOSED)
+        );
+        MatcherAssert.assertThat(
+            "Nothing must be found by unknown prefix",
+            index.startingWith("Unknown"),
+            Matchers.empty()
+        );
+        MatcherAssert.assertThat(
+            "All defects must be found by empty prefix",
+            index.startingWith(""),
+            Matchers.hasSize(4)
+        );
+    }
+
+    /**
+     * Make a response.
+     * @return The response
+     */
+    private static ValidationResponse response() {
+        return new ResponseBuilder()
+            .error(DefectIndexTest.BAD)
+            .error(DefectIndexTest.STRAY)
+            .error(DefectIndexTest.AGAIN)
+            .error(DefectIndexTest.UNCLOSED)
+            .build(
+                false, URI.create("http://localhost/"), "",
+                StandardCharsets.UTF_8
+            );
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Transport, which remembers what was posted and replies with
+ * the same body every time.
+ * @since 2.0
+ */
+final class FakeTransport implements Transport {
+
+    /**
+     * HTTP status to reply with.
+     */
+    private final int code;
+
+    /**
+     * Body to reply with.
+     */
+    private final byte[] reply;
+
+    /**
+     * Headers posted last time.
+     */
+    private final AtomicReference<Map<String, String>> hdrs;
+
+    /**
+     * Body posted last time.
+     */
+    private final AtomicReference<byte[]> posted;
+
+    /**
+     * How many replies were closed.
+     */
+    private final AtomicInteger done;
+
+    /**
+     * Ctor.
+     */
+    FakeTransport() {
+        this(HttpURLConnection.HTTP_OK, new byte[0]);
+    }
+
+    /**
+     * Ctor.
+     * @param status HTTP status to reply with
+     * @param body Body to reply with
+     */
+    FakeTransport(final int status, final byte[] body) {
+        this.code = status;
+        this.reply = body.clone();
+        this.hdrs = new AtomicReference<>();
+        this.posted = new AtomicReference<>();
+        this.done = new AtomicInteger();
+    }
+
+    @Override
+    public Reply post(final URI uri, final Map<String, String> headers,
+        final byte[] body) {
+        this.hdrs.set(headers);
+        this.posted.set(body);
+        final int status = this.code;
+        final byte[] bytes = this.reply;
+        final AtomicInteger closes = this.done;
+        return new Reply() {
+            @Override
+            public int status() {
+                return status;
+            }
+
+            @Override
+            public String reason() {
+                return String.format("HTTP %d", status);
+            }
+
+            @Override
+            public InputStream body() {
+                return new ByteArrayInputStream(bytes);
+            }
+
+            @Override
+            public void close() {
+                closes.incrementAndGet();
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        // nothing to close
+    }
+
+    /**
+     * Headers posted last time.
+     * @return The headers
+     */
+    Map<String, String> headers() {
+        return this.hdrs.get();
+    }
+
+    /**
+     * Body posted last time.
+     * @return The body
+     */
+    byte[] body() {
+        return this.posted.get();
+    }
+
+    /**
+     * How many replies were closed.
+     * @return Number of closed replies
+     */
+    int closed() {
+        return this.done.get();
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test case for {@link FileResponseCache}.
+ * @since 2.0
+ */
+public final class FileResponseCacheTest {
+
+    /**
+     * Temporary folder.
+     * @checkstyle VisibilityModifierCheck (3 lines)
+     */
+    @Rule
+    public final transient TemporaryFolder temp = new TemporaryFolder();
+
+    /**
+     * FileResponseCache can find responses saved by another instance.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void findsResponsesAfterRestart() throws Exception {
+        final Path dir = this.temp.newFolder().toPath();
+        final ValidationResponse response = FileResponseCacheTest.response();
+        try (FileResponseCache cache = new FileResponseCache(dir, "1.0")) {
+            cache.save("abc", response);
+        }
+        try (FileResponseCache cache = new FileResponseCache(dir, "1.0")) {
+            MatcherAssert.assertThat(
+                "response must survive restart",
+                cache.find("abc").get(),
+                Matchers.equalTo(response)
+            );
+        }
+    }
+
+    /**
+     * FileResponseCache can ignore responses of another engine version.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void ignoresResponsesOfAnotherEngine() throws Exception {
+        final Path dir = this.temp.newFolder().toPath();
+        try (FileResponseCache cache = new FileResponseCache(dir, "1.0")) {
+            cache.save("key", FileResponseCacheTest.response());
+        }
+        try (FileResponseCache cache = new FileResponseCache(dir, "2.0")) {
+            MatcherAssert.assertThat(
+                "stale response must not be found",
+                cache.find("key").isPresent(),
+                Matchers.is(false)
+            );
+        }
+    }
+
+    /**
+     * FileResponseCache can keep responses of several servers together.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void keepsResponsesOfSeveralServers() throws Exception {
+        final Path dir = this.temp.newFolder().toPath();
+        final ValidationResponse css = new DefaultValidationResponse(
+            true, URI.create("http://localhost/css"), "",
+            StandardCharsets.UTF_8
+        );
+        try (FileResponseCache cache = new FileResponseCache(dir, "")) {
+            cache.save("html", FileResponseCacheTest.response());
+            cache.save("css", css);
+        }
+        try (FileResponseCache cache = new FileResponseCache(dir, "")) {
+            MatcherAssert.assertThat(
+                "response of the first server must be found",
+                cache.find("html").get(),
+                Matchers.equalTo(FileResponseCacheTest.response())
+            );
+            MatcherAssert.assertThat(
+                "response of the second server must be found",
+                cache.find("css").get(),
+                Matchers.equalTo(css)
+            );
+        }
+    }
+
+    /**
+     * FileResponseCache can treat truncated records as misses.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void missesTruncatedRecords() throws Exception {
+        final Path dir = this.temp.newFolder().toPath();
+        try (FileResponseCache cache = new FileResponseCache(dir, "")) {
+            for (int idx = 0; idx < 10; ++idx) {
+                cache.save(
+                    String.valueOf(idx), FileResponseCacheTest.response()
+                );
+            }
+        }
+        final Path data = dir.resolve("responses.dat");
+        try (FileChannel channel = FileChannel.open(
+            data, StandardOpenOption.WRITE
+        )) {
+            channel.truncate(Files.size(data) / 2L);
+        }
+        try (FileResponseCache cache = new FileResponseCache(dir, "")) {
+            MatcherAssert.assertThat(
+                "record past the end of the data file must be a miss",
+                cache.find("9").isPresent(),
+                Matchers.is(false)
+            );
+            MatcherAssert.assertThat(
+                "record inside the data file must be found",
+                cache.find("0").isPresent(),
+                Matchers.is(true)
+            );
+        }
+    }
+
+    /**
+     * FileResponseCache can refuse a response bigger than its cap.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void refusesResponsesBiggerThanCap() throws Exception {
+        final Path dir = this.temp.newFolder().toPath();
+        try (FileResponseCache cache = new FileResponseCache(
+            dir, "", 64, 128L
+        )) {
+            cache.save("big", FileResponseCacheTest.response());
+            MatcherAssert.assertThat(
+                "response bigger than the cap must not be stored",
+                cache.find("big").isPresent(),
+                Matchers.is(false)
+            );
+            MatcherAssert.assertThat(
+                "data file must stay empty",
+                Files.size(dir.resolve("responses.dat")),
+                Matchers.equalTo(0L)
+            );
+        }
+    }
+
+    /**
+     * FileResponseCache can keep many responses in a small index.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void keepsManyResponses() throws Exception {
+        final Path dir = this.temp.newFolder().toPath();
+        try (FileResponseCache cache = new FileResponseCache(dir, "", 64)) {
+            for (int idx = 0; idx < 200; ++idx) {
+                cache.save(
+                    String.valueOf(idx), FileResponseCacheTest.response()
+                );
+            }
+            MatcherAssert.assertThat(
+                "last response must be found",
+                cache.find("199").isPresent(),
+                Matchers.is(true)
+            );
+            MatcherAssert.assertThat(
+                "never saved response must not be found",
+                cache.find("200").isPresent(),
+                Matchers.is(false)
+            );
+        }
+    }
+
+    /**
+     * FileResponseCache can reopen its files after close.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void reopensAfterClose() throws Exception {
+        final FileResponseCache cache = new FileResponseCache(
+            this.temp.newFolder().toPath(), ""
+        );
+        cache.save("one", FileResponseCacheTest.response());
+        cache.close();
+        cache.save("two", FileResponseCacheTest.response());
+        try {
+            MatcherAssert.assertThat(
+                "responses must be found after close",
+                cache.find("one").isPresent() && cache.find("two").isPresent(),
+                Matchers.is(true)
+            );
+        } finally {
+            cache.close();
+        }
+    }
+
+    /**
+     * FileResponseCache can start over when the data file is full.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void startsOverWhenFull() throws Exception {
+        final Path dir = this.temp.newFolder().toPath();
+        try (FileResponseCache cache = new FileResponseCache(
+            dir, "", 64, 1024L
+        )) {
+            for (int idx = 0; idx < 100; ++idx) {
+                cache.save("same", FileResponseCacheTest.response());
+            }
+            cache.save("last", FileResponseCacheTest.response());
+            MatcherAssert.assertThat(
+                "data file must not grow over the cap",
+                Files.size(dir.resolve("responses.dat")),
+                Matchers.lessThanOrEqualTo(1024L)
+            );
+            MatcherAssert.assertThat(
+                "last response must be found",
+                cache.find("last").isPresent(),
+                Matchers.is(true)
+            );
+        }
+    }
+
+    /**
+     * FileResponseCache can share its directory with another instance
+     * in the same JVM, used concurrently.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void sharesDirectoryInsideJvm() throws Exception {
+        final Path dir = this.temp.newFolder().toPath();
+        final ValidationResponse response = FileResponseCacheTest.response();
+        final ExecutorService threads = Executors.newFixedThreadPool(8);
+        try (FileResponseCache first = new FileResponseCache(dir, "");
+            FileResponseCache second = new FileResponseCache(dir, "")) {
+            final FileResponseCache[] caches = {first, second};
+            final List<Future<Boolean>> futures = new ArrayList<>(200);
+            for (int idx = 0; idx < 200; ++idx) {
+                final String key = String.valueOf(idx);
+                final FileResponseCache writer = caches[idx % 2];
+                final FileResponseCache reader = caches[(idx + 1) % 2];
+                futures.add(
+                    threads.submit(
+                        () -> {
+                            writer.save(key, response);
+                            return reader.find(key).isPresent();
+                        }
+                    )
+                );
+            }
+            for (final Future<Boolean> future : futures) {
+                MatcherAssert.assertThat(
+                    "response must be saved by one and found by another",
+                    future.get(),
+                    Matchers.is(true)
+                );
+            }
+        } finally {
+            threads.shutdown();
+        }
+    }
+
+    /**
+     * Make a response with defects.
+     * @return The response
+     */
+    private static ValidationResponse response() {
+        final DefaultValidationResponse response =
+            new DefaultValidationResponse(
+                false, URI.create("http://localhost/nu"), "text/html",
+                StandardCharsets.UTF_8
+            );
+        response.addError(new Defect(1, 2, "<p>", "", "", "unclosed"));
+        response.addWarning(
+            new Defect(3, 4, "", "\u00e9t\u00e9", "w1", "warn")
+        );
+        return response;
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link FragmentValidator}.
+ * @since 2.0
+ */
+public final class FragmentValidatorTest {
+
+    /**
+     * FragmentValidator can give defects back to their fragments.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void splitsDefectsByFragments() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        try (FragmentValidator validator = new FragmentValidator(
+            content -> {
+                calls.incrementAndGet();
+                return FragmentValidatorTest.marked(content);
+            },
+            Integer.MAX_VALUE, Duration.ofMinutes(1L)
+        )) {
+            final CompletableFuture<ValidationResponse> first =
+                validator.validateAsync("<p>fine</p>");
+            final CompletableFuture<ValidationResponse> second =
+                validator.validateAsync("<p>\nthis is\n<bad></bad>\n</p>\n");
+            final CompletableFuture<ValidationResponse> third =
+                validator.validateAsync("<bad></bad>");
+            validator.flush();
+            MatcherAssert.assertThat(
+                "first fragment must be valid",
+                first.get(1L, TimeUnit.MINUTES).valid(),
+                Matchers.is(true)
+            );
+            MatcherAssert.assertThat(
+                "second fragment must have an error at its third line",
+                second.get(1L, TimeUnit.MINUTES).errors(),
+                Matchers.contains(new Defect(3, 1, "", "", "", "bad"))
+            );
+            MatcherAssert.assertThat(
+                "third fragment must have an error at its first line",
+                third.get(1L, TimeUnit.MINUTES).errors(),
+                Matchers.contains(new Defect(1, 1, "", "", "", "bad"))
+            );
+        }
+        MatcherAssert.assertThat(
+            "fragments must be sent in one request",
+            calls.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    /**
+     * FragmentValidator can send the batch when it is full.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void sendsFullBatch() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        try (FragmentValidator validator = new FragmentValidator(
+            content -> {
+                calls.incrementAndGet();
+                return FragmentValidatorTest.marked(content);
+            },
+            15, Duration.ofMinutes(1L)
+        )) {
+            validator.validateAsync("<p>one</p>");
+            MatcherAssert.assertThat(
+                "full batch must be sent without waiting",
+                validator.validateAsync("<p>two</p>")
+                    .get(1L, TimeUnit.MINUTES).valid(),
+                Matchers.is(true)
+            );
+        }
+        MatcherAssert.assertThat(
+            "both fragments must be sent in one request",
+            calls.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    /**
+     * FragmentValidator can send the batch when its time window is over.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void sendsBatchAfterTimeWindow() throws Exception {
+        try (FragmentValidator validator = new FragmentValidator(
+            FragmentValidatorTest::marked,
+            Integer.MAX_VALUE, Duration.ofMillis(10L)
+        )) {
+            MatcherAssert.assertThat(
+                "fragment must be validated after the window",
+                validator.validate("<bad></bad>").errors(),
+                Matchers.hasSize(1)
+            );
+        }
+    }
+
+    /**
+     * FragmentValidator can validate a fragment with an unclosed element
+     * alone, so its defects don't go to other fragments.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void validatesUnclosedFragmentAlone() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        try (FragmentValidator validator = new FragmentValidator(
+            content -> {
+                calls.incrementAndGet();
+                return FragmentValidatorTest.unclosed(content);
+            },
+            Integer.MAX_VALUE, Duration.ofMinutes(1L)
+        )) {
+            final CompletableFuture<ValidationResponse> first =
+                validator.validateAsync("<div>");
+            final CompletableFuture<ValidationResponse> second =
+                validator.validateAsync("<p>fine</p>");
+            validator.flush();
+            MatcherAssert.assertThat(
+                "unclosed fragment must not be valid",
+                first.get(1L, TimeUnit.MINUTES).valid(),
+                Matchers.is(false)
+            );
+            MatcherAssert.assertThat(
+                "fragment after the unclosed one must be valid",
+                second.get(1L, TimeUnit.MINUTES).valid(),
+                Matchers.is(true)
+            );
+        }
+        MatcherAssert.assertThat(
+            "unclosed fragment must be sent in its own request",
+            calls.get(),
+            Matchers.equalTo(2)
+        );
+    }
+
+    /**
+     * FragmentValidator can fail all fragments of a failed batch.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void failsAllFragmentsOfBatch() throws Exception {
+        try (FragmentValidator validator = new FragmentValidator(
+            content -> {
+                throw new IOException("server is down");
+            },
+            Integer.MAX_VALUE, Duration.ofMinutes(1L)
+        )) {
+            final CompletableFuture<ValidationResponse> first =
+                validator.validateAsync("<p>a</p>");
+            final CompletableFuture<ValidationResponse> second =
+                validator.validateAsync("<p>b</p>");
+            validator.flush();
+            CompletableFuture.allOf(first, second)
+                .handle((none, error) -> error)
+                .get(1L, TimeUnit.MINUTES);
+            MatcherAssert.assertThat(
+                "first fragment must fail",
+                first.isCompletedExceptionally(),
+                Matchers.is(true)
+            );
+            MatcherAssert.assertThat(
+                "second fragment must fail",
+                second.isCompletedExceptionally(),
+                Matchers.is(true)
+            );
+        }
+    }
+
+    /**
+     * FragmentValidator can fail all fragments of the batch, when
+     * the validator throws an error.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void failsFragmentsOnError() throws Exception {
+        try (FragmentValidator validator = new FragmentValidator(
+            content -> {
+                throw new AssertionError(content);
+            },
+            Integer.MAX_VALUE, Duration.ofMinutes(1L)
+        )) {
+            final CompletableFuture<ValidationResponse> future =
+                validator.validateAsync("<p>broken</p>");
+            validator.flush();
+            try {
+                future.get(1L, TimeUnit.MINUTES);
+            } catch (final ExecutionException ex) {
+                MatcherAssert.assertThat(
+                    "error must be reported",
+                    ex.getCause(),
+                    Matchers.instanceOf(AssertionError.class)
+                );
+            }
+            MatcherAssert.assertThat(
+                "fragment must fail",
+                future.isCompletedExceptionally(),
+                Matchers.is(true)
+            );
+        }
+    }
+
+    /**
+     * FragmentValidator can refuse fragments after it is closed.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test(expected = IOException.class)
+    public void refusesFragmentsAfterClose() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final FragmentValidator validator = new FragmentValidator(
+            content -> {
+                calls.incrementAndGet();
+                return FragmentValidatorTest.marked(content);
+            },
+            Integer.MAX_VALUE, Duration.ofMinutes(1L)
+        );
+        validator.close();
+        MatcherAssert.assertThat(
+            "closed validator must fail the fragment at once",
+            validator.validateAsync("<p>late</p>").isCompletedExceptionally(),
+            Matchers.is(true)
+        );
+        try {
+            validator.validate("<p>late</p>");
+        } finally {
+            MatcherAssert.assertThat(
+                "closed validator must not send fragments",
+                calls.get(),
+                Matchers.equalTo(0)
+            );
+        }
+    }
+
+    /**
+     * Response with an error at every line, which has a bad tag.
+     * @param html The document
+     * @return Response
+     */
+    private static ValidationResponse marked(final String html) {
+        final ResponseBuilder builder = new ResponseBuilder();
+        final String[] lines = html.split("\n", -1);
+        for (int idx = 0; idx < lines.length; ++idx) {
+            if (lines[idx].contains("<bad>")) {
+                builder.error(new Defect(idx + 1, 1, "", "", "", "bad"));
+            }
+        }
+        return builder.build(
+            builder.clean(), URI.create("http://localhost/"),
+            "HTML5", StandardCharsets.UTF_8
+        );
+    }
+
+    /**
+     * Response with an error at {@code </body>}, if the document has
+     * an unclosed {@code <div>}, like Nu reports it.
+     * @param html The document
+     * @return Response
+     */
+    private static ValidationResponse unclosed(final String html) {
+        final ResponseBuilder builder = new ResponseBuilder();
+        final String[] lines = html.split("\n", -1);
+        for (int idx = 0; idx < lines.length; ++idx) {
+            if ("</body>".equals(lines[idx])
+                && html.split("<div>", -1).length
+                > html.split("</div>", -1).length) {
+                builder.error(
+                    new Defect(idx + 1, 1, "", "", "", "unclosed div")
+                );
+            }
+        }
+        return builder.build(
+            builder.clean(), URI.create("http://localhost/"),
+            "HTML5", StandardCharsets.UTF_8
+        );
+    }
+}
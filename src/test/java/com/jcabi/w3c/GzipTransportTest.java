@@ -0,0 +1,148 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.zip.GZIPInputStream;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link GzipTransport}.
+ * @since 2.0
+ */
+public final class GzipTransportTest {
+
+    /**
+     * GzipTransport can compress large bodies.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void compressesLargeBodies() throws Exception {
+        final FakeTransport fake = new FakeTransport();
+        final GzipTransport transport = new GzipTransport(fake, 1024);
+        final String html = StringUtils.repeat("<p>hello, world!</p>", 500);
+        transport.post(
+            URI.create("http://localhost/"),
+            Collections.singletonMap("Content-Type", "text/html"),
+            html.getBytes(StandardCharsets.UTF_8)
+        ).close();
+        MatcherAssert.assertThat(
+            "Content encoding must be set",
+            fake.headers(),
+            Matchers.allOf(
+                Matchers.hasEntry("Content-Encoding", "gzip"),
+                Matchers.hasEntry("Content-Type", "text/html")
+            )
+        );
+        MatcherAssert.assertThat(
+            "Body must be compressed",
+            IOUtils.toString(
+                new GZIPInputStream(new ByteArrayInputStream(fake.body())),
+                StandardCharsets.UTF_8
+            ),
+            Matchers.equalTo(html)
+        );
+        MatcherAssert.assertThat(
+            "Ratio must be reported",
+            transport.ratio(),
+            Matchers.lessThan(0.1d)
+        );
+    }
+
+    /**
+     * GzipTransport can send small bodies as they are.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void sendsSmallBodiesAsTheyAre() throws Exception {
+        final FakeTransport fake = new FakeTransport();
+        final GzipTransport transport = new GzipTransport(fake, 1024);
+        final byte[] body = "<p>hi</p>".getBytes(StandardCharsets.UTF_8);
+        transport.post(
+            URI.create("http://localhost/"), Collections.emptyMap(), body
+        ).close();
+        MatcherAssert.assertThat(
+            "Content encoding must not be set",
+            fake.headers(),
+            Matchers.not(Matchers.hasKey("Content-Encoding"))
+        );
+        MatcherAssert.assertThat(
+            "Body must not be changed",
+            fake.body(),
+            Matchers.equalTo(body)
+        );
+        MatcherAssert.assertThat(
+            "Ratio must be one",
+            transport.ratio(),
+            Matchers.equalTo(1.0d)
+        );
+    }
+
+    /**
+     * GzipTransport can compress large streamed bodies.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void compressesLargeStreamedBodies() throws Exception {
+        final FakeTransport fake = new FakeTransport();
+        final GzipTransport transport = new GzipTransport(fake, 1024);
+        final String html = StringUtils.repeat("<p>streamed text</p>", 5000);
+        transport.post(
+            URI.create("http://localhost/"),
+            Collections.singletonMap("Content-Type", "text/html"),
+            new ByteArrayInputStream(html.getBytes(StandardCharsets.UTF_8))
+        ).close();
+        MatcherAssert.assertThat(
+            "Content encoding must be set",
+            fake.headers(),
+            Matchers.hasEntry("Content-Encoding", "gzip")
+        );
+        MatcherAssert.assertThat(
+            "Streamed body must be compressed",
+            IOUtils.toString(
+                new GZIPInputStream(new ByteArrayInputStream(fake.body())),
+                StandardCharsets.UTF_8
+            ),
+            Matchers.equalTo(html)
+        );
+        MatcherAssert.assertThat(
+            "Ratio of streamed body must be reported",
+            transport.ratio(),
+            Matchers.lessThan(0.1d)
+        );
+    }
+
+    /**
+     * GzipTransport can send small streamed bodies as they are.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void sendsSmallStreamedBodiesAsTheyAre() throws Exception {
+        final FakeTransport fake = new FakeTransport();
+        final GzipTransport transport = new GzipTransport(fake, 1024);
+        final byte[] body = "<p>hi</p>".getBytes(StandardCharsets.UTF_8);
+        transport.post(
+            URI.create("http://localhost/"), Collections.emptyMap(),
+            new ByteArrayInputStream(body)
+        ).close();
+        MatcherAssert.assertThat(
+            "Content encoding must not be set for a small stream",
+            fake.headers(),
+            Matchers.not(Matchers.hasKey("Content-Encoding"))
+        );
+        MatcherAssert.assertThat(
+            "Small streamed body must not be changed",
+            fake.body(),
+            Matchers.equalTo(body)
+        );
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.lang3.StringUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link HedgedValidator}.
+ * @since 2.0
+ */
+public final class HedgedValidatorTest {
+
+    /**
+     * HedgedValidator can send a document to the second validator,
+     * when the first one is late, and cancel the first one.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void hedgesLateValidation() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch cancelled = new CountDownLatch(1);
+        try (HedgedValidator validator = new HedgedValidator(
+            content -> {
+                if (calls.incrementAndGet() > 20) {
+                    try {
+                        TimeUnit.MINUTES.sleep(1L);
+                    } catch (final InterruptedException ex) {
+                        cancelled.countDown();
+                        throw new InterruptedIOException();
+                    }
+                }
+                return HedgedValidatorTest.response("first");
+            },
+            content -> HedgedValidatorTest.response("second")
+        )) {
+            for (int idx = 0; idx < 20; ++idx) {
+                validator.validate("<p>warm up</p>");
+            }
+            MatcherAssert.assertThat(
+                "Second validator must answer",
+                validator.validate("<p>late</p>").doctype(),
+                Matchers.equalTo("second")
+            );
+            MatcherAssert.assertThat(
+                "First validator must be cancelled",
+                cancelled.await(1L, TimeUnit.MINUTES),
+                Matchers.is(true)
+            );
+            MatcherAssert.assertThat(
+                "One document must be hedged",
+                validator.hedged(),
+                Matchers.equalTo(1L)
+            );
+        }
+    }
+
+    /**
+     * HedgedValidator can ask the second validator at once,
+     * when the first one fails.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void asksSecondWhenFirstFails() throws Exception {
+        try (HedgedValidator validator = new HedgedValidator(
+            content -> {
+                throw new IOException("connection refused");
+            },
+            content -> HedgedValidatorTest.response("second")
+        )) {
+            MatcherAssert.assertThat(
+                "Second validator must answer",
+                validator.validate("body { }").doctype(),
+                Matchers.equalTo("second")
+            );
+        }
+    }
+
+    /**
+     * HedgedValidator can rethrow an error of a validator as is.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test(expected = LinkageError.class)
+    public void rethrowsErrors() throws Exception {
+        try (HedgedValidator validator = new HedgedValidator(
+            content -> {
+                throw new LinkageError("first is broken");
+            },
+            content -> {
+                throw new LinkageError("second is broken");
+            }
+        )) {
+            validator.validate("<p>broken</p>");
+        }
+    }
+
+    /**
+     * HedgedValidator can give up when the deadline is missed.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test(expected = InterruptedIOException.class)
+    public void givesUpWhenDeadlineIsMissed() throws Exception {
+        try (HedgedValidator validator = new HedgedValidator(
+            content -> HedgedValidatorTest.slow(),
+            content -> HedgedValidatorTest.slow()
+        )) {
+            new DeadlineValidator(validator, Duration.ofMillis(50L))
+                .validate("<p>hi</p>");
+        }
+    }
+
+    /**
+     * HedgedValidator can cancel the late validation without shrinking
+     * the limit of its endpoint in {@link LimitedTransport}.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void keepsLimitOfCancelledEndpoint() throws Exception {
+        final AtomicBoolean stall = new AtomicBoolean();
+        final CountDownLatch cancelled = new CountDownLatch(5);
+        final LimitedTransport transport = new LimitedTransport(
+            new HedgedValidatorTest.Stalling(stall), 4, 4
+        );
+        final Validator late = new ValidatorBuilder().html(
+            URI.create("http://first/"), transport
+        );
+        try (HedgedValidator validator = new HedgedValidator(
+            content -> {
+                try {
+                    return late.validate(content);
+                } finally {
+                    if (stall.get()) {
+                        cancelled.countDown();
+                    }
+                }
+            },
+            new ValidatorBuilder().html(URI.create("http://second/"), transport)
+        )) {
+            for (int idx = 0; idx < 20; ++idx) {
+                validator.validate("<p>warm up</p>");
+            }
+            stall.set(true);
+            for (int idx = 0; idx < 5; ++idx) {
+                validator.validate("<p>late</p>");
+            }
+            MatcherAssert.assertThat(
+                "Late validations must be cancelled",
+                cancelled.await(1L, TimeUnit.MINUTES),
+                Matchers.is(true)
+            );
+            MatcherAssert.assertThat(
+                "Documents must be hedged",
+                validator.hedged(),
+                Matchers.equalTo(5L)
+            );
+        }
+        MatcherAssert.assertThat(
+            "Limit of the late endpoint must not shrink",
+            transport.limits(),
+            Matchers.hasEntry(URI.create("http://first/"), 4)
+        );
+    }
+
+    /**
+     * Make a response.
+     * @param name Name to put into doctype
+     * @return The response
+     */
+    private static ValidationResponse response(final String name) {
+        return new DefaultValidationResponse(
+            true, URI.create("http://localhost/"), name, StandardCharsets.UTF_8
+        );
+    }
+
+    /**
+     * Answer in a minute.
+     * @return The response
+     * @throws IOException If interrupted
+     */
+    private static ValidationResponse slow() throws IOException {
+        try {
+            TimeUnit.MINUTES.sleep(1L);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+        return HedgedValidatorTest.response("slow");
+    }
+
+    /**
+     * Transport, which answers with a valid response, but stalls
+     * requests to the host "first" when asked to, until interrupted.
+     *
+     * @since 2.0
+     */
+    private static final class Stalling implements Transport {
+
+        /**
+         * The transport to answer through.
+         */
+        private final transient Transport origin;
+
+        /**
+         * Stall or not.
+         */
+        private final transient AtomicBoolean stall;
+
+        /**
+         * Ctor.
+         * @param flag Stall or not
+         */
+        Stalling(final AtomicBoolean flag) {
+            this.origin = new FakeTransport(
+                200,
+                StringUtils.join(
+                    "<messages xmlns='http://n.validator.nu/messages/'>",
+                    "<source encoding='UTF-8' type='text/html'>x</source>",
+                    "</messages>"
+                ).getBytes(StandardCharsets.UTF_8)
+            );
+            this.stall = flag;
+        }
+
+        @Override
+        public Reply post(final URI uri, final Map<String, String> headers,
+            final byte[] body) throws IOException {
+            if (this.stall.get() && "first".equals(uri.getHost())) {
+                try {
+                    TimeUnit.MINUTES.sleep(1L);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException();
+                }
+            }
+            return this.origin.post(uri, headers, body);
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+    }
+}
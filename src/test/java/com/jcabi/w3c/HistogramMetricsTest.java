@@ -0,0 +1,110 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.IOUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link HistogramMetrics}.
+ * @since 2.0
+ */
+public final class HistogramMetricsTest {
+
+    /**
+     * HistogramMetrics can measure validations.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void measuresValidations() throws Exception {
+        final byte[] xml = IOUtils.toByteArray(
+            this.getClass().getResourceAsStream("invalid-html-response.xml")
+        );
+        final HistogramMetrics metrics = new HistogramMetrics();
+        final URI uri = URI.create("http://localhost/");
+        final ValidationResponse response = new ValidatorBuilder().html(
+            uri, new FakeTransport(HttpURLConnection.HTTP_OK, xml), metrics
+        ).validate("<p>hello");
+        MatcherAssert.assertThat(
+            "All phases must be measured",
+            metrics.count(Metrics.Phase.PARSE),
+            Matchers.equalTo(1L)
+        );
+        MatcherAssert.assertThat(
+            "Bytes must be counted",
+            metrics.responseBytes(),
+            Matchers.equalTo((long) xml.length)
+        );
+        MatcherAssert.assertThat(
+            "Defects must be counted",
+            metrics.errors(),
+            Matchers.equalTo((long) response.errors().size())
+        );
+        MatcherAssert.assertThat(
+            "Status must be counted",
+            metrics.statuses(),
+            Matchers.hasEntry(HttpURLConnection.HTTP_OK, 1L)
+        );
+    }
+
+    /**
+     * HistogramMetrics can count failures.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void countsFailures() throws Exception {
+        final HistogramMetrics metrics = new HistogramMetrics();
+        try {
+            new ValidatorBuilder().css(
+                URI.create("http://localhost/"),
+                new FakeTransport(
+                    HttpURLConnection.HTTP_UNAVAILABLE, new byte[0]
+                ),
+                metrics
+            ).validate("p { color: red; }");
+        } catch (final IOException ex) {
+            MatcherAssert.assertThat(
+                "Failure must be reported",
+                ex.getMessage(),
+                Matchers.containsString("503")
+            );
+        }
+        MatcherAssert.assertThat(
+            "Failure must be counted",
+            metrics.failures(),
+            Matchers.hasEntry("StatusException", 1L)
+        );
+    }
+
+    /**
+     * HistogramMetrics can estimate percentiles.
+     */
+    @Test
+    public void estimatesPercentiles() {
+        final HistogramMetrics metrics = new HistogramMetrics();
+        for (int idx = 0; idx < 99; ++idx) {
+            metrics.latency(
+                Metrics.Phase.FETCH, TimeUnit.MILLISECONDS.toNanos(3L)
+            );
+        }
+        metrics.latency(Metrics.Phase.FETCH, TimeUnit.SECONDS.toNanos(3L));
+        MatcherAssert.assertThat(
+            "Median must be in the 5ms bucket",
+            metrics.percentile(Metrics.Phase.FETCH, 0.5d),
+            Matchers.equalTo(TimeUnit.MILLISECONDS.toNanos(5L))
+        );
+        MatcherAssert.assertThat(
+            "Maximum must be in the 5s bucket",
+            metrics.percentile(Metrics.Phase.FETCH, 1.0d),
+            Matchers.equalTo(TimeUnit.SECONDS.toNanos(5L))
+        );
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link LimitedTransport}.
+ * @since 2.0
+ */
+public final class LimitedTransportTest {
+
+    /**
+     * LimitedTransport can halve the limit when the server is overloaded.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void halvesLimitOnOverload() throws Exception {
+        final HistogramMetrics metrics = new HistogramMetrics();
+        final LimitedTransport transport = new LimitedTransport(
+            new FakeTransport(503, new byte[0]), 8, 16, 0.0d, metrics
+        );
+        transport.post(
+            URI.create("http://localhost/check?out=xml"),
+            Collections.emptyMap(), new byte[0]
+        ).close();
+        MatcherAssert.assertThat(
+            "Limit must be halved",
+            transport.limits(),
+            Matchers.hasEntry(URI.create("http://localhost/"), 4)
+        );
+        MatcherAssert.assertThat(
+            "Limit must be reported",
+            metrics.concurrency(),
+            Matchers.hasEntry("http://localhost/", 4)
+        );
+    }
+
+    /**
+     * LimitedTransport can halve the limit when the connection fails.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void halvesLimitOnFailure() throws Exception {
+        final LimitedTransport transport = new LimitedTransport(
+            new LimitedTransportTest.Failing(new IOException("refused")),
+            8, 16
+        );
+        try {
+            transport.post(
+                URI.create("http://localhost/"),
+                Collections.emptyMap(), new byte[0]
+            );
+        } catch (final IOException ex) {
+            // expected
+        }
+        MatcherAssert.assertThat(
+            "Limit must be halved",
+            transport.limits(),
+            Matchers.hasEntry(URI.create("http://localhost/"), 4)
+        );
+    }
+
+    /**
+     * LimitedTransport can keep the limit when the request is cancelled.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void keepsLimitOnCancel() throws Exception {
+        final LimitedTransport transport = new LimitedTransport(
+            new LimitedTransportTest.Failing(
+                new InterruptedIOException("cancelled")
+            ),
+            8, 16
+        );
+        for (int idx = 0; idx < 10; ++idx) {
+            try {
+                transport.post(
+                    URI.create("http://localhost/"),
+                    Collections.emptyMap(), new byte[0]
+                );
+            } catch (final InterruptedIOException ex) {
+                // expected
+            }
+        }
+        MatcherAssert.assertThat(
+            "Limit must not change and the slots must be free",
+            transport.limits(),
+            Matchers.hasEntry(URI.create("http://localhost/"), 8)
+        );
+    }
+
+    /**
+     * LimitedTransport can grow the limit while the server copes.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void growsLimitWhileServerCopes() throws Exception {
+        final LimitedTransport transport = new LimitedTransport(
+            new FakeTransport(), 2, 3
+        );
+        for (int idx = 0; idx < 10; ++idx) {
+            transport.post(
+                URI.create("http://localhost:8080/"),
+                Collections.emptyMap(), new byte[0]
+            ).close();
+        }
+        MatcherAssert.assertThat(
+            "Limit must grow up to the maximum",
+            transport.limits(),
+            Matchers.hasEntry(URI.create("http://localhost:8080/"), 3)
+        );
+    }
+
+    /**
+     * LimitedTransport can queue requests over the limit.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void queuesRequestsOverLimit() throws Exception {
+        final AtomicInteger inflight = new AtomicInteger();
+        final AtomicInteger peak = new AtomicInteger();
+        final FakeTransport fake = new FakeTransport();
+        final LimitedTransport transport = new LimitedTransport(
+            new Transport() {
+                @Override
+                public Reply post(final URI uri,
+                    final Map<String, String> headers, final byte[] body)
+                    throws IOException {
+                    peak.accumulateAndGet(
+                        inflight.incrementAndGet(), Math::max
+                    );
+                    try {
+                        TimeUnit.MILLISECONDS.sleep(1L);
+                    } catch (final InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        throw new IOException(ex);
+                    }
+                    inflight.decrementAndGet();
+                    return fake.post(uri, headers, body);
+                }
+
+                @Override
+                public void close() {
+                    // nothing to close
+                }
+            },
+            1, 1
+        );
+        final ExecutorService service = Executors.newFixedThreadPool(8);
+        try {
+            final Collection<Callable<Integer>> tasks = new ArrayList<>(32);
+            for (int idx = 0; idx < 32; ++idx) {
+                tasks.add(
+                    () -> transport.post(
+                        URI.create("http://localhost/"),
+                        Collections.emptyMap(), new byte[0]
+                    ).status()
+                );
+            }
+            for (final Future<Integer> future : service.invokeAll(tasks)) {
+                MatcherAssert.assertThat(
+                    "Every request must succeed",
+                    future.get(),
+                    Matchers.equalTo(200)
+                );
+            }
+        } finally {
+            service.shutdown();
+        }
+        MatcherAssert.assertThat(
+            "Only one request may be in flight",
+            peak.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    /**
+     * LimitedTransport can cap the rate of requests.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void capsRateOfRequests() throws Exception {
+        final LimitedTransport transport = new LimitedTransport(
+            new FakeTransport(), 4, 4, 20.0d, new HistogramMetrics()
+        );
+        final long start = System.nanoTime();
+        for (int idx = 0; idx < 25; ++idx) {
+            transport.post(
+                URI.create("http://localhost/"),
+                Collections.emptyMap(), new byte[0]
+            ).close();
+        }
+        MatcherAssert.assertThat(
+            "Requests over the burst must wait",
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+            Matchers.greaterThanOrEqualTo(200L)
+        );
+    }
+
+    /**
+     * Transport, which always fails.
+     *
+     * @since 2.0
+     */
+    private static final class Failing implements Transport {
+
+        /**
+         * What to throw.
+         */
+        private final transient IOException error;
+
+        /**
+         * Ctor.
+         * @param err What to throw
+         */
+        Failing(final IOException err) {
+            this.error = err;
+        }
+
+        @Override
+        public Reply post(final URI uri, final Map<String, String> headers,
+            final byte[] body) throws IOException {
+            throw this.error;
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+    }
+}
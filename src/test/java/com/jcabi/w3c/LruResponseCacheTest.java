@@ -0,0 +1,103 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link LruResponseCache}.
+ * @since 2.0
+ */
+public final class LruResponseCacheTest {
+
+    /**
+     * LruResponseCache can evict least recently used entries.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void evictsLeastRecentlyUsed() throws Exception {
+        final LruResponseCache cache = new LruResponseCache(2L);
+        cache.save("first", LruResponseCacheTest.response(0));
+        cache.save("second", LruResponseCacheTest.response(0));
+        cache.find("first");
+        cache.save("third", LruResponseCacheTest.response(0));
+        MatcherAssert.assertThat(
+            "least recently used entry must be evicted",
+            cache.find("second").isPresent(),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            "recently used entry must stay",
+            cache.find("first").isPresent(),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "eviction must be counted",
+            cache.evictions(),
+            Matchers.is(1L)
+        );
+    }
+
+    /**
+     * LruResponseCache can weigh entries by the number of defects.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void weighsEntriesByDefects() throws Exception {
+        final LruResponseCache cache = new LruResponseCache(5L);
+        cache.save("small", LruResponseCacheTest.response(1));
+        cache.save("large", LruResponseCacheTest.response(3));
+        MatcherAssert.assertThat(
+            "heavy entry must push out the light one",
+            cache.size(),
+            Matchers.is(1)
+        );
+        cache.save("huge", LruResponseCacheTest.response(10));
+        MatcherAssert.assertThat(
+            "entry heavier than the capacity must not be stored",
+            cache.find("huge").isPresent(),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * LruResponseCache can count hits and misses.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void countsHitsAndMisses() throws Exception {
+        final LruResponseCache cache = new LruResponseCache(10L);
+        cache.save("key", LruResponseCacheTest.response(0));
+        cache.find("key");
+        cache.find("key");
+        cache.find("absent");
+        MatcherAssert.assertThat(
+            "hits and misses must be counted",
+            cache,
+            Matchers.hasToString(Matchers.containsString("2 hits, 1 misses"))
+        );
+    }
+
+    /**
+     * Make a response with the given number of errors.
+     * @param errors How many errors to add
+     * @return The response
+     */
+    private static ValidationResponse response(final int errors) {
+        final DefaultValidationResponse response =
+            new DefaultValidationResponse(
+                errors == 0, URI.create("http://localhost/"), "",
+                StandardCharsets.UTF_8
+            );
+        for (int line = 0; line < errors; ++line) {
+            response.addError(new Defect(line, 0, "", "", "", "error"));
+        }
+        return response;
+    }
+}
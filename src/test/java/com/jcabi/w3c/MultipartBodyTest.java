@@ -0,0 +1,82 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link MultipartBody}.
+ * @since 2.0
+ */
+public final class MultipartBodyTest {
+
+    /**
+     * MultipartBody can make a form.
+     */
+    @Test
+    public void makesForm() {
+        MatcherAssert.assertThat(
+            "Form must be encoded",
+            new String(
+                new MultipartBody("file", "text/css", "xyz").encode("a { }"),
+                StandardCharsets.UTF_8
+            ),
+            Matchers.equalTo(
+                String.join(
+                    "\r\n",
+                    "--xyz",
+                    "Content-Disposition: form-data; name=\"file\";"
+                        .concat(" filename=\"file\""),
+                    "Content-Type: text/css; charset=UTF-8",
+                    "Content-Transfer-Encoding: binary",
+                    "",
+                    "a { }",
+                    "--xyz",
+                    "Content-Disposition: form-data; name=\"output\"",
+                    "Content-Type: text/plain; charset=ISO-8859-1",
+                    "Content-Transfer-Encoding: 8bit",
+                    "",
+                    "soap12",
+                    "--xyz--",
+                    ""
+                )
+            )
+        );
+    }
+
+    /**
+     * MultipartBody can encode any text in UTF-8.
+     */
+    @Test
+    public void encodesInUtf() {
+        final String text = String.join(
+            "",
+            "a:after { content: '\u00e9\u0416\u20ac\u4e2d",
+            "\ud83d\ude00 \ud83d \ude00 \ud83d' }"
+        );
+        final byte[] body = new MultipartBody("f", "text/css", "b")
+            .encode(text);
+        final byte[] expected = text.getBytes(StandardCharsets.UTF_8);
+        final int start = new String(body, StandardCharsets.ISO_8859_1)
+            .indexOf("\r\n\r\n") + 4;
+        MatcherAssert.assertThat(
+            "Text must be encoded like String.getBytes() does",
+            Arrays.copyOfRange(body, start, start + expected.length),
+            Matchers.equalTo(expected)
+        );
+        MatcherAssert.assertThat(
+            "Body must be of exact size",
+            body.length,
+            Matchers.equalTo(
+                new MultipartBody("f", "text/css", "b").encode("").length
+                    + expected.length
+            )
+        );
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import org.apache.commons.lang3.StringUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link NuJsonParser}.
+ * @since 2.0
+ */
+public final class NuJsonParserTest {
+
+    /**
+     * NuJsonParser can parse errors and warnings.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void parsesErrorsAndWarnings() throws Exception {
+        final ValidationResponse response = new NuJsonParser(
+            URI.create("http://localhost/nu")
+        ).parse(
+            NuJsonParserTest.stream(
+                StringUtils.join(
+                    "{\"url\":\"x\",\"messages\":[",
+                    "{\"type\":\"info\",\"lastLine\":1,\"lastColumn\":22,",
+                    "\"firstColumn\":1,\"subType\":\"warning\",",
+                    "\"message\":\"Consider adding a lang attribute.\",",
+                    "\"extract\":\"<html>\",\"hiliteStart\":0,",
+                    "\"hiliteLength\":6},",
+                    "{\"type\":\"error\",\"lastLine\":3,\"lastColumn\":7,",
+                    "\"message\":\"Stray end tag div.\",",
+                    "\"extract\":\"</div>\",\"nested\":{\"a\":[1,2]}}],",
+                    "\"source\":{\"type\":\"text/html\",",
+                    "\"encoding\":\"utf-8\",\"code\":\"<html>\"},",
+                    "\"language\":\"en\"}"
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            "error must be parsed",
+            response.errors(),
+            Matchers.contains(
+                new Defect(3, 7, "</div>", "", "", "Stray end tag div.")
+            )
+        );
+        MatcherAssert.assertThat(
+            "warning must be parsed",
+            response.warnings(),
+            Matchers.hasSize(1)
+        );
+        MatcherAssert.assertThat(
+            "charset must be parsed",
+            response.charset(),
+            Matchers.equalTo(StandardCharsets.UTF_8)
+        );
+    }
+
+    /**
+     * NuJsonParser can parse a valid document.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void parsesValidDocument() throws Exception {
+        MatcherAssert.assertThat(
+            "document must be valid",
+            new NuJsonParser(URI.create("http://localhost/nu")).parse(
+                NuJsonParserTest.stream("{\"messages\":[]}")
+            ).valid(),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * NuJsonParser can reject a broken response.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test(expected = IOException.class)
+    public void rejectsBrokenResponse() throws Exception {
+        new NuJsonParser(URI.create("http://localhost/nu")).parse(
+            NuJsonParserTest.stream("{\"messages\":[{\"type\":")
+        );
+    }
+
+    /**
+     * Make a stream.
+     * @param json The JSON
+     * @return The stream
+     */
+    private static ByteArrayInputStream stream(final String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import org.apache.commons.lang3.StringUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link NuParser}.
+ * @since 2.0
+ */
+public final class NuParserTest {
+
+    /**
+     * NuParser can parse errors and warnings.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void parsesErrorsAndWarnings() throws Exception {
+        final ValidationResponse response = new NuParser(
+            URI.create("http://localhost/nu")
+        ).parse(
+            NuParserTest.class.getResourceAsStream("invalid-html-response.xml")
+        );
+        MatcherAssert.assertThat(
+            "response must be invalid",
+            response.valid(),
+            Matchers.is(false)
+        );
+        final Defect error = response.errors().iterator().next();
+        MatcherAssert.assertThat(
+            "error must be parsed with its position",
+            error.line() * 100 + error.column(),
+            Matchers.is(122)
+        );
+        MatcherAssert.assertThat(
+            "error must be parsed with full message",
+            error.message(),
+            Matchers.equalTo(
+                StringUtils.join(
+                    "Element head is missing a required instance",
+                    " of child element title."
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            "error must be parsed with source",
+            error.source(),
+            Matchers.equalTo("this is an invalid html")
+        );
+        MatcherAssert.assertThat(
+            "warning must be parsed",
+            response.warnings(),
+            Matchers.hasSize(1)
+        );
+    }
+
+    /**
+     * NuParser can parse DOCTYPE and charset of the source.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void parsesSource() throws Exception {
+        final ValidationResponse response = new NuParser(
+            URI.create("http://localhost/nu")
+        ).parse(
+            NuParserTest.stream(
+                StringUtils.join(
+                    "<messages xmlns='http://n.validator.nu/messages/'>",
+                    "<source encoding='UTF-8' type='text/html'>x</source>",
+                    "</messages>"
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            "response must be valid",
+            response.valid(),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "DOCTYPE must be parsed",
+            response.doctype(),
+            Matchers.equalTo("text/html")
+        );
+        MatcherAssert.assertThat(
+            "charset must be parsed",
+            response.charset(),
+            Matchers.equalTo(StandardCharsets.UTF_8)
+        );
+    }
+
+    /**
+     * NuParser can reject a response without source.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test(expected = IOException.class)
+    public void rejectsBrokenResponse() throws Exception {
+        new NuParser(URI.create("http://localhost/nu")).parse(
+            NuParserTest.stream(
+                "<messages xmlns='http://n.validator.nu/messages/'/>"
+            )
+        );
+    }
+
+    /**
+     * NuParser can read all source lines into the released copy of
+     * the response.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void readsSourcesIntoReleasedCopy() throws Exception {
+        final ValidationResponse response = new NuParser(
+            URI.create("http://localhost/nu")
+        ).parse(
+            NuParserTest.stream(
+                StringUtils.join(
+                    "<messages xmlns='http://n.validator.nu/messages/'>",
+                    "<source encoding='UTF-8' type='text/html'>x</source>",
+                    "<error last-line='1' last-column='2'>",
+                    "<message>a</message>",
+                    "<extract> &lt;p&gt; <m>one</m> </extract></error>",
+                    "<error last-line='3' last-column='4'>",
+                    "<message>b</message><extract>two</extract>",
+                    "<elaboration>c</elaboration></error>",
+                    "</messages>"
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            "source must be read with its children and trimmed",
+            response.errors().iterator().next().source(),
+            Matchers.equalTo("<p> one")
+        );
+        final ValidationResponse released = response.released();
+        MatcherAssert.assertThat(
+            "released copy must be equal to the response",
+            released,
+            Matchers.equalTo(response)
+        );
+        final Iterator<Defect> errors = released.errors().iterator();
+        errors.next();
+        final Defect second = errors.next();
+        MatcherAssert.assertThat(
+            "source, which was not read, must be read into the copy",
+            second.source().concat(second.explanation()),
+            Matchers.equalTo("twoc")
+        );
+    }
+
+    /**
+     * Make a stream.
+     * @param xml The XML
+     * @return The stream
+     */
+    private static ByteArrayInputStream stream(final String xml) {
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+}
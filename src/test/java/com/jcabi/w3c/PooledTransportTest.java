@@ -0,0 +1,168 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import com.jcabi.http.mock.MkAnswer;
+import com.jcabi.http.mock.MkContainer;
+import com.jcabi.http.mock.MkGrizzlyContainer;
+import com.jcabi.http.mock.MkQuery;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import javax.ws.rs.core.HttpHeaders;
+import org.apache.commons.io.IOUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link PooledTransport}.
+ * @since 2.0
+ */
+public final class PooledTransportTest {
+
+    /**
+     * PooledTransport can post a body and read the reply.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void postsBodyAndReadsReply() throws Exception {
+        final MkContainer container = new MkGrizzlyContainer().next(
+            new MkAnswer.Simple(HttpURLConnection.HTTP_ACCEPTED, "pong")
+        ).start();
+        try (Transport transport = new PooledTransport();
+            Reply reply = transport.post(
+                container.home(),
+                Collections.singletonMap("X-Test", "yes"),
+                "ping".getBytes(StandardCharsets.UTF_8)
+            )) {
+            MatcherAssert.assertThat(
+                "Status must be taken from the reply",
+                reply.status(),
+                Matchers.equalTo(HttpURLConnection.HTTP_ACCEPTED)
+            );
+            MatcherAssert.assertThat(
+                "Body must be taken from the reply",
+                IOUtils.toString(reply.body(), StandardCharsets.UTF_8),
+                Matchers.equalTo("pong")
+            );
+        }
+        final MkQuery query = container.take();
+        container.stop();
+        MatcherAssert.assertThat(
+            "Body must be sent",
+            query.body(),
+            Matchers.equalTo("ping")
+        );
+        MatcherAssert.assertThat(
+            "Headers must be sent",
+            query.headers(),
+            Matchers.hasKey("X-Test")
+        );
+    }
+
+    /**
+     * PooledTransport can stream a body.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void streamsBody() throws Exception {
+        final MkContainer container = new MkGrizzlyContainer().next(
+            new MkAnswer.Simple("done")
+        ).start();
+        final byte[] body = new byte[1 << 20];
+        Arrays.fill(body, (byte) 'x');
+        try (Transport transport = new PooledTransport();
+            Reply reply = transport.post(
+                container.home(), Collections.emptyMap(),
+                new ByteArrayInputStream(body)
+            )) {
+            MatcherAssert.assertThat(
+                "Reply must be received",
+                reply.status(),
+                Matchers.equalTo(HttpURLConnection.HTTP_OK)
+            );
+        }
+        final MkQuery query = container.take();
+        container.stop();
+        MatcherAssert.assertThat(
+            "Entire body must be sent",
+            query.binary().length,
+            Matchers.equalTo(body.length)
+        );
+    }
+
+    /**
+     * PooledTransport can refuse to send a streamed body again after
+     * a redirect, instead of sending it empty.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test(expected = IOException.class)
+    public void refusesToRedirectStreamedBody() throws Exception {
+        final MkContainer container = new MkGrizzlyContainer()
+            .next(
+                new MkAnswer.Simple(307)
+                    .withHeader(HttpHeaders.LOCATION, "/next")
+            )
+            .next(new MkAnswer.Simple("done"))
+            .start();
+        try (Transport transport = new PooledTransport()) {
+            transport.post(
+                container.home(), Collections.emptyMap(),
+                new ByteArrayInputStream(new byte[64])
+            ).close();
+        } finally {
+            container.stop();
+        }
+    }
+
+    /**
+     * PooledTransport can refuse requests after it is closed.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test(expected = IOException.class)
+    public void refusesRequestsAfterClose() throws Exception {
+        final Transport transport = new PooledTransport();
+        transport.close();
+        transport.post(
+            URI.create("http://localhost/"), Collections.emptyMap(),
+            new byte[0]
+        ).close();
+    }
+
+    /**
+     * PooledTransport can be shared by many requests of a validator.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void servesManyRequestsOfValidator() throws Exception {
+        final String xml = IOUtils.toString(
+            this.getClass().getResourceAsStream("invalid-html-response.xml"),
+            StandardCharsets.UTF_8
+        );
+        final MkContainer container = new MkGrizzlyContainer()
+            .next(new MkAnswer.Simple(xml))
+            .next(new MkAnswer.Simple(xml))
+            .start();
+        try (Transport transport = new PooledTransport()) {
+            final URI home = container.home();
+            final Validator validator = new ValidatorBuilder().html(
+                home, transport
+            );
+            validator.validate("<p>first");
+            MatcherAssert.assertThat(
+                "Second response must be parsed",
+                validator.validate("<p>second").valid(),
+                Matchers.is(false)
+            );
+        } finally {
+            container.stop();
+        }
+    }
+}
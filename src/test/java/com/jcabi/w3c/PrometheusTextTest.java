@@ -0,0 +1,85 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.StringUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link PrometheusText}.
+ * @since 2.0
+ */
+public final class PrometheusTextTest {
+
+    /**
+     * PrometheusText can print metrics.
+     */
+    @Test
+    public void printsMetrics() {
+        final HistogramMetrics metrics = new HistogramMetrics();
+        metrics.latency(Metrics.Phase.FETCH, TimeUnit.MILLISECONDS.toNanos(7L));
+        metrics.request(1024L);
+        metrics.status(200);
+        metrics.defects(3, 1);
+        metrics.failure(new IOException("oops"));
+        metrics.limit(URI.create("http://localhost/"), 12);
+        MatcherAssert.assertThat(
+            "Metrics must be printed",
+            new PrometheusText("html", metrics).toString(),
+            Matchers.allOf(
+                Matchers.containsString(
+                    "# TYPE w3c_phase_seconds histogram\n"
+                ),
+                Matchers.containsString(
+                    StringUtils.join(
+                        "w3c_phase_seconds_bucket{validator=\"html\",",
+                        "phase=\"fetch\",le=\"0.01\"} 1\n"
+                    )
+                ),
+                Matchers.containsString(
+                    StringUtils.join(
+                        "w3c_phase_seconds_bucket{validator=\"html\",",
+                        "phase=\"fetch\",le=\"0.005\"} 0\n"
+                    )
+                ),
+                Matchers.containsString(
+                    StringUtils.join(
+                        "w3c_phase_seconds_sum{validator=\"html\",",
+                        "phase=\"fetch\"} 0.007\n"
+                    )
+                ),
+                Matchers.containsString(
+                    "w3c_request_bytes_total{validator=\"html\"} 1024\n"
+                ),
+                Matchers.containsString(
+                    "w3c_defects_total{validator=\"html\",kind=\"error\"} 3\n"
+                ),
+                Matchers.containsString(
+                    StringUtils.join(
+                        "w3c_responses_total{validator=\"html\",",
+                        "status=\"200\"} 1\n"
+                    )
+                ),
+                Matchers.containsString(
+                    StringUtils.join(
+                        "w3c_failures_total{validator=\"html\",",
+                        "type=\"IOException\"} 1\n"
+                    )
+                ),
+                Matchers.containsString(
+                    StringUtils.join(
+                        "w3c_concurrency_limit{validator=\"html\",",
+                        "endpoint=\"http://localhost/\"} 12\n"
+                    )
+                )
+            )
+        );
+    }
+}
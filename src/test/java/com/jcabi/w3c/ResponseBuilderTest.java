@@ -0,0 +1,117 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link ResponseBuilder}.
+ * @since 2.0
+ */
+public final class ResponseBuilderTest {
+
+    /**
+     * ResponseBuilder can drop duplicates and sort defects by line.
+     */
+    @Test
+    public void dropsDuplicatesAndSortsByLine() {
+        final Defect last = new Defect(9, 1, "", "", "", "last");
+        final Defect first = new Defect(2, 5, "", "", "", "first");
+        final Defect second = new Defect(2, 5, "", "", "", "second");
+        final ValidationResponse response = new ResponseBuilder()
+            .error(last)
+            .error(first)
+            .error(new Defect(9, 1, "", "", "", "last"))
+            .error(second)
+            .build(
+                false, URI.create("http://localhost/"), "",
+                StandardCharsets.UTF_8
+            );
+        MatcherAssert.assertThat(
+            "Defects must be unique and sorted by line, stable",
+            response.errors(),
+            Matchers.contains(first, second, last)
+        );
+    }
+
+    /**
+     * ResponseBuilder can build sets equal to other sets.
+     */
+    @Test
+    public void buildsSetsEqualToOtherSets() {
+        final Defect[] defects = {
+            new Defect(3, 1, "<p>", "", "", "unclosed"),
+            new Defect(1, 1, "", "", "w1", "warn"),
+            new Defect(2, 7, "", "", "", "ugly"),
+        };
+        final ResponseBuilder builder = new ResponseBuilder();
+        for (final Defect defect : defects) {
+            builder.warning(defect);
+        }
+        final Set<Defect> frozen = builder.build(
+            true, URI.create("http://localhost/"), "", StandardCharsets.UTF_8
+        ).warnings();
+        final Set<Defect> plain = new HashSet<>(Arrays.asList(defects));
+        MatcherAssert.assertThat(
+            "Frozen set must be equal to plain set",
+            frozen,
+            Matchers.allOf(
+                Matchers.equalTo(plain),
+                Matchers.hasItem(new Defect(2, 7, "", "", "", "ugly")),
+                Matchers.not(
+                    Matchers.hasItem(new Defect(2, 7, "", "", "", "nice"))
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            "Plain set must be equal to frozen set",
+            plain,
+            Matchers.equalTo(frozen)
+        );
+        MatcherAssert.assertThat(
+            "Hash codes must be equal",
+            frozen.hashCode(),
+            Matchers.equalTo(plain.hashCode())
+        );
+    }
+
+    /**
+     * ResponseBuilder can build responses equal to old ones.
+     */
+    @Test
+    public void buildsResponsesEqualToOldOnes() {
+        final Defect defect = new Defect(1, 2, "", "", "", "broken");
+        final DefaultValidationResponse old = new DefaultValidationResponse(
+            false, URI.create("http://localhost/"), "html",
+            StandardCharsets.UTF_8
+        );
+        old.addError(defect);
+        MatcherAssert.assertThat(
+            "Responses must be equal",
+            new ResponseBuilder().error(defect).build(
+                false, URI.create("http://localhost/"), "html",
+                StandardCharsets.UTF_8
+            ),
+            Matchers.equalTo(old)
+        );
+    }
+
+    /**
+     * ResponseBuilder can build immutable sets.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void buildsImmutableSets() {
+        new ResponseBuilder().build(
+            true, URI.create("http://localhost/"), "", StandardCharsets.UTF_8
+        ).errors().add(new Defect(1, 1, "", "", "", "new"));
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.lang3.StringUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link SoapParser}.
+ * @since 2.0
+ */
+public final class SoapParserTest {
+
+    /**
+     * SoapParser can parse errors and warnings.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void parsesErrorsAndWarnings() throws Exception {
+        final ValidationResponse response = new SoapParser().parse(
+            SoapParserTest.stream(
+                StringUtils.join(
+                    "<env:Envelope",
+                    " xmlns:env='http://www.w3.org/2003/05/soap-envelope'>",
+                    "<env:Body><m:cssvalidationresponse",
+                    " xmlns:m='http://www.w3.org/2005/07/css-validator'>",
+                    "<m:checkedby>http://jigsaw.w3.org/css-validator/",
+                    "</m:checkedby><m:validity>false</m:validity>",
+                    "<m:result><m:errors><m:errorlist><m:error>",
+                    "<m:line>3</m:line><m:errortype>parse-error</m:errortype>",
+                    "<m:message> Parse Error </m:message>",
+                    "</m:error></m:errorlist></m:errors>",
+                    "<m:warnings><m:warninglist><m:warning>",
+                    "<m:line>7</m:line><m:level>0</m:level>",
+                    "<m:message>Same color</m:message>",
+                    "</m:warning></m:warninglist></m:warnings></m:result>",
+                    "</m:cssvalidationresponse></env:Body></env:Envelope>"
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            "validator must be parsed",
+            response.checkedBy(),
+            Matchers.equalTo(
+                URI.create("http://jigsaw.w3.org/css-validator/")
+            )
+        );
+        MatcherAssert.assertThat(
+            "error must be parsed",
+            response.errors(),
+            Matchers.contains(new Defect(3, 0, "", "", "", "Parse Error"))
+        );
+        MatcherAssert.assertThat(
+            "warning must be parsed",
+            response.warnings(),
+            Matchers.contains(new Defect(7, 0, "", "", "", "Same color"))
+        );
+    }
+
+    /**
+     * SoapParser can stop parsing when the listener asks to.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void stopsWhenListenerRefuses() throws Exception {
+        final AtomicInteger seen = new AtomicInteger();
+        final ValidationResponse response = new SoapParser().parse(
+            SoapParserTest.stream(
+                StringUtils.join(
+                    "<env:Envelope",
+                    " xmlns:env='http://www.w3.org/2003/05/soap-envelope'>",
+                    "<env:Body><m:cssvalidationresponse",
+                    " xmlns:m='http://www.w3.org/2005/07/css-validator'>",
+                    "<m:checkedby>http://localhost/</m:checkedby>",
+                    "<m:validity>true</m:validity>",
+                    "<m:result><m:errors><m:errorlist>",
+                    "<m:error><m:line>1</m:line><m:message>a</m:message>",
+                    "</m:error>",
+                    "<m:error><m:line>2</m:line><m:message>b</m:message>",
+                    "</m:error>",
+                    "<m:error><m:line>3</m:line><m:message>c</m:message>",
+                    "</m:error></m:errorlist></m:errors></m:result>",
+                    "</m:cssvalidationresponse></env:Body></env:Envelope>"
+                )
+            ),
+            defect -> seen.incrementAndGet() < 2
+        );
+        MatcherAssert.assertThat(
+            "parsing must stop after the second error",
+            response.errors(),
+            Matchers.hasSize(2)
+        );
+        MatcherAssert.assertThat(
+            "listener must see every accepted error",
+            seen.get(),
+            Matchers.equalTo(2)
+        );
+        MatcherAssert.assertThat(
+            "interrupted response must not be valid",
+            response.valid(),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * SoapParser can reject a response without validity.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test(expected = IOException.class)
+    public void rejectsBrokenResponse() throws Exception {
+        new SoapParser().parse(SoapParserTest.stream("<env:Envelope/>"));
+    }
+
+    /**
+     * Make a stream.
+     * @param xml The XML
+     * @return The stream
+     */
+    private static ByteArrayInputStream stream(final String xml) {
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+}
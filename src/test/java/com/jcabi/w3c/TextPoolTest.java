@@ -0,0 +1,79 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import org.apache.commons.lang3.StringUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link TextPool}.
+ * @since 2.0
+ */
+public final class TextPoolTest {
+
+    /**
+     * TextPool can give the same object for equal texts.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void givesSameObjectForEqualTexts() throws Exception {
+        final TextPool pool = new TextPool(4);
+        final String first = pool.intern(
+            String.join(" ", "Stray", "end", "tag")
+        );
+        MatcherAssert.assertThat(
+            "equal text must be the same object",
+            pool.intern(String.join(" ", "Stray", "end", "tag")),
+            Matchers.sameInstance(first)
+        );
+        MatcherAssert.assertThat(
+            "hit must be counted",
+            pool.hits(),
+            Matchers.equalTo(1L)
+        );
+        MatcherAssert.assertThat(
+            "savings must be reported",
+            pool.saved(),
+            Matchers.greaterThan((long) first.length())
+        );
+    }
+
+    /**
+     * TextPool can be used by parsers for messages of defects.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void sharesMessagesOfParsedDefects() throws Exception {
+        final Iterator<Defect> defects = new SoapParser().parse(
+            new ByteArrayInputStream(
+                StringUtils.join(
+                    "<env:Envelope",
+                    " xmlns:env='http://www.w3.org/2003/05/soap-envelope'>",
+                    "<env:Body><m:cssvalidationresponse",
+                    " xmlns:m='http://www.w3.org/2005/07/css-validator'>",
+                    "<m:checkedby>http://localhost/</m:checkedby>",
+                    "<m:validity>false</m:validity>",
+                    "<m:result><m:errors><m:errorlist>",
+                    "<m:error><m:line>1</m:line>",
+                    "<m:message> Parse Error </m:message></m:error>",
+                    "<m:error><m:line>2</m:line>",
+                    "<m:message>Parse Error</m:message></m:error>",
+                    "</m:errorlist></m:errors></m:result>",
+                    "</m:cssvalidationresponse></env:Body></env:Envelope>"
+                ).getBytes(StandardCharsets.UTF_8)
+            )
+        ).errors().iterator();
+        MatcherAssert.assertThat(
+            "messages must be the same object",
+            defects.next().message(),
+            Matchers.sameInstance(defects.next().message())
+        );
+    }
+}
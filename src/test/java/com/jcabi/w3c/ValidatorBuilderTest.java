@@ -0,0 +1,97 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.w3c;
+
+import java.io.IOException;
+import java.io.InputStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link ValidatorBuilder}.
+ * @since 2.0
+ */
+public final class ValidatorBuilderTest {
+
+    /**
+     * ValidatorBuilder can build HTML and CSS validators without JSON-P
+     * in classpath.
+     * @throws Exception If something goes wrong inside
+     */
+    @Test
+    public void buildsValidatorsWithoutJsonProvider() throws Exception {
+        final Class<?> type = new ValidatorBuilderTest.WithoutJson()
+            .loadClass(ValidatorBuilder.class.getName());
+        final Object builder = type.getConstructor().newInstance();
+        MatcherAssert.assertThat(
+            "validators must be built without JSON-P",
+            new Object[] {
+                type.getMethod("html").invoke(builder),
+                type.getMethod("css").invoke(builder),
+            },
+            Matchers.not(Matchers.hasItemInArray(Matchers.nullValue()))
+        );
+    }
+
+    /**
+     * Class loader, which loads classes of this module by itself and
+     * doesn't see JSON-P API and its provider.
+     *
+     * @since 2.0
+     */
+    private static final class WithoutJson extends ClassLoader {
+
+        /**
+         * Ctor.
+         */
+        WithoutJson() {
+            super(ValidatorBuilderTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(final String name, final boolean resolve)
+            throws ClassNotFoundException {
+            synchronized (this.getClassLoadingLock(name)) {
+                Class<?> type = this.findLoadedClass(name);
+                if (type == null) {
+                    if (name.startsWith("jakarta.json.")
+                        || name.startsWith("org.eclipse.parsson.")) {
+                        throw new ClassNotFoundException(name);
+                    }
+                    if (name.startsWith("com.jcabi.w3c.")) {
+                        type = this.own(name);
+                    } else {
+                        type = super.loadClass(name, false);
+                    }
+                }
+                if (resolve) {
+                    this.resolveClass(type);
+                }
+                return type;
+            }
+        }
+
+        /**
+         * Define the class of this module.
+         * @param name Name of the class
+         * @return The class
+         * @throws ClassNotFoundException If not found
+         */
+        private Class<?> own(final String name) throws ClassNotFoundException {
+            try (InputStream input = this.getParent().getResourceAsStream(
+                name.replace('.', '/').concat(".class")
+            )) {
+                if (input == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                final byte[] bytes = input.readAllBytes();
+                return this.defineClass(name, bytes, 0, bytes.length);
+            } catch (final IOException ex) {
+                throw new ClassNotFoundException(name, ex);
+            }
+        }
+    }
+}